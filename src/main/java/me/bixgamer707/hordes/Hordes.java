@@ -1,23 +1,38 @@
 package me.bixgamer707.hordes;
 
 import me.bixgamer707.hordes.arena.ArenaManager;
+import me.bixgamer707.hordes.arena.ReconnectManager;
 import me.bixgamer707.hordes.bossbar.BossBarManager;
+import me.bixgamer707.hordes.commands.CommandBlocker;
 import me.bixgamer707.hordes.commands.HordesAdminCommand;
 import me.bixgamer707.hordes.commands.HordesCommand;
 import me.bixgamer707.hordes.cooldown.CooldownManager;
+import me.bixgamer707.hordes.drops.DropTracker;
+import me.bixgamer707.hordes.file.ConfigWatcher;
 import me.bixgamer707.hordes.file.FileManager;
+import me.bixgamer707.hordes.gui.template.GuiTemplateManager;
 import me.bixgamer707.hordes.gui.GUIListener;
+import me.bixgamer707.hordes.hud.ActionBarManager;
 import me.bixgamer707.hordes.leaderboard.LeaderboardManager;
+import me.bixgamer707.hordes.listeners.ActiveArenaListener;
+import me.bixgamer707.hordes.listeners.DropListener;
 import me.bixgamer707.hordes.listeners.EntityListener;
+import me.bixgamer707.hordes.listeners.ListenerRegistry;
 import me.bixgamer707.hordes.listeners.PlayerListener;
 import me.bixgamer707.hordes.listeners.WorldGuardListener;
+import me.bixgamer707.hordes.loot.LootManager;
 import me.bixgamer707.hordes.mob.MythicMobsIntegration;
 import me.bixgamer707.hordes.mob.VanillaMobHandler;
 import me.bixgamer707.hordes.placeholder.HordesExpansion;
+import me.bixgamer707.hordes.rewards.RewardMailbox;
 import me.bixgamer707.hordes.rewards.RewardManager;
+import me.bixgamer707.hordes.scoreboard.SidebarManager;
+import me.bixgamer707.hordes.skull.SkullCache;
 import me.bixgamer707.hordes.sound.SoundManager;
 import me.bixgamer707.hordes.statistics.StatisticsManager;
 import me.bixgamer707.hordes.utils.ChatInputManager;
+import me.bixgamer707.hordes.wave.ArenaLeash;
+import me.bixgamer707.hordes.wave.MobReconciler;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -42,8 +57,20 @@ public class Hordes extends JavaPlugin {
     private StatisticsManager statisticsManager;
     private LeaderboardManager leaderboardManager;
     private BossBarManager bossBarManager;
+    private SidebarManager sidebarManager;
+    private ActionBarManager actionBarManager;
     private SoundManager soundManager;
     private ChatInputManager chatInputManager;
+    private GuiTemplateManager guiTemplateManager;
+    private SkullCache skullCache;
+    private CommandBlocker commandBlocker;
+    private DropTracker dropTracker;
+    private MobReconciler mobReconciler;
+    private ArenaLeash arenaLeash;
+    private ConfigWatcher configWatcher;
+    private RewardMailbox rewardMailbox;
+    private LootManager lootManager;
+    private ReconnectManager reconnectManager;
     
     // Integrations
     private MythicMobsIntegration mythicMobsIntegration;
@@ -54,10 +81,10 @@ public class Hordes extends JavaPlugin {
     private PlayerListener playerListener;
     private WorldGuardListener worldGuardListener;
     private GUIListener guiListener;
+    private ListenerRegistry listenerRegistry;
     
     // Tasks
     private BukkitRunnable cooldownCleanupTask;
-    private BukkitRunnable itemTrackingCleanupTask;
 
     @Override
     public void onEnable() {
@@ -99,6 +126,16 @@ public class Hordes extends JavaPlugin {
         // Start cleanup tasks
         startCleanupTasks();
         
+        // Start live display updates
+        bossBarManager.start();
+        sidebarManager.start();
+        actionBarManager.start();
+        skullCache.start();
+        commandBlocker.start();
+        mobReconciler.start();
+        arenaLeash.start();
+        configWatcher.start();
+        
         long loadTime = System.currentTimeMillis() - startTime;
         logInfo("Plugin enabled successfully in " + loadTime + "ms!");
         logInfo("========================================");
@@ -113,25 +150,76 @@ public class Hordes extends JavaPlugin {
             cooldownCleanupTask.cancel();
         }
         
-        if (itemTrackingCleanupTask != null) {
-            itemTrackingCleanupTask.cancel();
-        }
-        
         // Shutdown arenas
         if (arenaManager != null) {
             arenaManager.shutdown();
         }
         
+        // Detach arena listeners
+        if (listenerRegistry != null) {
+            listenerRegistry.cleanup();
+        }
+        
+        // Stop mob reconciliation
+        if (mobReconciler != null) {
+            mobReconciler.cleanup();
+        }
+        
+        // Stop leash checks
+        if (arenaLeash != null) {
+            arenaLeash.cleanup();
+        }
+        
+        // Stop reconnect expiry
+        if (reconnectManager != null) {
+            reconnectManager.cleanup();
+        }
+        
+        // Stop watching config files
+        if (configWatcher != null) {
+            configWatcher.cleanup();
+        }
+        
+        // Remove leftover arena drops
+        if (dropTracker != null) {
+            dropTracker.cleanup();
+        }
+        
         // Cleanup boss bars
         if (bossBarManager != null) {
             bossBarManager.cleanup();
         }
         
+        // Cleanup sidebars
+        if (sidebarManager != null) {
+            sidebarManager.cleanup();
+        }
+        
+        // Stop action bar HUD
+        if (actionBarManager != null) {
+            actionBarManager.cleanup();
+        }
+        
+        // Finish queued economy deposits
+        if (rewardManager != null) {
+            rewardManager.cleanup();
+        }
+        
+        // Write and compact the reward mailbox
+        if (rewardMailbox != null) {
+            rewardMailbox.cleanup();
+        }
+        
         // Save statistics
         if (statisticsManager != null) {
             statisticsManager.save();
         }
 
+        // Save skull textures
+        if (skullCache != null) {
+            skullCache.cleanup();
+        }
+
         if (chatInputManager != null) {
             chatInputManager.cleanup();
         }
@@ -164,8 +252,20 @@ public class Hordes extends JavaPlugin {
             statisticsManager = new StatisticsManager(this);
             leaderboardManager = new LeaderboardManager(this);
             bossBarManager = new BossBarManager(this);
+            sidebarManager = new SidebarManager(this);
+            actionBarManager = new ActionBarManager(this);
             soundManager = new SoundManager(this);
             chatInputManager = new ChatInputManager(this);
+            guiTemplateManager = new GuiTemplateManager(this);
+            skullCache = new SkullCache(this);
+            commandBlocker = new CommandBlocker(this);
+            dropTracker = new DropTracker(this);
+            mobReconciler = new MobReconciler(this);
+            arenaLeash = new ArenaLeash(this);
+            configWatcher = new ConfigWatcher(this);
+            rewardMailbox = new RewardMailbox(this);
+            lootManager = new LootManager(this);
+            reconnectManager = new ReconnectManager(this);
             
             // Mob handlers
             mythicMobsIntegration = new MythicMobsIntegration(this);
@@ -210,6 +310,12 @@ public class Hordes extends JavaPlugin {
         // Player listener
         playerListener = new PlayerListener(this);
         pm.registerEvents(playerListener, this);
+        pm.registerEvents(new DropListener(this), this);
+        
+        // Damage, targeting and pickup handlers only run while an arena is in use
+        listenerRegistry = new ListenerRegistry(this);
+        listenerRegistry.addArenaListener(new ActiveArenaListener(this));
+        listenerRegistry.start();
         
         // WorldGuard listener (if available)
         worldGuardListener = new WorldGuardListener(this);
@@ -221,6 +327,15 @@ public class Hordes extends JavaPlugin {
         guiListener = new GUIListener();
         pm.registerEvents(guiListener, this);
         
+        // Pending rewards are delivered on join
+        pm.registerEvents(rewardMailbox, this);
+        
+        // Held arena slots are resumed on join
+        pm.registerEvents(reconnectManager, this);
+        
+        // Pity counters are dropped on quit
+        pm.registerEvents(lootManager, this);
+        
         logInfo("Listeners registered");
     }
 
@@ -257,18 +372,6 @@ public class Hordes extends JavaPlugin {
         
         cooldownCleanupTask.runTaskTimerAsynchronously(this, 6000L, 6000L); // 5 minutes
         
-        // Item tracking cleanup task (runs every minute)
-        itemTrackingCleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (playerListener != null) {
-                    playerListener.cleanupItemTracking();
-                }
-            }
-        };
-        
-        itemTrackingCleanupTask.runTaskTimer(this, 1200L, 1200L); // 1 minute
-        
         logInfo("Cleanup tasks started");
     }
 
@@ -297,9 +400,25 @@ public class Hordes extends JavaPlugin {
         // Reload files
         fileManager.reload();
         
-        // Reload arenas
-        arenaManager.reloadArenas();
+        reloadArenas();
+        reloadSettings();
+        configWatcher.reload();
+        
+        logInfo("Plugin reloaded successfully");
+    }
 
+    /**
+     * Rebuilds arenas whose arenas.yml or mobs.yml section changed
+     */
+    public void reloadArenas() {
+        arenaManager.reloadChangedArenas();
+        listenerRegistry.reload();
+    }
+
+    /**
+     * Refreshes every subsystem that reads config.yml
+     */
+    public void reloadSettings() {
         if (chatInputManager != null) {
             chatInputManager.reload();
         }
@@ -307,8 +426,18 @@ public class Hordes extends JavaPlugin {
         // Reload integrations
         mythicMobsIntegration.reload();
         rewardManager.reload();
-        
-        logInfo("Plugin reloaded successfully");
+        rewardMailbox.reload();
+        lootManager.reload();
+        reconnectManager.reload();
+        bossBarManager.reload();
+        sidebarManager.reload();
+        actionBarManager.reload();
+        soundManager.reload();
+        guiTemplateManager.reload();
+        commandBlocker.reload();
+        mobReconciler.reload();
+        arenaLeash.reload();
+        skullCache.reload();
     }
 
     // Getters
@@ -325,6 +454,10 @@ public class Hordes extends JavaPlugin {
         return arenaManager;
     }
 
+    public ListenerRegistry getListenerRegistry() {
+        return listenerRegistry;
+    }
+
     public CooldownManager getCooldownManager() {
         return cooldownManager;
     }
@@ -353,6 +486,14 @@ public class Hordes extends JavaPlugin {
         return bossBarManager;
     }
 
+    public SidebarManager getSidebarManager() {
+        return sidebarManager;
+    }
+
+    public ActionBarManager getActionBarManager() {
+        return actionBarManager;
+    }
+
     public SoundManager getSoundManager() {
         return soundManager;
     }
@@ -361,6 +502,46 @@ public class Hordes extends JavaPlugin {
         return chatInputManager;
     }
 
+    public GuiTemplateManager getGuiTemplateManager() {
+        return guiTemplateManager;
+    }
+
+    public SkullCache getSkullCache() {
+        return skullCache;
+    }
+
+    public CommandBlocker getCommandBlocker() {
+        return commandBlocker;
+    }
+
+    public DropTracker getDropTracker() {
+        return dropTracker;
+    }
+
+    public MobReconciler getMobReconciler() {
+        return mobReconciler;
+    }
+
+    public ArenaLeash getArenaLeash() {
+        return arenaLeash;
+    }
+
+    public ConfigWatcher getConfigWatcher() {
+        return configWatcher;
+    }
+
+    public RewardMailbox getRewardMailbox() {
+        return rewardMailbox;
+    }
+
+    public LootManager getLootManager() {
+        return lootManager;
+    }
+
+    public ReconnectManager getReconnectManager() {
+        return reconnectManager;
+    }
+
     // Utility methods
     
     public void logInfo(String message) {
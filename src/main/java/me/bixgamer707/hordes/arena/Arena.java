@@ -1,15 +1,22 @@
 package me.bixgamer707.hordes.arena;
 
 import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.region.ArenaRegion;
+import me.bixgamer707.hordes.arena.region.RegionShape;
+import me.bixgamer707.hordes.combat.DamageLedger;
 import me.bixgamer707.hordes.config.*;
 import me.bixgamer707.hordes.player.HordePlayer;
 import me.bixgamer707.hordes.player.PlayerState;
+import me.bixgamer707.hordes.sound.SoundEvent;
 import me.bixgamer707.hordes.statistics.PlayerStatistics;
 import me.bixgamer707.hordes.wave.Wave;
+import me.bixgamer707.hordes.wave.WaveConfig;
 import me.bixgamer707.hordes.wave.WaveManager;
 import me.bixgamer707.hordes.text.Text;
+import me.bixgamer707.hordes.text.TextHandler;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -26,6 +33,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class Arena {
 
+    // Delay before a RESPAWN death puts the player back in the arena
+    private static final long RESPAWN_DELAY_TICKS = 60L;
+
     private final String id;
     private final ArenaConfig config;
     private final Hordes plugin;
@@ -35,15 +45,22 @@ public class Arena {
     
     // Player management (thread-safe)
     private final Map<UUID, HordePlayer> players;
+    private final Collection<HordePlayer> playerView;
     private final Set<UUID> alivePlayers;
     private final Set<UUID> deadPlayers;
     
+    // Online alive players, rebuilt on membership change (copy-on-write)
+    private volatile Player[] audience;
+    
     // Wave management
     private final WaveManager waveManager;
     private Wave currentWave;
     private int currentWaveNumber;
     private boolean waitingForManualProgression;
     
+    // Time the next wave (or the arena) starts, 0 = not scheduled
+    private volatile long nextWaveAt;
+    
     // Scheduled tasks
     private BukkitTask countdownTask;
     private BukkitTask waveDelayTask;
@@ -51,8 +68,18 @@ public class Arena {
     // Performance tracking
     private long startTime;
     private long lastWaveStartTime;
+    
+    // Damage dealt to mobs this run
+    private final DamageLedger damageLedger;
 
     public Arena(String id, ArenaConfig config, Hordes plugin) {
+        this(id, config, null, plugin);
+    }
+
+    /**
+     * @param parsedWaves Waves from WaveManager.parseWaves, or null to parse them now
+     */
+    public Arena(String id, ArenaConfig config, Map<Integer, WaveConfig> parsedWaves, Hordes plugin) {
         this.id = id;
         this.config = config;
         this.plugin = plugin;
@@ -60,12 +87,15 @@ public class Arena {
         
         // Use concurrent collections for thread-safety
         this.players = new ConcurrentHashMap<>();
+        this.playerView = Collections.unmodifiableCollection(players.values());
         this.alivePlayers = ConcurrentHashMap.newKeySet();
         this.deadPlayers = ConcurrentHashMap.newKeySet();
+        this.audience = new Player[0];
         
-        this.waveManager = new WaveManager(this, config);
+        this.waveManager = new WaveManager(this, config, parsedWaves);
         this.currentWaveNumber = 0;
         this.waitingForManualProgression = false;
+        this.damageLedger = new DamageLedger(config.getMaxPlayers(), getAssistThreshold());
     }
 
     /**
@@ -100,6 +130,8 @@ public class Arena {
         // Add to tracking collections
         players.put(player.getUniqueId(), hordePlayer);
         alivePlayers.add(player.getUniqueId());
+        damageLedger.assignSlot(player.getUniqueId());
+        refreshAudience();
         hordePlayer.setState(PlayerState.LOBBY);
         
         // Start session tracking
@@ -111,13 +143,14 @@ public class Arena {
         player.teleport(config.getLobbySpawn());
         
         // Play join sound
-        plugin.getSoundManager().playJoin(player);
+        plugin.getSoundManager().play(SoundEvent.JOIN, player);
         
         // Apply lobby state
         applyLobbyState(player);
         
         // Show boss bar (will be updated when arena starts)
-        plugin.getBossBarManager().showBossBar(player, id);
+        plugin.getBossBarManager().showBossBar(player, this);
+        plugin.getSidebarManager().show(player, this);
         
         // Broadcast join message
         broadcastMessage("arena.player-joined", 
@@ -126,6 +159,8 @@ public class Arena {
             config.getMaxPlayers()
         );
         
+        plugin.getArenaManager().fireChange(this, ArenaChange.PLAYER_JOIN);
+        
         // Check for auto-start
         checkAutoStart();
         
@@ -238,10 +273,18 @@ public class Arena {
         
         // Hide boss bar
         plugin.getBossBarManager().hideBossBar(player);
+        plugin.getSidebarManager().hide(player);
         
         // Remove from tracking sets
         alivePlayers.remove(uuid);
         deadPlayers.remove(uuid);
+        refreshAudience();
+        markDirty();
+        
+        // Leaving mid-run ends the session like the run ending would
+        if (state == ArenaState.ACTIVE) {
+            settleLeaver(hordePlayer);
+        }
         
         // Restore player state if needed
         if (restore && config.getSurvivalMode().shouldSaveInventory()) {
@@ -251,8 +294,11 @@ public class Arena {
         // Teleport to exit
         player.teleport(config.getExitLocation());
         
+        // Hand out rewards held back while in the arena
+        plugin.getRewardManager().deliverLater(player);
+        
         // Play leave sound
-        plugin.getSoundManager().playLeave(player);
+        plugin.getSoundManager().play(SoundEvent.LEAVE, player);
         
         // Reset to normal state
         if (config.getSurvivalMode().shouldForceGameMode()) {
@@ -266,10 +312,127 @@ public class Arena {
             config.getMaxPlayers()
         );
         
+        plugin.getArenaManager().fireChange(this, ArenaChange.PLAYER_LEAVE);
+        
         // Check if arena should end
         checkArenaEnd();
     }
 
+    /**
+     * Holds a disconnecting player's slot for the reconnect window
+     * Only during a run; anywhere else the player should simply leave
+     * 
+     * @param player Player that is quitting
+     * @param graceSeconds Seconds the slot is held (for the broadcast)
+     * @return true if the slot is held
+     */
+    public boolean disconnectPlayer(Player player, int graceSeconds) {
+        UUID uuid = player.getUniqueId();
+        HordePlayer hordePlayer = players.get(uuid);
+        
+        if (hordePlayer == null || state != ArenaState.ACTIVE) {
+            return false;
+        }
+        
+        // Hide boss bar
+        plugin.getBossBarManager().hideBossBar(player);
+        plugin.getSidebarManager().hide(player);
+        
+        // Out of the fight, but still in the arena
+        alivePlayers.remove(uuid);
+        deadPlayers.remove(uuid);
+        hordePlayer.suspend();
+        refreshAudience();
+        markDirty();
+        
+        broadcastMessage("arena.player-disconnected", player.getName(), graceSeconds);
+        
+        // Ends the run only if nobody alive is left, connected or not
+        checkArenaEnd();
+        return true;
+    }
+
+    /**
+     * Puts a reconnected player back into their held slot
+     * 
+     * @param player Player that joined the server again
+     * @return true if the player is back in the arena
+     */
+    public boolean reconnectPlayer(Player player) {
+        UUID uuid = player.getUniqueId();
+        HordePlayer hordePlayer = players.get(uuid);
+        
+        if (hordePlayer == null || !hordePlayer.isDisconnected() || state != ArenaState.ACTIVE) {
+            return false;
+        }
+        
+        PlayerState resumed = hordePlayer.resume();
+        
+        // Quit before the death kick ran, finish it now
+        if (resumed == PlayerState.DEAD && config.getDeathHandling().getAction() == DeathAction.KICK) {
+            plugin.getArenaManager().leaveArena(player, true);
+            sendMessage(player, "arena.death-kicked");
+            return true;
+        }
+        
+        // A pending respawn was cancelled on disconnect, respawn now
+        if (resumed == PlayerState.DEAD && config.getDeathHandling().getAction() == DeathAction.RESPAWN) {
+            player.teleport(config.getArenaSpawn());
+            player.setHealth(player.getMaxHealth());
+            player.setFoodLevel(20);
+            
+            resumed = PlayerState.PLAYING;
+            hordePlayer.setState(resumed);
+        }
+        
+        if (resumed == PlayerState.PLAYING) {
+            alivePlayers.add(uuid);
+        } else {
+            deadPlayers.add(uuid);
+        }
+        
+        refreshAudience();
+        markDirty();
+        markPlayerDirty(uuid);
+        
+        plugin.getBossBarManager().showBossBar(player, this);
+        plugin.getSidebarManager().show(player, this);
+        
+        broadcastMessage("arena.player-reconnected", player.getName());
+        return true;
+    }
+
+    /**
+     * Frees the slot of a player whose reconnect window ran out
+     * Their original state was already restored when they quit
+     * 
+     * @param uuid Player UUID
+     */
+    public void expireDisconnected(UUID uuid) {
+        HordePlayer hordePlayer = players.get(uuid);
+        
+        if (hordePlayer == null || !hordePlayer.isDisconnected()) {
+            return;
+        }
+        
+        players.remove(uuid);
+        markDirty();
+        
+        if (state == ArenaState.ACTIVE) {
+            settleLeaver(hordePlayer);
+        }
+        
+        broadcastMessage("arena.player-left", 
+            hordePlayer.getName(), 
+            players.size(), 
+            config.getMaxPlayers()
+        );
+        
+        plugin.getArenaManager().fireChange(this, ArenaChange.PLAYER_LEAVE);
+        
+        checkArenaEnd();
+    }
+
     /**
      * Handles player death in the arena
      */
@@ -284,10 +447,13 @@ public class Arena {
         // Move from alive to dead
         alivePlayers.remove(uuid);
         deadPlayers.add(uuid);
+        refreshAudience();
         
         // Update state
         hordePlayer.setState(PlayerState.DEAD);
         hordePlayer.addDeath();
+        markDirty();
+        markPlayerDirty(uuid);
         
         // Track statistics
         if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
@@ -296,7 +462,7 @@ public class Arena {
         }
         
         // Play death sound
-        plugin.getSoundManager().playPlayerDeath(player);
+        plugin.getSoundManager().play(SoundEvent.PLAYER_DEATH, player);
         
         // Get death handling config
         ArenaConfig.DeathHandlingConfig deathConfig = config.getDeathHandling();
@@ -327,7 +493,7 @@ public class Arena {
         }
         
         // Check if all players are dead
-        if (alivePlayers.isEmpty()) {
+        if (!hasSurvivors()) {
             endArena(false); // Defeat
         }
     }
@@ -340,6 +506,11 @@ public class Arena {
         new BukkitRunnable() {
             @Override
             public void run() {
+                // Quit meanwhile: already restored, the slot is held for reconnecting
+                if (hordePlayer.isDisconnected()) {
+                    return;
+                }
+                
                 removePlayer(player, true);
                 sendMessage(player, "arena.death-kicked");
             }
@@ -398,11 +569,18 @@ public class Arena {
      * Handles RESPAWN death action
      */
     private void handleDeathRespawn(Player player, HordePlayer hordePlayer) {
+        // Show respawn timer
+        hordePlayer.startRespawn(RESPAWN_DELAY_TICKS * 50L);
+        plugin.getBossBarManager().startRespawnTimer(player.getUniqueId());
+        
         // Respawn at arena spawn after delay
         new BukkitRunnable() {
             @Override
             public void run() {
-                if (player.isOnline() && state == ArenaState.ACTIVE) {
+                hordePlayer.clearRespawn();
+                markPlayerDirty(player.getUniqueId());
+                
+                if (player.isOnline() && state == ArenaState.ACTIVE && !hordePlayer.isDisconnected()) {
                     player.teleport(config.getArenaSpawn());
                     player.setHealth(player.getMaxHealth());
                     player.setFoodLevel(20);
@@ -410,12 +588,14 @@ public class Arena {
                     // Move back to alive
                     deadPlayers.remove(player.getUniqueId());
                     alivePlayers.add(player.getUniqueId());
+                    refreshAudience();
+                    markDirty();
                     hordePlayer.setState(PlayerState.PLAYING);
                     
                     sendMessage(player, "arena.death-respawned");
                 }
             }
-        }.runTaskLater(plugin, 60L); // 3 seconds
+        }.runTaskLater(plugin, RESPAWN_DELAY_TICKS);
     }
 
     /**
@@ -437,9 +617,11 @@ public class Arena {
      * Starts the countdown before arena begins
      */
     private void startCountdown() {
-        state = ArenaState.STARTING;
+        setState(ArenaState.STARTING);
+        markDirty();
         
         final int countdownTime = config.getCountdownTime();
+        nextWaveAt = System.currentTimeMillis() + countdownTime * 1000L;
         
         countdownTask = new BukkitRunnable() {
             int timeLeft = countdownTime;
@@ -463,7 +645,7 @@ public class Arena {
                     broadcastMessage("arena.countdown", timeLeft);
                     
                     // Play countdown sound
-                    plugin.getSoundManager().playCountdownId(alivePlayers, timeLeft);
+                    plugin.getSoundManager().playCountdown(Arena.this, timeLeft);
                 }
                 
                 timeLeft--;
@@ -480,7 +662,9 @@ public class Arena {
             countdownTask = null;
         }
         
-        state = ArenaState.WAITING;
+        setState(ArenaState.WAITING);
+        nextWaveAt = 0;
+        markDirty();
         broadcastMessage("arena.countdown-cancelled");
     }
 
@@ -488,8 +672,10 @@ public class Arena {
      * Starts the arena (begins wave 1)
      */
     private void startArena() {
-        state = ArenaState.ACTIVE;
+        setState(ArenaState.ACTIVE);
         startTime = System.currentTimeMillis();
+        damageLedger.setAssistThreshold(getAssistThreshold());
+        damageLedger.start();
         
         // Teleport all players to arena
         for (HordePlayer hp : players.values()) {
@@ -520,6 +706,7 @@ public class Arena {
         currentWaveNumber = waveNumber;
         lastWaveStartTime = System.currentTimeMillis();
         waitingForManualProgression = false;
+        nextWaveAt = 0;
         
         // Create wave
         currentWave = waveManager.createWave(waveNumber);
@@ -537,10 +724,11 @@ public class Arena {
         );
         
         // Play sound
-        plugin.getSoundManager().playWaveStartId(alivePlayers);
+        plugin.getSoundManager().play(SoundEvent.WAVE_START, this);
         
-        // Update boss bar
-        plugin.getBossBarManager().updateBossBar(this);
+        // Update boss bar and sidebar
+        markDirty();
+        plugin.getArenaManager().fireChange(this, ArenaChange.WAVE);
         
         // Start wave
         currentWave.start();
@@ -558,15 +746,18 @@ public class Arena {
         );
         
         // Play sound
-        plugin.getSoundManager().playWaveCompleteId(alivePlayers);
+        plugin.getSoundManager().play(SoundEvent.WAVE_COMPLETE, this);
         
-        // Update boss bar
-        plugin.getBossBarManager().updateBossBar(this);
+        // Update boss bar and sidebar
+        markDirty();
         
         // Give progressive rewards if configured
         if (config.getRewardConfig().getType() != RewardType.COMPLETION_ONLY) {
             giveProgressiveRewards();
         }
+
+        // Wave loot rolls, whatever the reward type
+        plugin.getLootManager().rollWave(this, currentWaveNumber, getRewardRecipients());
         
         // Check progression type
         switch (config.getProgressionType()) {
@@ -593,6 +784,7 @@ public class Arena {
         
         if (delay > 0) {
             broadcastMessage("arena.next-wave-in", delay);
+            nextWaveAt = System.currentTimeMillis() + delay * 1000L;
             
             waveDelayTask = new BukkitRunnable() {
                 @Override
@@ -630,7 +822,8 @@ public class Arena {
      * @param victory true if players won
      */
     public void endArena(boolean victory) {
-        state = ArenaState.ENDING;
+        setState(ArenaState.ENDING);
+        markDirty();
         
         long totalDuration = (System.currentTimeMillis() - startTime) / 1000;
         
@@ -641,21 +834,18 @@ public class Arena {
             broadcastMessage("arena.victory", totalDuration);
             
             // Play victory sound
-            plugin.getSoundManager().playVictoryId(alivePlayers);
+            plugin.getSoundManager().play(SoundEvent.ARENA_VICTORY, this);
             
             giveCompletionRewards();
+            plugin.getLootManager().rollCompletion(this, getRewardRecipients());
             
             // Track statistics for winners
             if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
-                for (UUID uuid : alivePlayers) {
-                    HordePlayer hp = players.get(uuid);
-                    if (hp != null) {
-                        Player p = hp.getPlayer();
-                        if (p != null) {
-                            plugin.getStatisticsManager().getStatistics(uuid, p.getName())
-                                .addCompletion(id, currentWaveNumber, totalDuration);
-                            plugin.getStatisticsManager().markDirty(uuid);
-                        }
+                for (HordePlayer hp : players.values()) {
+                    if (isRewarded(hp)) {
+                        plugin.getStatisticsManager().getStatistics(hp.getUuid(), hp.getName())
+                            .addCompletion(id, currentWaveNumber, totalDuration);
+                        plugin.getStatisticsManager().markDirty(hp.getUuid());
                     }
                 }
             }
@@ -663,20 +853,18 @@ public class Arena {
             broadcastMessage("arena.defeat", totalDuration);
             
             // Play defeat sound
-            plugin.getSoundManager().playDefeatId(alivePlayers);
+            plugin.getSoundManager().play(SoundEvent.ARENA_DEFEAT, this);
         }
         
+        recordDamageStatistics();
+        
         // End session and track playtime for all players
         if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
-            for (UUID uuid : players.keySet()) {
-                HordePlayer hp = players.get(uuid);
-                if (hp != null) {
-                    Player p = hp.getPlayer();
-                    if (p != null) {
-                        plugin.getStatisticsManager().getStatistics(uuid, p.getName()).endSession(id);
-                        plugin.getStatisticsManager().getStatistics(uuid, p.getName()).addAttempt(id);
-                        plugin.getStatisticsManager().markDirty(uuid);
-                    }
+            for (HordePlayer hp : players.values()) {
+                // Held players count too, their session is still open
+                if (hp.getPlayer() != null || hp.isDisconnected()) {
+                    plugin.getStatisticsManager().getStatistics(hp.getUuid(), hp.getName()).endSession(id);
+                    plugin.getStatisticsManager().markDirty(hp.getUuid());
                 }
             }
         }
@@ -712,16 +900,28 @@ public class Arena {
         ArenaConfig.RewardConfig rewardConfig = config.getRewardConfig();
         double multiplier = rewardConfig.getProgressiveMultiplier();
         
-        for (UUID uuid : alivePlayers) {
-            HordePlayer hp = players.get(uuid);
-            if (hp != null && hp.getPlayer() != null) {
-                plugin.getRewardManager().giveProgressiveReward(
-                    hp.getPlayer(), 
-                    rewardConfig, 
-                    multiplier
-                );
+        plugin.getRewardManager().giveProgressiveRewards(getRewardRecipients(), rewardConfig, multiplier);
+    }
+
+    /**
+     * Gets the alive players as reward recipients
+     * Offline players are included, the mailbox keeps their rewards
+     */
+    private List<OfflinePlayer> getRewardRecipients() {
+        List<OfflinePlayer> recipients = new ArrayList<>();
+        for (HordePlayer hp : players.values()) {
+            if (isRewarded(hp)) {
+                recipients.add(plugin.getServer().getOfflinePlayer(hp.getUuid()));
             }
         }
+        return recipients;
+    }
+
+    /**
+     * Checks if a player is rewarded: alive, or disconnected while alive
+     */
+    private boolean isRewarded(HordePlayer hp) {
+        return alivePlayers.contains(hp.getUuid()) || hp.isDisconnectedAlive();
     }
 
     /**
@@ -734,15 +934,68 @@ public class Arena {
             return;
         }
         
-        for (UUID uuid : alivePlayers) {
-            HordePlayer hp = players.get(uuid);
-            if (hp != null && hp.getPlayer() != null) {
-                plugin.getRewardManager().giveCompletionReward(
-                    hp.getPlayer(), 
-                    rewardConfig
-                );
+        // Offline players are rewarded too, the mailbox keeps their rewards
+        Map<OfflinePlayer, String[]> recipients = new LinkedHashMap<>();
+        for (HordePlayer hp : players.values()) {
+            UUID uuid = hp.getUuid();
+            if (isRewarded(hp)) {
+                recipients.put(plugin.getServer().getOfflinePlayer(uuid), new String[] {
+                    "%damage%", String.format(Locale.ROOT, "%.1f", damageLedger.getDamage(uuid)),
+                    "%dps%", String.format(Locale.ROOT, "%.1f", damageLedger.getDps(uuid)),
+                    "%assists%", String.valueOf(damageLedger.getAssists(uuid)),
+                    "%contribution%", String.format(Locale.ROOT, "%.1f", damageLedger.getContribution(uuid)),
+                    "%damage_share%", String.format(Locale.ROOT, "%.0f", damageLedger.getDamageShare(uuid))
+                });
             }
         }
+        
+        plugin.getRewardManager().giveCompletionRewards(recipients, rewardConfig);
+    }
+
+    /**
+     * Adds this run's damage to the statistics of everyone who fought
+     */
+    private void recordDamageStatistics() {
+        if (plugin.getStatisticsManager() == null || !plugin.getStatisticsManager().isEnabled()) {
+            return;
+        }
+        
+        for (UUID uuid : damageLedger.getPlayers()) {
+            double damage = damageLedger.getDamage(uuid);
+            PlayerStatistics stats = plugin.getStatisticsManager().getCachedStatistics(uuid);
+            
+            if (stats != null && damage > 0) {
+                stats.addDamage(damage);
+                plugin.getStatisticsManager().markDirty(uuid);
+            }
+        }
+    }
+
+    /**
+     * Gets the area mobs are kept in
+     * An explicit box in arenas.yml wins over the WorldGuard region
+     *
+     * @return Bounds in the arena spawn's world, or null if none
+     */
+    public RegionShape getLeashBounds() {
+        if (config.getBounds() != null) {
+            return config.getBounds();
+        }
+        
+        ArenaRegion region = plugin.getArenaManager().getRegionIndex().getArenaRegion(id);
+        if (region != null && config.getArenaSpawn().getWorld() != null
+                && region.getWorldName().equals(config.getArenaSpawn().getWorld().getName())) {
+            return region.getShape();
+        }
+        
+        return null;
+    }
+
+    /**
+     * Gets the assist threshold from config.yml
+     */
+    private double getAssistThreshold() {
+        return plugin.getFileManager().getConfig().getDouble("combat.assist-threshold", 0.15);
     }
 
     /**
@@ -756,11 +1009,33 @@ public class Arena {
         }
         
         for (UUID uuid : players.keySet()) {
-            if (config.isGlobalCooldown()) {
-                plugin.getCooldownManager().setGlobalCooldown(uuid, cooldownDuration);
-            } else {
-                plugin.getCooldownManager().setCooldown(uuid, id, cooldownDuration);
-            }
+            applyCooldown(uuid, cooldownDuration);
+        }
+    }
+
+    private void applyCooldown(UUID uuid, long cooldownDuration) {
+        if (config.isGlobalCooldown()) {
+            plugin.getCooldownManager().setGlobalCooldown(uuid, cooldownDuration);
+        } else {
+            plugin.getCooldownManager().setCooldown(uuid, id, cooldownDuration);
+        }
+    }
+
+    /**
+     * Ends the session of a player leaving a running arena
+     * Records their playtime and applies the cooldown
+     */
+    private void settleLeaver(HordePlayer hordePlayer) {
+        UUID uuid = hordePlayer.getUuid();
+        
+        if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
+            plugin.getStatisticsManager().getStatistics(uuid, hordePlayer.getName()).endSession(id);
+            plugin.getStatisticsManager().markDirty(uuid);
+        }
+        
+        long cooldownDuration = config.getCooldownDuration();
+        if (cooldownDuration > 0) {
+            applyCooldown(uuid, cooldownDuration);
         }
     }
 
@@ -779,6 +1054,8 @@ public class Arena {
             waveDelayTask = null;
         }
         
+        nextWaveAt = 0;
+        
         // Cleanup current wave
         if (currentWave != null) {
             currentWave.cleanup();
@@ -790,7 +1067,6 @@ public class Arena {
      * Resets arena to initial state
      */
     private void reset() {
-        state = ArenaState.WAITING;
         currentWaveNumber = 0;
         currentWave = null;
         waitingForManualProgression = false;
@@ -798,13 +1074,86 @@ public class Arena {
         players.clear();
         alivePlayers.clear();
         deadPlayers.clear();
+        audience = new Player[0];
+        damageLedger.reset(config.getMaxPlayers());
+        
+        // Remove drops left on the ground
+        plugin.getDropTracker().clearArena(id);
+        
+        // Last, so observers see the arena empty
+        setState(ArenaState.WAITING);
+    }
+
+    /**
+     * Changes the arena state and notifies observers
+     */
+    private void setState(ArenaState state) {
+        if (this.state == state) {
+            return;
+        }
+
+        this.state = state;
+        plugin.getArenaManager().fireChange(this, ArenaChange.STATE);
+    }
+
+    /**
+     * Marks live displays (boss bar, sidebar) for refresh on the next tick
+     */
+    public void markDirty() {
+        plugin.getBossBarManager().markDirty(this);
+        plugin.getSidebarManager().markDirty(this);
+    }
+
+    /**
+     * Marks a player's personal display lines for refresh on the next tick
+     * 
+     * @param uuid Player UUID
+     */
+    public void markPlayerDirty(UUID uuid) {
+        plugin.getBossBarManager().markPlayerDirty(uuid);
+        plugin.getSidebarManager().markPlayerDirty(uuid);
+    }
+
+    /**
+     * Rebuilds the cached audience from alive players
+     * Called only when membership changes, so broadcasts and sounds
+     * can iterate a plain array without UUID lookups
+     */
+    private void refreshAudience() {
+        List<Player> online = new ArrayList<>(alivePlayers.size());
+        
+        for (UUID uuid : alivePlayers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                online.add(player);
+            }
+        }
+        
+        audience = online.toArray(new Player[0]);
+    }
+
+    /**
+     * Checks if anyone is still alive, counting players that
+     * disconnected while alive and may still reconnect
+     */
+    private boolean hasSurvivors() {
+        if (!alivePlayers.isEmpty()) {
+            return true;
+        }
+        
+        for (HordePlayer hp : players.values()) {
+            if (hp.isDisconnectedAlive()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Checks if arena should end (no alive players)
      */
     private void checkArenaEnd() {
-        if (state == ArenaState.ACTIVE && alivePlayers.isEmpty()) {
+        if (state == ArenaState.ACTIVE && !hasSurvivors()) {
             endArena(false);
         } else if ((state == ArenaState.WAITING || state == ArenaState.STARTING) 
                    && players.isEmpty()) {
@@ -824,13 +1173,12 @@ public class Arena {
         }
         
         // Broadcast to all arena players with PlaceholderAPI per player
-        for (UUID uuid : alivePlayers) {
-
-            Player player = Bukkit.getPlayer(uuid);
-
-            if(player == null) continue;
+        TextHandler text = Text.createText(message);
+        
+        for (Player player : audience) {
+            if (!player.isOnline()) continue;
 
-            player.sendMessage(Text.createText(message).build(player));
+            player.sendMessage(text.build(player));
         }
     }
 
@@ -855,11 +1203,26 @@ public class Arena {
     public ArenaConfig getConfig() { return config; }
     public ArenaState getState() { return state; }
     public Map<UUID, HordePlayer> getPlayers() { return new HashMap<>(players); }
+    
+    /**
+     * Gets a live read-only view of the arena players
+     * Use this on hot paths instead of getPlayers(), which copies
+     */
+    public Collection<HordePlayer> getHordePlayerView() { return playerView; }
     public Set<UUID> getAlivePlayers() { return new HashSet<>(alivePlayers); }
     public Set<UUID> getDeadPlayers() { return new HashSet<>(deadPlayers); }
+    
+    /**
+     * Gets the cached audience (online alive players)
+     * The returned array is a shared snapshot and must not be modified
+     */
+    public Player[] getAudience() { return audience; }
     public int getCurrentWaveNumber() { return currentWaveNumber; }
     public Wave getCurrentWave() { return currentWave; }
     public Hordes getPlugin() { return plugin; }
+    public long getStartTime() { return startTime; }
+    public long getNextWaveAt() { return nextWaveAt; }
+    public DamageLedger getDamageLedger() { return damageLedger; }
     public boolean isWaitingForManualProgression() { return waitingForManualProgression; }
     
     /**
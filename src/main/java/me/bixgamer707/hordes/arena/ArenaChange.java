@@ -0,0 +1,27 @@
+package me.bixgamer707.hordes.arena;
+
+/**
+ * Kinds of arena changes published to observers
+ */
+public enum ArenaChange {
+
+    /**
+     * A player joined the arena
+     */
+    PLAYER_JOIN,
+
+    /**
+     * A player left the arena
+     */
+    PLAYER_LEAVE,
+
+    /**
+     * The arena moved to another state
+     */
+    STATE,
+
+    /**
+     * A new wave started
+     */
+    WAVE
+}
@@ -1,14 +1,22 @@
 package me.bixgamer707.hordes.arena;
 
 import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.region.ArenaRegionIndex;
+import me.bixgamer707.hordes.arena.region.WorldGuardRegionLoader;
 import me.bixgamer707.hordes.config.ArenaConfig;
+import me.bixgamer707.hordes.config.TemplateResolver;
 import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.wave.WaveConfig;
+import me.bixgamer707.hordes.wave.WaveManager;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages all arena instances
@@ -28,16 +36,80 @@ public class ArenaManager {
     
     // WorldGuard region to arena mapping: RegionName -> ArenaID
     private final Map<String, String> regionArenas;
+    
+    // Shapes of the arena regions, bucketed by chunk
+    private final ArenaRegionIndex regionIndex;
+
+    // Observers notified of arena changes (open GUIs, displays)
+    private final CopyOnWriteArrayList<ArenaObserver> observers;
+    
+    // Config the loaded arenas were built from: ArenaID -> fingerprint
+    private final Map<String, String> fingerprints;
+    
+    // Rebuilt arenas waiting for their running game to end: ArenaID -> Arena
+    private final Map<String, Arena> pendingArenas;
+    
+    // Arenas removed from config while a game was running
+    private final Set<String> pendingRemovals;
+    
+    // Templates for arenas.yml (over config.yml defaults) and mobs.yml
+    private volatile TemplateResolver arenaTemplates;
+    private volatile TemplateResolver waveTemplates;
+    
+    // Wave plans shared by arenas with identical waves: waves + mobs fingerprint -> plan
+    private final Map<String, Map<Integer, WaveConfig>> wavePlans;
 
     public ArenaManager(Hordes plugin) {
         this.plugin = plugin;
         this.arenas = new ConcurrentHashMap<>();
         this.playerArenas = new ConcurrentHashMap<>();
         this.regionArenas = new ConcurrentHashMap<>();
+        this.regionIndex = new ArenaRegionIndex();
+        this.observers = new CopyOnWriteArrayList<>();
+        this.fingerprints = new ConcurrentHashMap<>();
+        this.pendingArenas = new ConcurrentHashMap<>();
+        this.pendingRemovals = ConcurrentHashMap.newKeySet();
+        this.wavePlans = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compiles the arena and wave templates
+     * Arenas inherit config.yml defaults and arena-defaults first
+     */
+    private void compileTemplates() {
+        File config = plugin.getFileManager().getConfig();
+        
+        arenaTemplates = new TemplateResolver(
+                plugin.getFileManager().getArenas().getConfigurationSection("templates"),
+                config.getConfigurationSection("defaults"),
+                config.getConfigurationSection("arena-defaults"));
+        waveTemplates = new TemplateResolver(plugin.getFileManager().getMobs().getConfigurationSection("templates"));
+        wavePlans.clear();
+    }
+
+    /**
+     * Gets an arena's mobs.yml section with its templates applied
+     *
+     * @return Flattened section or null if the arena has none
+     */
+    public ConfigurationSection getWaveSection(String arenaId) {
+        ConfigurationSection raw = plugin.getFileManager().getMobs().getConfigurationSection(arenaId);
+        if (waveTemplates == null) {
+            return raw;
+        }
+        
+        try {
+            return waveTemplates.resolve(raw);
+        } catch (IllegalArgumentException e) {
+            plugin.logWarning("Waves of arena " + arenaId + ": " + e.getMessage());
+            return raw;
+        }
     }
 
     /**
      * Loads all arenas from configuration
+     * Sections are parsed in parallel off the main thread; only world
+     * lookups and arena creation happen on the main thread
      */
     public void loadArenas() {
         File configFile = plugin.getFileManager().getArenas();
@@ -48,13 +120,29 @@ public class ArenaManager {
             return;
         }
         
+        ConfigurationSection mobsSection = plugin.getFileManager().getMobs();
+        compileTemplates();
+        
+        // ArenaID -> parse running on the common pool
+        Map<String, CompletableFuture<ParsedArena>> parsing = new LinkedHashMap<>();
+        for (String arenaId : arenasSection.getKeys(false)) {
+            ConfigurationSection arenaSection = arenasSection.getConfigurationSection(arenaId);
+            ConfigurationSection arenaMobs = mobsSection.getConfigurationSection(arenaId);
+            
+            parsing.put(arenaId, CompletableFuture.supplyAsync(
+                    () -> new ParsedArena(arenaId, arenaSection, arenaMobs).compile()));
+        }
+        
         int loaded = 0;
         int failed = 0;
         
-        for (String arenaId : arenasSection.getKeys(false)) {
+        for (Map.Entry<String, CompletableFuture<ParsedArena>> entry : parsing.entrySet()) {
+            String arenaId = entry.getKey();
+            
             try {
-                ConfigurationSection arenaSection = arenasSection.getConfigurationSection(arenaId);
-                ArenaConfig config = ArenaConfig.load(arenaId, arenaSection);
+                ParsedArena parsed = entry.getValue().join();
+                ArenaConfig config = parsed.config;
+                config.resolveLocations();
                 
                 if (!config.isValid()) {
                     Bukkit.getLogger().warning("[Hordes] Arena " + arenaId + " has invalid configuration");
@@ -62,8 +150,9 @@ public class ArenaManager {
                     continue;
                 }
                 
-                Arena arena = new Arena(arenaId, config, plugin);
+                Arena arena = new Arena(arenaId, config, parsed.waves, plugin);
                 arenas.put(arenaId, arena);
+                fingerprints.put(arenaId, parsed.fingerprint);
                 
                 // Register WorldGuard region if configured
                 if (config.hasWorldGuardRegion()) {
@@ -73,15 +162,227 @@ public class ArenaManager {
                 loaded++;
                 
             } catch (Exception e) {
-                plugin.logError("Failed to load arena " + arenaId + ": " + e.getMessage());
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                plugin.logError("Failed to load arena " + arenaId + ": " + cause.getMessage());
                 if (plugin.getFileManager().getFile("config.yml").getBoolean("debug-mode", false)) {
-                    e.printStackTrace();
+                    cause.printStackTrace();
                 }
                 failed++;
             }
         }
         
         Bukkit.getLogger().info("[Hordes] Loaded " + loaded + " arenas (" + failed + " failed)");
+        
+        refreshRegionIndex();
+    }
+
+    /**
+     * Rebuilds the region index from WorldGuard
+     * Called after arenas load; call again after editing regions in WorldGuard
+     */
+    public void refreshRegionIndex() {
+        if (regionArenas.isEmpty() || Bukkit.getPluginManager().getPlugin("WorldGuard") == null) {
+            regionIndex.clear();
+            return;
+        }
+        
+        try {
+            regionIndex.rebuild(WorldGuardRegionLoader.load(plugin, regionArenas));
+            plugin.logInfo("Indexed " + regionIndex.size() + " arena regions");
+        } catch (Exception | LinkageError e) {
+            regionIndex.clear();
+            plugin.logWarning("Failed to load arena regions from WorldGuard: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads only the arenas whose configuration changed
+     * Running games keep their old config until they end
+     *
+     * @return Number of arenas added, changed or removed
+     */
+    public int reloadChangedArenas() {
+        ConfigurationSection arenasSection = plugin.getFileManager().getArenas().getConfigurationSection("arenas");
+        Set<String> configured = arenasSection != null ? arenasSection.getKeys(false) : Collections.emptySet();
+        compileTemplates();
+        
+        int changed = 0;
+        
+        for (String arenaId : configured) {
+            if (applyArena(arenaId, arenasSection.getConfigurationSection(arenaId))) {
+                changed++;
+            }
+        }
+        
+        for (String arenaId : new ArrayList<>(arenas.keySet())) {
+            if (!configured.contains(arenaId) && applyArena(arenaId, null)) {
+                changed++;
+            }
+        }
+        
+        if (changed > 0) {
+            refreshRegionIndex();
+        }
+        
+        Bukkit.getLogger().info("[Hordes] Reloaded " + changed + " changed arenas ("
+                + pendingArenas.size() + " waiting for their game to end)");
+        return changed;
+    }
+
+    /**
+     * Reloads a single arena if its configuration changed
+     * A running game keeps its old config until it ends
+     *
+     * @param arenaId Arena identifier
+     * @return true if the arena was added, changed or removed
+     */
+    public boolean reloadArena(String arenaId) {
+        ConfigurationSection arenaSection = plugin.getFileManager().getArenas()
+                .getConfigurationSection("arenas." + arenaId);
+        compileTemplates();
+        
+        boolean changed = applyArena(arenaId, arenaSection);
+        if (changed) {
+            refreshRegionIndex();
+        }
+        
+        return changed;
+    }
+
+    /**
+     * Rebuilds an arena when its arenas.yml or mobs.yml section changed
+     *
+     * @param arenaSection New section, null if the arena was removed
+     * @return true if anything changed
+     */
+    private boolean applyArena(String arenaId, ConfigurationSection arenaSection) {
+        if (arenaSection == null) {
+            if (!arenas.containsKey(arenaId)) {
+                return false;
+            }
+            
+            pendingArenas.remove(arenaId);
+            if (isIdle(arenas.get(arenaId))) {
+                removeArena(arenaId);
+            } else {
+                pendingRemovals.add(arenaId);
+            }
+            return true;
+        }
+        
+        try {
+            ParsedArena parsed = new ParsedArena(arenaId, arenaSection,
+                    plugin.getFileManager().getMobs().getConfigurationSection(arenaId));
+            
+            if (parsed.fingerprint.equals(fingerprints.get(arenaId)) && !pendingRemovals.contains(arenaId)) {
+                return false;
+            }
+            
+            ArenaConfig config = parsed.compile().config;
+            config.resolveLocations();
+            
+            if (!config.isValid()) {
+                Bukkit.getLogger().warning("[Hordes] Arena " + arenaId + " has invalid configuration, keeping the loaded one");
+                return false;
+            }
+            
+            Arena arena = new Arena(arenaId, config, parsed.waves, plugin);
+            fingerprints.put(arenaId, parsed.fingerprint);
+            pendingRemovals.remove(arenaId);
+            
+            Arena current = arenas.get(arenaId);
+            if (current == null || isIdle(current)) {
+                pendingArenas.remove(arenaId);
+                swapArena(arena);
+            } else {
+                pendingArenas.put(arenaId, arena);
+            }
+            return true;
+            
+        } catch (Exception e) {
+            plugin.logError("Failed to load arena " + arenaId + ": " + e.getMessage());
+            if (plugin.getFileManager().getFile("config.yml").getBoolean("debug-mode", false)) {
+                e.printStackTrace();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Puts a rebuilt arena in place of the loaded one
+     */
+    private void swapArena(Arena arena) {
+        Arena previous = arenas.put(arena.getId(), arena);
+        
+        if (previous != null) {
+            regionArenas.values().remove(arena.getId());
+        }
+        
+        if (arena.getConfig().hasWorldGuardRegion()) {
+            regionArenas.put(arena.getConfig().getWorldGuardRegion(), arena.getId());
+        }
+        
+        fireChange(arena, ArenaChange.STATE);
+    }
+
+    /**
+     * Drops an arena that is no longer configured
+     */
+    private void removeArena(String arenaId) {
+        Arena removed = arenas.remove(arenaId);
+        fingerprints.remove(arenaId);
+        pendingRemovals.remove(arenaId);
+        regionArenas.values().remove(arenaId);
+        
+        if (removed != null) {
+            fireChange(removed, ArenaChange.STATE);
+        }
+    }
+
+    /**
+     * Applies a pending rebuild or removal once the arena's game ended
+     */
+    private void applyPending(Arena arena) {
+        if (!isIdle(arena) || arenas.get(arena.getId()) != arena) {
+            return;
+        }
+        
+        if (pendingRemovals.contains(arena.getId())) {
+            removeArena(arena.getId());
+            refreshRegionIndex();
+            return;
+        }
+        
+        Arena pending = pendingArenas.remove(arena.getId());
+        if (pending != null) {
+            swapArena(pending);
+            refreshRegionIndex();
+        }
+    }
+
+    /**
+     * Checks if an arena can be replaced without touching a game
+     */
+    private boolean isIdle(Arena arena) {
+        return arena.getPlayerCount() == 0
+                && (arena.getState() == ArenaState.WAITING || arena.getState() == ArenaState.DISABLED);
+    }
+
+    /**
+     * Fingerprints a flattened config section
+     */
+    private static String fingerprint(ConfigurationSection section) {
+        if (section == null) {
+            return "";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Object> entry : new TreeMap<>(section.getValues(true)).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                sb.append(entry.getKey()).append('=').append(entry.getValue()).append(';');
+            }
+        }
+        return sb.toString();
     }
 
     /**
@@ -102,6 +403,9 @@ public class ArenaManager {
         arenas.clear();
         playerArenas.clear();
         regionArenas.clear();
+        fingerprints.clear();
+        pendingArenas.clear();
+        pendingRemovals.clear();
         
         // Reload from config
         loadArenas();
@@ -128,6 +432,13 @@ public class ArenaManager {
         return arenaId != null ? arenas.get(arenaId) : null;
     }
 
+    /**
+     * Gets the spatial index of arena regions
+     */
+    public ArenaRegionIndex getRegionIndex() {
+        return regionIndex;
+    }
+
     /**
      * Gets the arena a player is currently in
      * 
@@ -320,6 +631,46 @@ public class ArenaManager {
         unregisterPlayer(player.getUniqueId());
     }
 
+    /**
+     * Subscribes to arena changes
+     *
+     * @param observer Observer to add (ignored if already subscribed)
+     */
+    public void subscribe(ArenaObserver observer) {
+        observers.addIfAbsent(observer);
+    }
+
+    /**
+     * Drops a subscription
+     */
+    public void unsubscribe(ArenaObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Notifies all observers of an arena change
+     * A failing observer never breaks the arena or other observers
+     */
+    void fireChange(Arena arena, ArenaChange change) {
+        // A finished game (or emptied lobby) picks up config edits made meanwhile
+        if ((change == ArenaChange.STATE || change == ArenaChange.PLAYER_LEAVE)
+                && (!pendingArenas.isEmpty() || !pendingRemovals.isEmpty())) {
+            applyPending(arena);
+        }
+        
+        if (observers.isEmpty()) {
+            return;
+        }
+
+        for (ArenaObserver observer : observers) {
+            try {
+                observer.onArenaChange(arena, change);
+            } catch (Exception e) {
+                plugin.logError("Arena observer failed for " + arena.getId() + ": " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Shuts down all arenas (called on plugin disable)
      */
@@ -335,6 +686,11 @@ public class ArenaManager {
         arenas.clear();
         playerArenas.clear();
         regionArenas.clear();
+        regionIndex.clear();
+        observers.clear();
+        fingerprints.clear();
+        pendingArenas.clear();
+        pendingRemovals.clear();
     }
 
     /**
@@ -359,4 +715,38 @@ public class ArenaManager {
         
         return sb.toString();
     }
+
+    /**
+     * An arena's arenas.yml and mobs.yml sections with templates applied,
+     * compiled off the main thread; worlds are not yet bound
+     */
+    private final class ParsedArena {
+        private final String arenaId;
+        private final ConfigurationSection arenaSection;
+        private final ConfigurationSection mobsSection;
+        private final String mobsFingerprint;
+        private final String fingerprint;
+
+        private ArenaConfig config;
+        private Map<Integer, WaveConfig> waves;
+
+        private ParsedArena(String arenaId, ConfigurationSection rawArena, ConfigurationSection rawMobs) {
+            this.arenaId = arenaId;
+            this.arenaSection = arenaTemplates.resolve(rawArena);
+            this.mobsSection = waveTemplates.resolve(rawMobs);
+            this.mobsFingerprint = fingerprint(mobsSection);
+            this.fingerprint = fingerprint(arenaSection) + '|' + mobsFingerprint;
+        }
+
+        /**
+         * Parses the flattened sections
+         * Arenas with identical waves share one wave plan
+         */
+        private ParsedArena compile() {
+            config = ArenaConfig.parse(arenaId, arenaSection);
+            waves = wavePlans.computeIfAbsent(config.getTotalWaves() + "|" + mobsFingerprint,
+                    key -> WaveManager.parseWaves(arenaId, config.getTotalWaves(), mobsSection));
+            return this;
+        }
+    }
 }
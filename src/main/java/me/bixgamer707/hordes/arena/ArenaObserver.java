@@ -0,0 +1,17 @@
+package me.bixgamer707.hordes.arena;
+
+/**
+ * Listener for arena changes
+ * Always called on the main thread, right after the change happened
+ */
+@FunctionalInterface
+public interface ArenaObserver {
+
+    /**
+     * Called when an arena changes
+     *
+     * @param arena Changed arena
+     * @param change What changed
+     */
+    void onArenaChange(Arena arena, ArenaChange change);
+}
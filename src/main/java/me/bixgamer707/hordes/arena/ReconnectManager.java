@@ -0,0 +1,219 @@
+package me.bixgamer707.hordes.arena;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Holds arena slots of disconnected players for a grace window
+ *
+ * Held slots wait in a queue ordered by expiry. A single task, running
+ * only while slots are held, frees every expired slot in one pass
+ * instead of scheduling a task per player
+ *
+ * Registered for joins at all times, so a player can rejoin even
+ * if the run ended while they were away
+ */
+public class ReconnectManager implements Listener {
+
+    private final Hordes plugin;
+
+    // Player UUID -> held slot
+    private final Map<UUID, HeldSlot> slots;
+
+    // Held slots, soonest expiry first
+    private final PriorityQueue<HeldSlot> expiries;
+
+    private BukkitTask task;
+
+    // Settings
+    private boolean enabled;
+    private int graceSeconds;
+
+    public ReconnectManager(Hordes plugin) {
+        this.plugin = plugin;
+        this.slots = new HashMap<>();
+        this.expiries = new PriorityQueue<>(Comparator.comparingLong(slot -> slot.expiresAt));
+
+        loadConfiguration();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        enabled = plugin.getFileManager().getConfig().getBoolean("reconnect.enabled", true);
+        graceSeconds = Math.max(0, plugin.getFileManager().getConfig().getInt("reconnect.grace-seconds", 60));
+    }
+
+    /**
+     * Handles a player quitting while in an arena
+     * Holds their slot if the arena is running, otherwise they leave
+     */
+    public void disconnect(Player player) {
+        ArenaManager arenaManager = plugin.getArenaManager();
+        Arena arena = arenaManager.getPlayerArena(player);
+
+        if (arena == null) {
+            return;
+        }
+
+        if (!enabled || graceSeconds <= 0 || !arena.disconnectPlayer(player, graceSeconds)) {
+            // Remove player from arena (restore state)
+            arenaManager.leaveArena(player, true);
+            return;
+        }
+
+        HeldSlot slot = new HeldSlot(player.getUniqueId(), arena.getId(),
+                System.currentTimeMillis() + graceSeconds * 1000L);
+
+        HeldSlot previous = slots.put(slot.uuid, slot);
+        if (previous != null) {
+            expiries.remove(previous);
+        }
+        expiries.add(slot);
+
+        start();
+    }
+
+    /**
+     * Puts players back into their held slot when they join
+     */
+    @EventHandler(priority = EventPriority.NORMAL)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        if (!slots.isEmpty()) {
+            reconnect(event.getPlayer());
+        }
+    }
+
+    /**
+     * Puts a player back into their held slot, if any
+     *
+     * @return true if the player is back in their arena
+     */
+    public boolean reconnect(Player player) {
+        HeldSlot slot = slots.remove(player.getUniqueId());
+
+        if (slot == null) {
+            return false;
+        }
+
+        expiries.remove(slot);
+
+        Arena arena = plugin.getArenaManager().getArena(slot.arenaId);
+        if (arena != null && arena.reconnectPlayer(player)) {
+            return true;
+        }
+
+        // The run ended meanwhile
+        release(slot, arena);
+        Text.sendMessage(player, "arena.reconnect-ended");
+        return false;
+    }
+
+    /**
+     * Starts the expiry task if it isn't running
+     */
+    private void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                expire();
+            }
+        }.runTaskTimer(plugin, 20L, 20L);
+    }
+
+    /**
+     * Frees every expired slot, stopping the task once none are held
+     */
+    private void expire() {
+        long now = System.currentTimeMillis();
+
+        while (!expiries.isEmpty() && expiries.peek().expiresAt <= now) {
+            HeldSlot slot = expiries.poll();
+            slots.remove(slot.uuid);
+            release(slot, plugin.getArenaManager().getArena(slot.arenaId));
+            plugin.getLootManager().clearPity(slot.uuid);
+        }
+
+        if (expiries.isEmpty()) {
+            cleanup();
+        }
+    }
+
+    /**
+     * Frees a held slot and drops the player's arena registration
+     */
+    private void release(HeldSlot slot, Arena arena) {
+        if (arena != null) {
+            arena.expireDisconnected(slot.uuid);
+        }
+
+        Arena registered = plugin.getArenaManager().getPlayerArena(slot.uuid);
+        if (registered == null || registered == arena) {
+            plugin.getArenaManager().unregisterPlayer(slot.uuid);
+        }
+    }
+
+    /**
+     * Checks if a player's arena slot is being held
+     */
+    public boolean isHeld(UUID uuid) {
+        return slots.containsKey(uuid);
+    }
+
+    public int getGraceSeconds() {
+        return graceSeconds;
+    }
+
+    /**
+     * Reloads settings
+     * Slots already held keep their expiry
+     */
+    public void reload() {
+        loadConfiguration();
+    }
+
+    /**
+     * Stops the expiry task
+     * Held players were restored on quit, so nothing is lost
+     */
+    public void cleanup() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * A held slot
+     */
+    private static final class HeldSlot {
+
+        private final UUID uuid;
+        private final String arenaId;
+        private final long expiresAt;
+
+        HeldSlot(UUID uuid, String arenaId, long expiresAt) {
+            this.uuid = uuid;
+            this.arenaId = arenaId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
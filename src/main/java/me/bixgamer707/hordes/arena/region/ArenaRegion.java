@@ -0,0 +1,46 @@
+package me.bixgamer707.hordes.arena.region;
+
+import org.bukkit.Location;
+
+/**
+ * Arena-linked region cached from WorldGuard
+ */
+public class ArenaRegion {
+
+    private final String arenaId;
+    private final String regionName;
+    private final String worldName;
+    private final RegionShape shape;
+
+    public ArenaRegion(String arenaId, String regionName, String worldName, RegionShape shape) {
+        this.arenaId = arenaId;
+        this.regionName = regionName;
+        this.worldName = worldName;
+        this.shape = shape;
+    }
+
+    /**
+     * Checks if a location is inside this region
+     */
+    public boolean contains(Location location) {
+        return location.getWorld() != null
+                && location.getWorld().getName().equals(worldName)
+                && shape.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public RegionShape getShape() {
+        return shape;
+    }
+}
@@ -0,0 +1,137 @@
+package me.bixgamer707.hordes.arena.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of arena regions bucketed by chunk
+ * A lookup is one map probe per world and chunk; exact containment only
+ * runs when the chunk overlaps an arena region
+ *
+ * The index is immutable once built and swapped as a whole on rebuild,
+ * so lookups never lock
+ */
+public class ArenaRegionIndex {
+
+    private static final ArenaRegion[] EMPTY = new ArenaRegion[0];
+
+    // World name -> chunk key -> regions overlapping that chunk
+    private volatile Map<String, Map<Long, ArenaRegion[]>> worlds;
+    private volatile int regionCount;
+
+    // ArenaID -> first region of that arena
+    private volatile Map<String, ArenaRegion> arenaRegions;
+
+    public ArenaRegionIndex() {
+        this.worlds = Map.of();
+        this.arenaRegions = Map.of();
+    }
+
+    /**
+     * Replaces the indexed regions
+     */
+    public void rebuild(Collection<ArenaRegion> regions) {
+        Map<String, Map<Long, List<ArenaRegion>>> buckets = new HashMap<>();
+        Map<String, ArenaRegion> byArena = new HashMap<>();
+
+        for (ArenaRegion region : regions) {
+            byArena.putIfAbsent(region.getArenaId(), region);
+
+            RegionShape shape = region.getShape();
+            Map<Long, List<ArenaRegion>> chunks =
+                    buckets.computeIfAbsent(region.getWorldName(), key -> new HashMap<>());
+
+            for (int cx = shape.getMinX() >> 4; cx <= shape.getMaxX() >> 4; cx++) {
+                for (int cz = shape.getMinZ() >> 4; cz <= shape.getMaxZ() >> 4; cz++) {
+                    chunks.computeIfAbsent(getChunkKey(cx, cz), key -> new ArrayList<>(1)).add(region);
+                }
+            }
+        }
+
+        Map<String, Map<Long, ArenaRegion[]>> built = new HashMap<>();
+        for (Map.Entry<String, Map<Long, List<ArenaRegion>>> world : buckets.entrySet()) {
+            Map<Long, ArenaRegion[]> chunks = new HashMap<>(world.getValue().size() * 2);
+            for (Map.Entry<Long, List<ArenaRegion>> chunk : world.getValue().entrySet()) {
+                chunks.put(chunk.getKey(), chunk.getValue().toArray(EMPTY));
+            }
+            built.put(world.getKey(), chunks);
+        }
+
+        this.worlds = built;
+        this.arenaRegions = byArena;
+        this.regionCount = regions.size();
+    }
+
+    /**
+     * Drops all regions
+     */
+    public void clear() {
+        this.worlds = Map.of();
+        this.arenaRegions = Map.of();
+        this.regionCount = 0;
+    }
+
+    /**
+     * Gets the region linked to an arena
+     *
+     * @return Region or null if the arena has none indexed
+     */
+    public ArenaRegion getArenaRegion(String arenaId) {
+        return arenaRegions.get(arenaId);
+    }
+
+    /**
+     * Gets the arena region at a location
+     *
+     * @return First matching region or null
+     */
+    public ArenaRegion getRegionAt(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return null;
+        }
+
+        Map<Long, ArenaRegion[]> chunks = worlds.get(world.getName());
+        if (chunks == null) {
+            return null;
+        }
+
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        ArenaRegion[] candidates = chunks.get(getChunkKey(x >> 4, z >> 4));
+        if (candidates == null) {
+            return null;
+        }
+
+        for (ArenaRegion region : candidates) {
+            if (region.getShape().contains(x, y, z)) {
+                return region;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets number of indexed regions
+     */
+    public int size() {
+        return regionCount;
+    }
+
+    public boolean isEmpty() {
+        return regionCount == 0;
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
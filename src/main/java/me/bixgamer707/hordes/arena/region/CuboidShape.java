@@ -0,0 +1,38 @@
+package me.bixgamer707.hordes.arena.region;
+
+/**
+ * Axis-aligned box
+ */
+public class CuboidShape implements RegionShape {
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public CuboidShape(int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX
+                && y >= minY && y <= maxY
+                && z >= minZ && z <= maxZ;
+    }
+
+    @Override
+    public int getMinX() { return minX; }
+
+    @Override
+    public int getMinZ() { return minZ; }
+
+    @Override
+    public int getMaxX() { return maxX; }
+
+    @Override
+    public int getMaxZ() { return maxZ; }
+}
@@ -0,0 +1,97 @@
+package me.bixgamer707.hordes.arena.region;
+
+/**
+ * Extruded polygon (2D outline between two heights)
+ * Points on the outline count as inside, same as WorldGuard
+ */
+public class PolygonShape implements RegionShape {
+
+    private final int[] xs;
+    private final int[] zs;
+    private final int minY, maxY;
+    private final int minX, minZ, maxX, maxZ;
+
+    public PolygonShape(int[] xs, int[] zs, int minY, int maxY) {
+        if (xs.length != zs.length || xs.length < 3) {
+            throw new IllegalArgumentException("Polygon needs at least 3 points");
+        }
+
+        this.xs = xs.clone();
+        this.zs = zs.clone();
+        this.minY = Math.min(minY, maxY);
+        this.maxY = Math.max(minY, maxY);
+
+        int lowX = Integer.MAX_VALUE, lowZ = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE, highZ = Integer.MIN_VALUE;
+        for (int i = 0; i < xs.length; i++) {
+            lowX = Math.min(lowX, xs[i]);
+            lowZ = Math.min(lowZ, zs[i]);
+            highX = Math.max(highX, xs[i]);
+            highZ = Math.max(highZ, zs[i]);
+        }
+
+        this.minX = lowX;
+        this.minZ = lowZ;
+        this.maxX = highX;
+        this.maxZ = highZ;
+    }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        if (y < minY || y > maxY || x < minX || x > maxX || z < minZ || z > maxZ) {
+            return false;
+        }
+
+        boolean inside = false;
+        int xOld = xs[xs.length - 1];
+        int zOld = zs[zs.length - 1];
+
+        for (int i = 0; i < xs.length; i++) {
+            int xNew = xs[i];
+            int zNew = zs[i];
+
+            if (xNew == x && zNew == z) {
+                return true;
+            }
+
+            int x1, z1, x2, z2;
+            if (xNew > xOld) {
+                x1 = xOld; z1 = zOld;
+                x2 = xNew; z2 = zNew;
+            } else {
+                x1 = xNew; z1 = zNew;
+                x2 = xOld; z2 = zOld;
+            }
+
+            if (x1 <= x && x <= x2) {
+                long cross = ((long) z - z1) * (x2 - x1) - ((long) z2 - z1) * (x - x1);
+
+                if (cross == 0) {
+                    // On an edge
+                    if ((z1 <= z) == (z <= z2)) {
+                        return true;
+                    }
+                } else if (cross < 0 && x1 != x) {
+                    inside = !inside;
+                }
+            }
+
+            xOld = xNew;
+            zOld = zNew;
+        }
+
+        return inside;
+    }
+
+    @Override
+    public int getMinX() { return minX; }
+
+    @Override
+    public int getMinZ() { return minZ; }
+
+    @Override
+    public int getMaxX() { return maxX; }
+
+    @Override
+    public int getMaxZ() { return maxZ; }
+}
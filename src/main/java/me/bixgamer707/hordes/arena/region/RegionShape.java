@@ -0,0 +1,21 @@
+package me.bixgamer707.hordes.arena.region;
+
+/**
+ * Block-precise area used by the arena region index
+ * Bounds are inclusive block coordinates
+ */
+public interface RegionShape {
+
+    /**
+     * Checks if a block position is inside the shape
+     */
+    boolean contains(int x, int y, int z);
+
+    int getMinX();
+
+    int getMinZ();
+
+    int getMaxX();
+
+    int getMaxZ();
+}
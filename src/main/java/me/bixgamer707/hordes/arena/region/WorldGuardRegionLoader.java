@@ -0,0 +1,99 @@
+package me.bixgamer707.hordes.arena.region;
+
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedPolygonalRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionContainer;
+import me.bixgamer707.hordes.Hordes;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies arena regions out of WorldGuard into Hordes shapes
+ * Only touched when WorldGuard is installed
+ */
+public final class WorldGuardRegionLoader {
+
+    private WorldGuardRegionLoader() {
+    }
+
+    /**
+     * Loads the shapes of all arena regions
+     *
+     * @param regionArenas RegionName -> ArenaID
+     * @return Regions found in any loaded world
+     */
+    public static List<ArenaRegion> load(Hordes plugin, Map<String, String> regionArenas) {
+        List<ArenaRegion> regions = new ArrayList<>();
+        if (regionArenas.isEmpty()) {
+            return regions;
+        }
+
+        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+
+        for (World world : Bukkit.getWorlds()) {
+            RegionManager manager = container.get(BukkitAdapter.adapt(world));
+            if (manager == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, String> entry : regionArenas.entrySet()) {
+                ProtectedRegion region = manager.getRegion(entry.getKey());
+                if (region == null) {
+                    continue;
+                }
+
+                RegionShape shape = toShape(region);
+                if (shape == null) {
+                    plugin.logWarning("Region " + entry.getKey() + " in " + world.getName()
+                            + " has no area and cannot be used by arena " + entry.getValue());
+                    continue;
+                }
+
+                regions.add(new ArenaRegion(entry.getValue(), entry.getKey(), world.getName(), shape));
+            }
+        }
+
+        return regions;
+    }
+
+    /**
+     * Converts a WorldGuard region
+     * Unknown region types fall back to their bounding box
+     */
+    private static RegionShape toShape(ProtectedRegion region) {
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+
+        if (region instanceof ProtectedPolygonalRegion) {
+            List<BlockVector2> points = region.getPoints();
+            int[] xs = new int[points.size()];
+            int[] zs = new int[points.size()];
+
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = points.get(i).getBlockX();
+                zs[i] = points.get(i).getBlockZ();
+            }
+
+            if (xs.length >= 3) {
+                return new PolygonShape(xs, zs, min.getBlockY(), max.getBlockY());
+            }
+        }
+
+        if (region instanceof ProtectedCuboidRegion || region.isPhysicalArea()) {
+            return new CuboidShape(min.getBlockX(), min.getBlockY(), min.getBlockZ(),
+                    max.getBlockX(), max.getBlockY(), max.getBlockZ());
+        }
+
+        return null;
+    }
+}
@@ -2,158 +2,227 @@ package me.bixgamer707.hordes.bossbar;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.player.HordePlayer;
+import me.bixgamer707.hordes.text.Text;
 import me.bixgamer707.hordes.wave.Wave;
 import org.bukkit.Bukkit;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages boss bars for arena wave progress
- * Shows current wave and mob count
+ * Shows current wave and mob count, plus optional personal bars
+ *
+ * Updates are coalesced: callers only mark an arena or player dirty and a
+ * single per-tick task pushes the fields that actually changed
  */
 public class BossBarManager {
 
     private final Hordes plugin;
-    
-    // Arena ID -> BossBar
-    private final Map<String, BossBar> arenaBars;
-    
+
+    // Arena ID -> ArenaBar
+    private final Map<String, ArenaBar> arenaBars;
+
     // Player UUID -> Arena ID
     private final Map<UUID, String> playerBars;
 
+    // Player UUID -> PersonalBar
+    private final Map<UUID, PersonalBar> personalBars;
+
+    // Pending updates (flushed once per tick)
+    private final Set<String> dirtyArenas;
+    private final Set<UUID> dirtyPlayers;
+
+    // Players with a running respawn timer
+    private final Set<UUID> respawningPlayers;
+
+    private BukkitTask updateTask;
+
+    // Templates (colorized once on load)
+    private String waitingTitle;
+    private String waveTitle;
+    private BarStyle barStyle;
+    private boolean personalEnabled;
+    private String killsTitle;
+    private String respawnTitle;
+
     public BossBarManager(Hordes plugin) {
         this.plugin = plugin;
-        this.arenaBars = new HashMap<>();
-        this.playerBars = new HashMap<>();
+        this.arenaBars = new ConcurrentHashMap<>();
+        this.playerBars = new ConcurrentHashMap<>();
+        this.personalBars = new ConcurrentHashMap<>();
+        this.dirtyArenas = ConcurrentHashMap.newKeySet();
+        this.dirtyPlayers = ConcurrentHashMap.newKeySet();
+        this.respawningPlayers = ConcurrentHashMap.newKeySet();
+
+        loadConfiguration();
     }
 
     /**
-     * Creates or updates boss bar for arena
+     * Loads title templates and style from config.yml
      */
-    public void updateBossBar(Arena arena) {
-        String arenaId = arena.getId();
-        BossBar bar = arenaBars.get(arenaId);
-        
-        // Create if doesn't exist
-        if (bar == null) {
-            bar = createBossBar(arena);
-            arenaBars.put(arenaId, bar);
+    private void loadConfiguration() {
+        File config = plugin.getFileManager().getConfig();
+
+        waitingTitle = Text.createText(config.getString("bossbar.titles.waiting",
+                "&e&lWaiting for wave...")).build();
+        waveTitle = Text.createText(config.getString("bossbar.titles.wave",
+                "&e&lWave {wave}/{total_waves} &7- &c{mobs_alive} &7mobs remaining")).build();
+
+        try {
+            barStyle = BarStyle.valueOf(config.getString("bossbar.style", "SEGMENTED_10").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.logWarning("Invalid boss bar style: " + config.getString("bossbar.style"));
+            barStyle = BarStyle.SEGMENTED_10;
         }
-        
-        // Update bar
-        updateBarContent(bar, arena);
+
+        personalEnabled = config.getBoolean("bossbar.personal.enabled", false);
+        killsTitle = Text.createText(config.getString("bossbar.personal.kills",
+                "&aYour kills: &f{kills}")).build();
+        respawnTitle = Text.createText(config.getString("bossbar.personal.respawn",
+                "&cRespawning in &f{seconds}s")).build();
     }
 
     /**
-     * Creates a boss bar for an arena
+     * Starts the update task
+     * Runs every tick but only touches dirty bars
      */
-    private BossBar createBossBar(Arena arena) {
-        String title = getBarTitle(arena);
-        BarColor color = getBarColor(arena);
-        
-        return Bukkit.createBossBar(
-            title,
-            color,
-            BarStyle.SEGMENTED_10
-        );
+    public void start() {
+        if (updateTask != null) {
+            return;
+        }
+
+        updateTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
     }
 
     /**
-     * Updates boss bar content
+     * Marks an arena bar for update on the next tick
+     *
+     * @param arena Arena whose state changed
      */
-    private void updateBarContent(BossBar bar, Arena arena) {
-        // Update title
-        bar.setTitle(getBarTitle(arena));
-        
-        // Update progress
-        bar.setProgress(getProgress(arena));
-        
-        // Update color
-        bar.setColor(getBarColor(arena));
+    public void markDirty(Arena arena) {
+        dirtyArenas.add(arena.getId());
     }
 
     /**
-     * Gets boss bar title
+     * Marks a personal bar for update on the next tick
+     *
+     * @param uuid Player UUID
      */
-    private String getBarTitle(Arena arena) {
-        Wave currentWave = arena.getCurrentWave();
-        
-        if (currentWave == null) {
-            return "§e§lWaiting for wave...";
+    public void markPlayerDirty(UUID uuid) {
+        if (personalEnabled) {
+            dirtyPlayers.add(uuid);
         }
-        
-        int waveNum = arena.getCurrentWaveNumber();
-        int totalWaves = arena.getConfig().getTotalWaves();
-        int mobsAlive = currentWave.getMobsAlive();
-        
-        return String.format("§e§lWave %d/%d §7- §c%d §7mobs remaining", 
-            waveNum, totalWaves, mobsAlive);
     }
 
     /**
-     * Calculates progress (0.0 to 1.0)
+     * Starts showing the respawn timer on a player's personal bar
+     *
+     * @param uuid Player UUID
      */
-    private double getProgress(Arena arena) {
-        Wave currentWave = arena.getCurrentWave();
-        
-        if (currentWave == null) {
-            return 1.0;
+    public void startRespawnTimer(UUID uuid) {
+        if (personalEnabled) {
+            respawningPlayers.add(uuid);
         }
-        
-        int mobsAlive = currentWave.getMobsAlive();
-        int totalMobs = currentWave.getTotalMobs();
-        
-        if (totalMobs == 0) {
-            return 1.0;
-        }
-        
-        // Progress is inverse (full bar = all alive, empty = all dead)
-        return (double) mobsAlive / totalMobs;
     }
 
     /**
-     * Gets bar color based on progress
+     * Pushes pending changes to the client
      */
-    private BarColor getBarColor(Arena arena) {
-        Wave currentWave = arena.getCurrentWave();
-        
-        if (currentWave == null) {
-            return BarColor.YELLOW;
+    private void flush() {
+        if (!dirtyArenas.isEmpty()) {
+            Iterator<String> iterator = dirtyArenas.iterator();
+            while (iterator.hasNext()) {
+                String arenaId = iterator.next();
+                iterator.remove();
+
+                Arena arena = plugin.getArenaManager().getArena(arenaId);
+                if (arena != null) {
+                    getOrCreate(arena).update(arena);
+                }
+            }
         }
-        
-        int mobsAlive = currentWave.getMobsAlive();
-        int totalMobs = currentWave.getTotalMobs();
-        
-        if (totalMobs == 0) {
-            return BarColor.GREEN;
+
+        if (!personalEnabled) {
+            return;
         }
-        
-        double percentage = (double) mobsAlive / totalMobs;
-        
-        if (percentage > 0.6) {
-            return BarColor.RED;      // Many mobs left
-        } else if (percentage > 0.3) {
-            return BarColor.YELLOW;   // Medium
-        } else {
-            return BarColor.GREEN;    // Almost done
+
+        if (!dirtyPlayers.isEmpty()) {
+            Iterator<UUID> iterator = dirtyPlayers.iterator();
+            while (iterator.hasNext()) {
+                UUID uuid = iterator.next();
+                iterator.remove();
+
+                PersonalBar bar = personalBars.get(uuid);
+                if (bar != null) {
+                    bar.update();
+                }
+            }
+        }
+
+        if (!respawningPlayers.isEmpty()) {
+            Iterator<UUID> iterator = respawningPlayers.iterator();
+            while (iterator.hasNext()) {
+                PersonalBar bar = personalBars.get(iterator.next());
+                if (bar == null || !bar.update()) {
+                    iterator.remove();
+                }
+            }
         }
     }
 
+    /**
+     * Creates or updates boss bar for arena
+     * Kept for callers that need the change visible immediately
+     */
+    public void updateBossBar(Arena arena) {
+        dirtyArenas.remove(arena.getId());
+        getOrCreate(arena).update(arena);
+    }
+
+    /**
+     * Gets the arena bar, creating it if needed
+     */
+    private ArenaBar getOrCreate(Arena arena) {
+        return arenaBars.computeIfAbsent(arena.getId(), id -> new ArenaBar(
+                Bukkit.createBossBar(waitingTitle, BarColor.YELLOW, barStyle)
+        ));
+    }
+
     /**
      * Shows boss bar to player
      */
-    public void showBossBar(Player player, String arenaId) {
-        BossBar bar = arenaBars.get(arenaId);
-        
-        if (bar != null && !bar.getPlayers().contains(player)) {
-            bar.addPlayer(player);
-            playerBars.put(player.getUniqueId(), arenaId);
+    public void showBossBar(Player player, Arena arena) {
+        ArenaBar arenaBar = getOrCreate(arena);
+        arenaBar.update(arena);
+
+        if (!arenaBar.bar.getPlayers().contains(player)) {
+            arenaBar.bar.addPlayer(player);
+        }
+        playerBars.put(player.getUniqueId(), arena.getId());
+
+        if (personalEnabled) {
+            PersonalBar personal = personalBars.computeIfAbsent(player.getUniqueId(), uuid -> new PersonalBar(
+                    uuid, arena, Bukkit.createBossBar(killsTitle, BarColor.GREEN, BarStyle.SOLID)
+            ));
+            personal.update();
+            personal.bar.addPlayer(player);
         }
     }
 
@@ -163,38 +232,269 @@ public class BossBarManager {
     public void hideBossBar(Player player) {
         UUID uuid = player.getUniqueId();
         String arenaId = playerBars.remove(uuid);
-        
+
         if (arenaId != null) {
-            BossBar bar = arenaBars.get(arenaId);
-            if (bar != null) {
-                bar.removePlayer(player);
+            ArenaBar arenaBar = arenaBars.get(arenaId);
+            if (arenaBar != null) {
+                arenaBar.bar.removePlayer(player);
             }
         }
+
+        removePersonalBar(uuid);
+    }
+
+    /**
+     * Removes a player's personal bar
+     */
+    private void removePersonalBar(UUID uuid) {
+        PersonalBar personal = personalBars.remove(uuid);
+        dirtyPlayers.remove(uuid);
+        respawningPlayers.remove(uuid);
+
+        if (personal != null) {
+            personal.bar.removeAll();
+        }
     }
 
     /**
      * Removes boss bar for arena
      */
     public void removeBossBar(String arenaId) {
-        BossBar bar = arenaBars.remove(arenaId);
-        
-        if (bar != null) {
-            bar.removeAll();
+        ArenaBar arenaBar = arenaBars.remove(arenaId);
+        dirtyArenas.remove(arenaId);
+
+        if (arenaBar != null) {
+            arenaBar.bar.removeAll();
         }
-        
+
         // Remove player mappings
         playerBars.entrySet().removeIf(entry -> entry.getValue().equals(arenaId));
+        personalBars.values().removeIf(personal -> {
+            if (personal.arena.getId().equals(arenaId)) {
+                personal.bar.removeAll();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Reloads templates from config
+     * Live bars get the new style now and are re-rendered on the next tick
+     */
+    public void reload() {
+        loadConfiguration();
+
+        for (Map.Entry<String, ArenaBar> entry : arenaBars.entrySet()) {
+            ArenaBar arenaBar = entry.getValue();
+            if (arenaBar.bar.getStyle() != barStyle) {
+                arenaBar.bar.setStyle(barStyle);
+            }
+            arenaBar.invalidate();
+            dirtyArenas.add(entry.getKey());
+        }
+
+        if (personalEnabled) {
+            for (Map.Entry<UUID, PersonalBar> entry : personalBars.entrySet()) {
+                entry.getValue().invalidate();
+                dirtyPlayers.add(entry.getKey());
+            }
+        } else {
+            for (PersonalBar personal : personalBars.values()) {
+                personal.bar.removeAll();
+            }
+            personalBars.clear();
+            dirtyPlayers.clear();
+            respawningPlayers.clear();
+        }
     }
 
     /**
      * Cleans up all boss bars
      */
     public void cleanup() {
-        for (BossBar bar : arenaBars.values()) {
-            bar.removeAll();
+        if (updateTask != null) {
+            updateTask.cancel();
+            updateTask = null;
+        }
+
+        for (ArenaBar arenaBar : arenaBars.values()) {
+            arenaBar.bar.removeAll();
+        }
+
+        for (PersonalBar personal : personalBars.values()) {
+            personal.bar.removeAll();
         }
-        
+
         arenaBars.clear();
         playerBars.clear();
+        personalBars.clear();
+        dirtyArenas.clear();
+        dirtyPlayers.clear();
+        respawningPlayers.clear();
+    }
+
+    /**
+     * Gets bar color based on remaining mobs
+     */
+    private static BarColor getBarColor(double percentage) {
+        if (percentage > 0.6) {
+            return BarColor.RED;      // Many mobs left
+        } else if (percentage > 0.3) {
+            return BarColor.YELLOW;   // Medium
+        } else {
+            return BarColor.GREEN;    // Almost done
+        }
+    }
+
+    /**
+     * Arena bar with the last values pushed to clients
+     * Only fields that differ from the cached values are sent
+     */
+    private class ArenaBar {
+
+        private final BossBar bar;
+
+        // Last rendered values (-1 forces a render)
+        private int lastWave = -1;
+        private int lastTotalWaves = -1;
+        private int lastMobsAlive = -1;
+        private int lastTotalMobs = -1;
+
+        ArenaBar(BossBar bar) {
+            this.bar = bar;
+        }
+
+        /**
+         * Forces the next update to re-render every field
+         */
+        void invalidate() {
+            lastWave = -1;
+            lastTotalWaves = -1;
+            lastMobsAlive = -1;
+            lastTotalMobs = -1;
+        }
+
+        void update(Arena arena) {
+            Wave currentWave = arena.getCurrentWave();
+
+            // Wave 0 renders the waiting title
+            int wave = currentWave != null ? arena.getCurrentWaveNumber() : 0;
+            int totalWaves = arena.getConfig().getTotalWaves();
+            int mobsAlive = currentWave != null ? currentWave.getMobsAlive() : 0;
+            int totalMobs = currentWave != null ? currentWave.getTotalMobs() : 0;
+
+            if (wave == lastWave && totalWaves == lastTotalWaves
+                    && mobsAlive == lastMobsAlive && totalMobs == lastTotalMobs) {
+                return;
+            }
+
+            // Title
+            if (wave == 0) {
+                bar.setTitle(waitingTitle);
+            } else {
+                bar.setTitle(waveTitle
+                        .replace("{wave}", String.valueOf(wave))
+                        .replace("{total_waves}", String.valueOf(totalWaves))
+                        .replace("{mobs_alive}", String.valueOf(mobsAlive))
+                        .replace("{total_mobs}", String.valueOf(totalMobs)));
+            }
+
+            // Progress (full bar = all alive, empty = all dead)
+            double progress = wave == 0 || totalMobs == 0 ? 1.0 : (double) mobsAlive / totalMobs;
+            progress = Math.max(0.0, Math.min(1.0, progress));
+            if (bar.getProgress() != progress) {
+                bar.setProgress(progress);
+            }
+
+            // Color
+            BarColor color;
+            if (wave == 0) {
+                color = BarColor.YELLOW;
+            } else if (totalMobs == 0) {
+                color = BarColor.GREEN;
+            } else {
+                color = getBarColor(progress);
+            }
+            if (bar.getColor() != color) {
+                bar.setColor(color);
+            }
+
+            lastWave = wave;
+            lastTotalWaves = totalWaves;
+            lastMobsAlive = mobsAlive;
+            lastTotalMobs = totalMobs;
+        }
+    }
+
+    /**
+     * Per-player bar showing personal kills or the respawn timer
+     */
+    private class PersonalBar {
+
+        private final UUID uuid;
+        private final Arena arena;
+        private final BossBar bar;
+
+        // Last rendered values (-1 forces a render)
+        private int lastKills = -1;
+        private int lastRespawnSeconds = -1;
+
+        PersonalBar(UUID uuid, Arena arena, BossBar bar) {
+            this.uuid = uuid;
+            this.arena = arena;
+            this.bar = bar;
+        }
+
+        /**
+         * Forces the next update to re-render the title
+         */
+        void invalidate() {
+            lastKills = -1;
+            lastRespawnSeconds = -1;
+        }
+
+        /**
+         * Updates the bar
+         *
+         * @return true while the respawn timer is still running
+         */
+        boolean update() {
+            HordePlayer hordePlayer = arena.getHordePlayer(uuid);
+            if (hordePlayer == null) {
+                return false;
+            }
+
+            long respawnAt = hordePlayer.getRespawnAt();
+            long remaining = respawnAt - System.currentTimeMillis();
+
+            if (respawnAt > 0 && remaining > 0) {
+                int seconds = (int) ((remaining + 999) / 1000);
+                if (seconds != lastRespawnSeconds) {
+                    bar.setTitle(respawnTitle.replace("{seconds}", String.valueOf(seconds)));
+                    if (bar.getColor() != BarColor.RED) {
+                        bar.setColor(BarColor.RED);
+                    }
+                    lastRespawnSeconds = seconds;
+                    lastKills = -1;
+                }
+
+                double progress = Math.min(1.0, (double) remaining / hordePlayer.getRespawnDelay());
+                bar.setProgress(Math.max(0.0, progress));
+                return true;
+            }
+
+            int kills = hordePlayer.getKills();
+            if (kills != lastKills) {
+                bar.setTitle(killsTitle.replace("{kills}", String.valueOf(kills)));
+                if (lastRespawnSeconds != -1 || lastKills == -1) {
+                    bar.setColor(BarColor.GREEN);
+                    bar.setProgress(1.0);
+                }
+                lastKills = kills;
+                lastRespawnSeconds = -1;
+            }
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
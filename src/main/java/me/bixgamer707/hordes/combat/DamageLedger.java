@@ -0,0 +1,266 @@
+package me.bixgamer707.hordes.combat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Damage dealt to arena mobs during one arena run
+ *
+ * Players get a run-local slot when they join. Each mob owns a primitive
+ * array of damage per slot, allocated when it spawns, so recording a hit
+ * is two array writes and no allocation. When a mob dies its damage is
+ * turned into contribution (share of the mob's damage) and assists
+ *
+ * Main thread only
+ */
+public class DamageLedger {
+
+    private static final double[] NO_DAMAGE = new double[0];
+
+    // Minimum share of a mob's damage that counts as an assist
+    private double assistThreshold;
+
+    // Mob UUID -> damage per player slot
+    private final Map<UUID, double[]> mobDamage;
+
+    // Player UUID -> slot
+    private final Map<UUID, Integer> slots;
+
+    // Per slot, indexed by slot
+    private UUID[] slotOwners;
+    private double[] totalDamage;
+    private double[] contribution;
+    private int[] assists;
+    private long[] activeSince;
+
+    private int slotCount;
+    private long runStart;
+
+    public DamageLedger(int expectedPlayers, double assistThreshold) {
+        this.assistThreshold = assistThreshold;
+        this.mobDamage = new HashMap<>();
+        this.slots = new HashMap<>();
+        allocate(Math.max(1, expectedPlayers));
+    }
+
+    private void allocate(int capacity) {
+        this.slotOwners = new UUID[capacity];
+        this.totalDamage = new double[capacity];
+        this.contribution = new double[capacity];
+        this.assists = new int[capacity];
+        this.activeSince = new long[capacity];
+        this.slotCount = 0;
+    }
+
+    /**
+     * Gets or assigns a player's slot
+     * Rejoining players keep their slot for the rest of the run
+     */
+    public int assignSlot(UUID player) {
+        Integer existing = slots.get(player);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (slotCount == slotOwners.length) {
+            int capacity = slotOwners.length * 2;
+            slotOwners = Arrays.copyOf(slotOwners, capacity);
+            totalDamage = Arrays.copyOf(totalDamage, capacity);
+            contribution = Arrays.copyOf(contribution, capacity);
+            assists = Arrays.copyOf(assists, capacity);
+            activeSince = Arrays.copyOf(activeSince, capacity);
+        }
+
+        int slot = slotCount++;
+        slotOwners[slot] = player;
+        activeSince[slot] = runStart > 0 ? System.currentTimeMillis() : 0;
+        slots.put(player, slot);
+        return slot;
+    }
+
+    /**
+     * Gets a player's slot
+     *
+     * @return Slot or -1 if the player has none
+     */
+    public int getSlot(UUID player) {
+        Integer slot = slots.get(player);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Marks the start of combat, used as the DPS time base
+     */
+    public void start() {
+        runStart = System.currentTimeMillis();
+        for (int i = 0; i < slotCount; i++) {
+            activeSince[i] = runStart;
+        }
+    }
+
+    /**
+     * Starts tracking a spawned mob
+     */
+    public void registerMob(UUID mob) {
+        mobDamage.put(mob, new double[slotOwners.length]);
+    }
+
+    /**
+     * Records damage dealt by a player slot to a mob
+     * Ignores mobs that are not tracked
+     */
+    public void record(UUID mob, int slot, double damage) {
+        if (slot < 0 || damage <= 0) {
+            return;
+        }
+
+        double[] damageBySlot = mobDamage.getOrDefault(mob, NO_DAMAGE);
+        if (damageBySlot == NO_DAMAGE) {
+            return;
+        }
+
+        if (slot >= damageBySlot.length) {
+            // Slot joined after the mob spawned
+            damageBySlot = Arrays.copyOf(damageBySlot, slotOwners.length);
+            mobDamage.put(mob, damageBySlot);
+        }
+
+        damageBySlot[slot] += damage;
+        totalDamage[slot] += damage;
+    }
+
+    /**
+     * Settles a dead mob: adds each player's share to their contribution
+     * and counts assists for everyone but the killer above the threshold
+     *
+     * @param mob Dead mob
+     * @param killerSlot Slot of the killer or -1
+     * @return Players credited with an assist
+     */
+    public List<UUID> settleMob(UUID mob, int killerSlot) {
+        double[] damageBySlot = mobDamage.remove(mob);
+        if (damageBySlot == null) {
+            return List.of();
+        }
+
+        double total = 0;
+        for (double damage : damageBySlot) {
+            total += damage;
+        }
+
+        if (total <= 0) {
+            return List.of();
+        }
+
+        List<UUID> assisted = null;
+
+        for (int slot = 0; slot < damageBySlot.length; slot++) {
+            if (damageBySlot[slot] <= 0) {
+                continue;
+            }
+
+            double share = damageBySlot[slot] / total;
+            contribution[slot] += share;
+
+            if (slot != killerSlot && share >= assistThreshold) {
+                assists[slot]++;
+                if (assisted == null) {
+                    assisted = new ArrayList<>(2);
+                }
+                assisted.add(slotOwners[slot]);
+            }
+        }
+
+        return assisted != null ? assisted : List.of();
+    }
+
+    /**
+     * Stops tracking a mob without crediting anyone (despawn, cleanup)
+     */
+    public void forgetMob(UUID mob) {
+        mobDamage.remove(mob);
+    }
+
+    /**
+     * Gets every player that had a slot this run
+     */
+    public List<UUID> getPlayers() {
+        return Arrays.asList(Arrays.copyOf(slotOwners, slotCount));
+    }
+
+    /**
+     * Gets total damage a player dealt to arena mobs this run
+     */
+    public double getDamage(UUID player) {
+        int slot = getSlot(player);
+        return slot >= 0 ? totalDamage[slot] : 0;
+    }
+
+    /**
+     * Gets a player's damage per second since combat started
+     */
+    public double getDps(UUID player) {
+        int slot = getSlot(player);
+        if (slot < 0 || runStart == 0) {
+            return 0;
+        }
+
+        long since = Math.max(activeSince[slot], runStart);
+        double seconds = Math.max(1.0, (System.currentTimeMillis() - since) / 1000.0);
+        return totalDamage[slot] / seconds;
+    }
+
+    /**
+     * Gets a player's assists this run
+     */
+    public int getAssists(UUID player) {
+        int slot = getSlot(player);
+        return slot >= 0 ? assists[slot] : 0;
+    }
+
+    /**
+     * Gets a player's contribution: the sum of their shares of every dead mob
+     * (1.0 = one whole mob)
+     */
+    public double getContribution(UUID player) {
+        int slot = getSlot(player);
+        return slot >= 0 ? contribution[slot] : 0;
+    }
+
+    /**
+     * Gets a player's share of all damage dealt this run
+     *
+     * @return Percentage between 0 and 100
+     */
+    public double getDamageShare(UUID player) {
+        int slot = getSlot(player);
+        if (slot < 0) {
+            return 0;
+        }
+
+        double total = 0;
+        for (int i = 0; i < slotCount; i++) {
+            total += totalDamage[i];
+        }
+
+        return total > 0 ? totalDamage[slot] * 100.0 / total : 0;
+    }
+
+    public void setAssistThreshold(double assistThreshold) {
+        this.assistThreshold = assistThreshold;
+    }
+
+    /**
+     * Clears everything for the next run
+     */
+    public void reset(int expectedPlayers) {
+        mobDamage.clear();
+        slots.clear();
+        runStart = 0;
+        allocate(Math.max(1, expectedPlayers));
+    }
+}
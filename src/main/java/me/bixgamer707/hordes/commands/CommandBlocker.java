@@ -0,0 +1,192 @@
+package me.bixgamer707.hordes.commands;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.file.File;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which commands players may use inside arenas
+ *
+ * Allow and block lists from config.yml are compiled into command tries
+ * on load and reload. Every entry is also added under all aliases of its
+ * command, so blocking "/tp" blocks "/teleport" too
+ *
+ * Profiles under commands.profiles add entries on top of the global lists
+ * and are picked per arena with "command-profile" in arenas.yml
+ */
+public class CommandBlocker {
+
+    private final Hordes plugin;
+
+    // Global lists only
+    private volatile CommandTrie defaultTrie;
+
+    // Profile name -> global lists + profile lists
+    private final Map<String, CommandTrie> profiles;
+
+    public CommandBlocker(Hordes plugin) {
+        this.plugin = plugin;
+        this.defaultTrie = new CommandTrie();
+        this.profiles = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compiles the lists now and again once all plugins are enabled,
+     * so aliases of commands registered after Hordes are known
+     */
+    public void start() {
+        compile();
+        Bukkit.getScheduler().runTask(plugin, this::compile);
+    }
+
+    /**
+     * Compiles all lists from config.yml
+     */
+    public void compile() {
+        File config = plugin.getFileManager().getConfig();
+        Map<String, List<String>> aliases = collectAliases();
+
+        CommandTrie global = new CommandTrie();
+        addGlobalEntries(global, config, aliases);
+
+        Map<String, CommandTrie> compiled = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("commands.profiles");
+
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                CommandTrie trie = new CommandTrie();
+                addGlobalEntries(trie, config, aliases);
+                addEntries(trie, section.getStringList(name + ".blocked-commands"), false, aliases);
+                addEntries(trie, section.getStringList(name + ".allowed-commands"), true, aliases);
+                compiled.put(name.toLowerCase(Locale.ROOT), trie);
+            }
+        }
+
+        defaultTrie = global;
+        profiles.clear();
+        profiles.putAll(compiled);
+    }
+
+    /**
+     * Adds the global lists and the leave command allowance
+     */
+    private void addGlobalEntries(CommandTrie trie, File config, Map<String, List<String>> aliases) {
+        addEntries(trie, config.getStringList("commands.blocked-commands"), false, aliases);
+        addEntries(trie, config.getStringList("commands.allowed-commands"), true, aliases);
+
+        if (config.getBoolean("commands.allow-leave-command", true)) {
+            addEntries(trie, List.of("/hordes leave"), true, aliases);
+        }
+    }
+
+    /**
+     * Adds entries under every label of their command
+     */
+    private void addEntries(CommandTrie trie, List<String> entries, boolean allowed,
+                            Map<String, List<String>> aliases) {
+        for (String entry : entries) {
+            String[] words = CommandTrie.split(entry);
+            if (words.length == 0 || words[0].isEmpty()) {
+                continue;
+            }
+
+            String rest = joinFrom(words, 1);
+
+            List<String> labels = aliases.getOrDefault(words[0], List.of(words[0]));
+            for (String label : labels) {
+                trie.put(rest.isEmpty() ? label : label + " " + rest, allowed);
+            }
+        }
+    }
+
+    private static String joinFrom(String[] words, int start) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = start; i < words.length; i++) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(words[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Groups the labels of the command map by command
+     *
+     * @return Label -> every label of the same command
+     */
+    private Map<String, List<String>> collectAliases() {
+        Map<Command, List<String>> byCommand = new IdentityHashMap<>();
+
+        try {
+            for (Map.Entry<String, Command> entry : Bukkit.getCommandMap().getKnownCommands().entrySet()) {
+                String label = entry.getKey().toLowerCase(Locale.ROOT);
+                if (label.indexOf(':') >= 0 || entry.getValue() == null) {
+                    continue;
+                }
+                byCommand.computeIfAbsent(entry.getValue(), key -> new ArrayList<>(2)).add(label);
+            }
+        } catch (Exception e) {
+            plugin.logWarning("Could not read command aliases: " + e.getMessage());
+        }
+
+        Map<String, List<String>> aliases = new HashMap<>();
+        for (List<String> labels : byCommand.values()) {
+            for (String label : labels) {
+                aliases.put(label, labels);
+            }
+        }
+        return aliases;
+    }
+
+    /**
+     * Checks if a player in an arena may run a command
+     *
+     * @param arena Arena of the player
+     * @param commandLine Raw command line with leading slash
+     * @return True if allowed
+     */
+    public boolean isAllowed(Arena arena, String commandLine) {
+        Boolean verdict = getTrie(arena).match(commandLine);
+        return verdict == null || verdict;
+    }
+
+    /**
+     * Gets the compiled trie for an arena
+     */
+    private CommandTrie getTrie(Arena arena) {
+        String profile = arena.getConfig().getCommandProfile();
+        if (profile != null) {
+            CommandTrie trie = profiles.get(profile.toLowerCase(Locale.ROOT));
+            if (trie != null) {
+                return trie;
+            }
+        }
+        return defaultTrie;
+    }
+
+    /**
+     * Checks if a command profile exists
+     */
+    public boolean hasProfile(String name) {
+        return name != null && profiles.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Recompiles after config reload
+     */
+    public void reload() {
+        compile();
+    }
+}
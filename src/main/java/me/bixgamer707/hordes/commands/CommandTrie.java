@@ -0,0 +1,129 @@
+package me.bixgamer707.hordes.commands;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive prefix trie over command words
+ * Entries match whole words only, so "/spawn" never matches "/spawnpoint"
+ * The longest matching entry decides the verdict
+ */
+public class CommandTrie {
+
+    private final Node root;
+
+    public CommandTrie() {
+        this.root = new Node();
+    }
+
+    /**
+     * Adds an entry, replacing any verdict already set for the same words
+     *
+     * @param entry Command with or without leading slash, "*" matches every command
+     * @param allowed True to allow, false to block
+     */
+    public void put(String entry, boolean allowed) {
+        String[] words = split(entry);
+
+        if (words.length == 1 && words[0].equals("*")) {
+            root.verdict = allowed;
+            return;
+        }
+
+        Node node = root;
+        for (String word : words) {
+            node = node.children.computeIfAbsent(word, key -> new Node());
+        }
+
+        if (node != root) {
+            node.verdict = allowed;
+        }
+    }
+
+    /**
+     * Finds the verdict for a command line
+     * Namespaced labels ("plugin:command") are matched by their plain label
+     *
+     * @param commandLine Raw command, with or without leading slash
+     * @return True if allowed, false if blocked, null if no entry matches
+     */
+    public Boolean match(String commandLine) {
+        Boolean verdict = root.verdict;
+        Node node = root;
+
+        int length = commandLine.length();
+        int index = commandLine.startsWith("/") ? 1 : 0;
+        boolean first = true;
+
+        while (index < length) {
+            while (index < length && commandLine.charAt(index) == ' ') {
+                index++;
+            }
+
+            int end = commandLine.indexOf(' ', index);
+            if (end < 0) {
+                end = length;
+            }
+
+            if (index >= end) {
+                break;
+            }
+
+            String word = commandLine.substring(index, end).toLowerCase(Locale.ROOT);
+            if (first) {
+                word = stripNamespace(word);
+                first = false;
+            }
+
+            node = node.children.get(word);
+            if (node == null) {
+                break;
+            }
+
+            if (node.verdict != null) {
+                verdict = node.verdict;
+            }
+
+            index = end;
+        }
+
+        return verdict;
+    }
+
+    /**
+     * Checks if the trie has no entries
+     */
+    public boolean isEmpty() {
+        return root.verdict == null && root.children.isEmpty();
+    }
+
+    /**
+     * Removes the namespace of a label ("essentials:spawn" -> "spawn")
+     */
+    static String stripNamespace(String label) {
+        int colon = label.indexOf(':');
+        return colon >= 0 ? label.substring(colon + 1) : label;
+    }
+
+    /**
+     * Splits an entry into lowercase words
+     */
+    static String[] split(String entry) {
+        String trimmed = entry.trim();
+        if (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+
+        String[] words = trimmed.toLowerCase(Locale.ROOT).split("\\s+");
+        if (words.length > 0) {
+            words[0] = stripNamespace(words[0]);
+        }
+        return words;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private Boolean verdict;
+    }
+}
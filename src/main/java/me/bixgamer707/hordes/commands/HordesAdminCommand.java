@@ -261,6 +261,8 @@ public class HordesAdminCommand implements CommandExecutor, TabCompleter {
         boolean success = spawnManager.setSpawn(arenaId, spawnType, loc);
         
         if (success) {
+            arenaManager.reloadArena(arenaId);
+            
             // Show success message using optimized list
             sendMessageListWithReplacements(sender, "admin.setspawn",
                 arenaId,                                    // {0}
@@ -5,6 +5,7 @@ import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.arena.ArenaManager;
 import me.bixgamer707.hordes.gui.player.ArenaInfoGUI;
 import me.bixgamer707.hordes.gui.player.ArenaSelectionGUI;
+import me.bixgamer707.hordes.gui.player.RewardMailboxGUI;
 import me.bixgamer707.hordes.statistics.PlayerStatistics;
 import me.bixgamer707.hordes.text.Text;
 import org.bukkit.command.Command;
@@ -20,7 +21,7 @@ import java.util.stream.Collectors;
 
 /**
  * Main command handler for player commands
- * Handles: join, leave, list, info, stats
+ * Handles: join, leave, list, info, stats, top, gui, claim
  *
  * Includes intelligent tab completion
  */
@@ -30,7 +31,7 @@ public class HordesCommand implements CommandExecutor, TabCompleter {
     private final ArenaManager arenaManager;
     
     private static final List<String> SUBCOMMANDS = Arrays.asList(
-        "join", "leave", "list", "info", "stats", "top", "gui", "menu"
+        "join", "leave", "list", "info", "stats", "top", "gui", "menu", "claim"
     );
 
     public HordesCommand(Hordes plugin) {
@@ -71,6 +72,9 @@ public class HordesCommand implements CommandExecutor, TabCompleter {
             case "menu":
                 return handleGUI(sender, args);
                 
+            case "claim":
+                return handleClaim(sender, args);
+                
             case "help":
                 sendHelp(sender);
                 return true;
@@ -410,6 +414,41 @@ public class HordesCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * Handles /hordes claim
+     * Opens the reward mailbox GUI
+     */
+    private boolean handleClaim(CommandSender sender, String[] args) {
+        // Must be a player
+        if (!(sender instanceof Player)) {
+            sendMessage(sender, "commands.player-only");
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        
+        // Check permission
+        if (!player.hasPermission("hordes.claim")) {
+            sendMessage(sender, "commands.no-permission");
+            return true;
+        }
+        
+        if (plugin.getRewardManager().getClaimableCount(player.getUniqueId()) == 0) {
+            sendMessage(sender, "mailbox.empty");
+            return true;
+        }
+        
+        // Rewards claimed in an arena would be lost on restore
+        if (!plugin.getRewardManager().canClaim(player)) {
+            sendMessage(sender, "mailbox.in-arena");
+            return true;
+        }
+        
+        new RewardMailboxGUI(plugin, player).open();
+        
+        return true;
+    }
+
     /**
      * Sends help message
      */
@@ -1,9 +1,10 @@
 package me.bixgamer707.hordes.config;
 
+import me.bixgamer707.hordes.arena.region.CuboidShape;
+import me.bixgamer707.hordes.rewards.RewardBundle;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
@@ -30,6 +31,11 @@ public class ArenaConfig {
     private Location arenaSpawn;
     private Location exitLocation;
     
+    // Locations tal como están en config (sin mundo resuelto)
+    private LocationSpec lobbySpawnSpec;
+    private LocationSpec arenaSpawnSpec;
+    private LocationSpec exitLocationSpec;
+    
     // Waves
     private int totalWaves;
     private int waveDelay; // segundos entre waves
@@ -58,6 +64,12 @@ public class ArenaConfig {
     // WorldGuard (opcional)
     private String worldGuardRegion;
     
+    // Perfil de comandos (opcional, commands.profiles en config.yml)
+    private String commandProfile;
+    
+    // Límites para los mobs (opcional, si no se usa la región de WorldGuard)
+    private CuboidShape bounds;
+    
     public ArenaConfig(String id) {
         this.id = id;
         this.enabled = true;
@@ -80,8 +92,19 @@ public class ArenaConfig {
 
     /**
      * Carga la configuración desde un ConfigurationSection
+     * Debe llamarse desde el hilo principal
      */
     public static ArenaConfig load(String id, ConfigurationSection section) {
+        ArenaConfig config = parse(id, section);
+        config.resolveLocations();
+        return config;
+    }
+
+    /**
+     * Lee la configuración sin resolver mundos
+     * Seguro fuera del hilo principal; luego llamar a resolveLocations()
+     */
+    public static ArenaConfig parse(String id, ConfigurationSection section) {
         ArenaConfig config = new ArenaConfig(id);
         
         if (section == null) {
@@ -98,9 +121,9 @@ public class ArenaConfig {
         config.maxPlayers = section.getInt("max-players", 4);
         
         // Locations
-        config.lobbySpawn = loadLocation(section.getConfigurationSection("lobby-spawn"));
-        config.arenaSpawn = loadLocation(section.getConfigurationSection("arena-spawn"));
-        config.exitLocation = loadLocation(section.getConfigurationSection("exit-location"));
+        config.lobbySpawnSpec = LocationSpec.of(section.getConfigurationSection("lobby-spawn"));
+        config.arenaSpawnSpec = LocationSpec.of(section.getConfigurationSection("arena-spawn"));
+        config.exitLocationSpec = LocationSpec.of(section.getConfigurationSection("exit-location"));
         
         // Waves
         config.totalWaves = section.getInt("waves", 5);
@@ -125,6 +148,12 @@ public class ArenaConfig {
         // WorldGuard
         config.worldGuardRegion = section.getString("worldguard-region");
         
+        // Comandos
+        config.commandProfile = section.getString("command-profile");
+        
+        // Límites
+        config.bounds = loadBounds(section.getConfigurationSection("bounds"));
+        
         // Survival Mode
         config.survivalMode = SurvivalModeConfig.load(
             section.getConfigurationSection("survival-mode")
@@ -149,31 +178,33 @@ public class ArenaConfig {
     }
 
     /**
-     * Carga una Location desde configuración
+     * Resuelve los mundos de las locations
+     * Debe llamarse desde el hilo principal
+     */
+    public void resolveLocations() {
+        lobbySpawn = lobbySpawnSpec != null ? lobbySpawnSpec.resolve() : null;
+        arenaSpawn = arenaSpawnSpec != null ? arenaSpawnSpec.resolve() : null;
+        exitLocation = exitLocationSpec != null ? exitLocationSpec.resolve() : null;
+    }
+
+    /**
+     * Carga una caja de límites (min/max) desde configuración
      */
-    private static Location loadLocation(ConfigurationSection section) {
+    private static CuboidShape loadBounds(ConfigurationSection section) {
         if (section == null) return null;
         
-        try {
-            String worldName = section.getString("world");
-            World world = Bukkit.getWorld(worldName);
-            
-            if (world == null) {
-                Bukkit.getLogger().warning("[Hordes] Mundo no encontrado: " + worldName);
-                return null;
-            }
-            
-            double x = section.getDouble("x");
-            double y = section.getDouble("y");
-            double z = section.getDouble("z");
-            float yaw = (float) section.getDouble("yaw", 0);
-            float pitch = (float) section.getDouble("pitch", 0);
-            
-            return new Location(world, x, y, z, yaw, pitch);
-        } catch (Exception e) {
-            Bukkit.getLogger().severe("[Hordes] Error cargando location: " + e.getMessage());
+        ConfigurationSection min = section.getConfigurationSection("min");
+        ConfigurationSection max = section.getConfigurationSection("max");
+        
+        if (min == null || max == null) {
+            Bukkit.getLogger().warning("[Hordes] bounds necesita min y max");
             return null;
         }
+        
+        return new CuboidShape(
+            min.getInt("x"), min.getInt("y"), min.getInt("z"),
+            max.getInt("x"), max.getInt("y"), max.getInt("z")
+        );
     }
 
     /**
@@ -239,6 +270,8 @@ public class ArenaConfig {
     public RewardConfig getRewardConfig() { return rewardConfig; }
     public String getWorldGuardRegion() { return worldGuardRegion; }
     public boolean hasWorldGuardRegion() { return worldGuardRegion != null; }
+    public String getCommandProfile() { return commandProfile; }
+    public CuboidShape getBounds() { return bounds; }
 
     /**
      * Configuración del modo survival
@@ -384,6 +417,7 @@ public class ArenaConfig {
         private List<String> items;
         private List<String> commands;
         private double progressiveMultiplier; // Por cada wave completada
+        private RewardBundle bundle; // Compilado al cargar
         
         public RewardConfig() {
             this.enabled = true;
@@ -392,6 +426,7 @@ public class ArenaConfig {
             this.items = new ArrayList<>();
             this.commands = new ArrayList<>();
             this.progressiveMultiplier = 0.1;
+            this.bundle = RewardBundle.EMPTY;
         }
         
         public static RewardConfig load(ConfigurationSection section) {
@@ -412,6 +447,8 @@ public class ArenaConfig {
                 config.type = RewardType.COMPLETION_ONLY;
             }
             
+            config.bundle = RewardBundle.compile(config.money, config.items, config.commands);
+            
             return config;
         }
 
@@ -426,5 +463,6 @@ public class ArenaConfig {
         public List<String> getItems() { return new ArrayList<>(items); }
         public List<String> getCommands() { return new ArrayList<>(commands); }
         public double getProgressiveMultiplier() { return progressiveMultiplier; }
+        public RewardBundle getBundle() { return bundle; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package me.bixgamer707.hordes.config;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Map;
+
+/**
+ * A location as written in config, not yet bound to a world
+ * Parsed off the main thread; resolve() binds it on the main thread
+ */
+public final class LocationSpec {
+
+    private final String worldName;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float yaw;
+    private final float pitch;
+
+    public LocationSpec(String worldName, double x, double y, double z, float yaw, float pitch) {
+        this.worldName = worldName;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.yaw = yaw;
+        this.pitch = pitch;
+    }
+
+    /**
+     * Reads a location section (world, x, y, z, yaw, pitch)
+     *
+     * @return Spec or null if the section or its world is missing
+     */
+    public static LocationSpec of(ConfigurationSection section) {
+        if (section == null || section.getString("world") == null) {
+            return null;
+        }
+
+        return new LocationSpec(section.getString("world"),
+                section.getDouble("x"), section.getDouble("y"), section.getDouble("z"),
+                (float) section.getDouble("yaw", 0), (float) section.getDouble("pitch", 0));
+    }
+
+    /**
+     * Reads a location from a map list entry
+     *
+     * @return Spec or null if the world is missing
+     */
+    public static LocationSpec of(Map<?, ?> map) {
+        Object world = map.get("world");
+        if (!(world instanceof String)) {
+            return null;
+        }
+
+        return new LocationSpec((String) world,
+                number(map, "x", 0), number(map, "y", 64), number(map, "z", 0),
+                (float) number(map, "yaw", 0), (float) number(map, "pitch", 0));
+    }
+
+    /**
+     * Snaps a location to its block, keeping the view rounded to 0.1
+     * (the format the spawn editors have always written)
+     */
+    public static LocationSpec ofBlock(Location location) {
+        return new LocationSpec(location.getWorld().getName(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ(),
+                Math.round(location.getYaw() * 10f) / 10f, Math.round(location.getPitch() * 10f) / 10f);
+    }
+
+    /**
+     * Writes the spec as a location section
+     */
+    public void writeTo(ConfigurationSection section) {
+        section.set("world", worldName);
+        section.set("x", x);
+        section.set("y", y);
+        section.set("z", z);
+        // Through the float's own text so 12.3f is written as 12.3
+        section.set("yaw", Double.parseDouble(Float.toString(yaw)));
+        section.set("pitch", Double.parseDouble(Float.toString(pitch)));
+    }
+
+    private static double number(Map<?, ?> map, String key, double defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    /**
+     * Binds the spec to its world
+     * Must be called from the main thread
+     *
+     * @return Location or null if the world is not loaded
+     */
+    public Location resolve() {
+        World world = Bukkit.getWorld(worldName);
+
+        if (world == null) {
+            Bukkit.getLogger().warning("[Hordes] World not found: " + worldName);
+            return null;
+        }
+
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+}
@@ -0,0 +1,57 @@
+package me.bixgamer707.hordes.config;
+
+/**
+ * Puntos de spawn editables de una arena
+ */
+public enum SpawnType {
+    /**
+     * Donde esperan los jugadores antes de empezar
+     */
+    LOBBY("lobby", "lobby-spawn"),
+    
+    /**
+     * Donde empiezan los jugadores al iniciar la arena
+     */
+    ARENA("arena", "arena-spawn"),
+    
+    /**
+     * Donde salen los jugadores al terminar o abandonar
+     */
+    EXIT("exit", "exit-location");
+    
+    private final String key;
+    private final String path;
+    
+    SpawnType(String key, String path) {
+        this.key = key;
+        this.path = path;
+    }
+    
+    /**
+     * Nombre usado en comandos y GUIs
+     */
+    public String getKey() {
+        return key;
+    }
+    
+    /**
+     * Ruta dentro de la sección de la arena en arenas.yml
+     */
+    public String getPath() {
+        return path;
+    }
+    
+    /**
+     * Busca un tipo por su nombre
+     * 
+     * @return Tipo o null si no existe
+     */
+    public static SpawnType fromKey(String key) {
+        for (SpawnType type : values()) {
+            if (type.key.equalsIgnoreCase(key)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
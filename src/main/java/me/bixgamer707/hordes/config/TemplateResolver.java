@@ -0,0 +1,152 @@
+package me.bixgamer707.hordes.config;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flattens config sections that inherit from named templates
+ *
+ * A section (or any section nested in it) may declare
+ * {@code extends: name} or {@code extends: [a, b]}. Parents are merged
+ * first, in order, then the section's own keys: nested sections merge
+ * key by key, everything else (lists included) is replaced.
+ *
+ * Templates are compiled once when the resolver is built; cycles are
+ * reported and the templates involved are unusable
+ */
+public class TemplateResolver {
+
+    public static final String EXTENDS_KEY = "extends";
+
+    private final ConfigurationSection templates;
+    private final ConfigurationSection[] bases;
+
+    // Template name -> flattened template
+    private final Map<String, ConfigurationSection> compiled;
+
+    /**
+     * @param templates Section holding the named templates, may be null
+     * @param bases Sections every resolved section starts from, in order (nulls skipped)
+     */
+    public TemplateResolver(ConfigurationSection templates, ConfigurationSection... bases) {
+        this.templates = templates;
+        this.bases = bases;
+        this.compiled = new ConcurrentHashMap<>();
+
+        if (templates != null) {
+            for (String name : templates.getKeys(false)) {
+                try {
+                    compile(name, new ArrayDeque<>());
+                } catch (IllegalArgumentException e) {
+                    Bukkit.getLogger().warning("[Hordes] " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Flattens a section against the bases and templates
+     * Safe to call from several threads at once
+     *
+     * @param section Section to flatten, may be null
+     * @return Flattened copy, or null if the section is null
+     * @throws IllegalArgumentException If it extends an unknown or cyclic template
+     */
+    public ConfigurationSection resolve(ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+
+        MemoryConfiguration result = new MemoryConfiguration();
+        Deque<String> chain = new ArrayDeque<>();
+
+        for (ConfigurationSection base : bases) {
+            if (base != null) {
+                copy(base, result, chain);
+            }
+        }
+
+        copy(section, result, chain);
+        return result;
+    }
+
+    /**
+     * Checks if a template compiled successfully
+     */
+    public boolean hasTemplate(String name) {
+        return compiled.containsKey(name);
+    }
+
+    /**
+     * Gets the flattened template, compiling it if needed
+     */
+    private ConfigurationSection compile(String name, Deque<String> chain) {
+        ConfigurationSection done = compiled.get(name);
+        if (done != null) {
+            return done;
+        }
+
+        if (chain.contains(name)) {
+            List<String> cycle = new ArrayList<>(chain);
+            cycle.add(name);
+            throw new IllegalArgumentException("Template inheritance cycle: " + String.join(" -> ", cycle));
+        }
+
+        ConfigurationSection raw = templates != null ? templates.getConfigurationSection(name) : null;
+        if (raw == null) {
+            throw new IllegalArgumentException("Unknown template: " + name);
+        }
+
+        chain.addLast(name);
+        MemoryConfiguration flat = new MemoryConfiguration();
+        copy(raw, flat, chain);
+        chain.removeLast();
+
+        compiled.put(name, flat);
+        return flat;
+    }
+
+    /**
+     * Merges a section (after its own parents) into a target
+     */
+    private void copy(ConfigurationSection from, ConfigurationSection to, Deque<String> chain) {
+        for (String parent : getParents(from)) {
+            copy(compile(parent, chain), to, chain);
+        }
+
+        for (String key : from.getKeys(false)) {
+            if (key.equals(EXTENDS_KEY)) {
+                continue;
+            }
+
+            Object value = from.get(key);
+
+            if (value instanceof ConfigurationSection) {
+                ConfigurationSection target = to.isConfigurationSection(key)
+                        ? to.getConfigurationSection(key)
+                        : to.createSection(key);
+                copy((ConfigurationSection) value, target, chain);
+            } else {
+                to.set(key, value);
+            }
+        }
+    }
+
+    private static List<String> getParents(ConfigurationSection section) {
+        if (section.isList(EXTENDS_KEY)) {
+            return section.getStringList(EXTENDS_KEY);
+        }
+
+        String parent = section.getString(EXTENDS_KEY);
+        return parent != null ? Collections.singletonList(parent) : Collections.emptyList();
+    }
+}
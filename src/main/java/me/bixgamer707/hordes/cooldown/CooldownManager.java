@@ -158,6 +158,24 @@ public class CooldownManager {
         return true;
     }
 
+    /**
+     * Gets the expiry time of a temporary cooldown
+     * 
+     * @param player Player UUID
+     * @param arenaId Arena ID
+     * @return Expiry timestamp in milliseconds, or 0 if none
+     */
+    public long getTempExpiry(UUID player, String arenaId) {
+        Map<String, Long> playerTempCooldowns = tempCooldowns.get(player);
+        
+        if (playerTempCooldowns == null) {
+            return 0;
+        }
+        
+        Long expiry = playerTempCooldowns.get(arenaId);
+        return expiry != null ? expiry : 0;
+    }
+
     /**
      * Gets remaining cooldown time in a human-readable format
      * 
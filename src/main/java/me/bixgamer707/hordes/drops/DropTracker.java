@@ -0,0 +1,216 @@
+package me.bixgamer707.hordes.drops;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.config.ItemDropMode;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks items dropped by arena players
+ *
+ * Ownership lives in the item entity's persistent data, so pickup checks
+ * read it straight from the item. The per-arena index only exists to find
+ * leftover drops when an arena ends; it is trimmed by pickup, despawn and
+ * merge events instead of polling
+ */
+public class DropTracker {
+
+    // Items removed per tick when clearing an arena
+    private static final int CLEANUP_BATCH = 50;
+
+    private final Hordes plugin;
+
+    private final NamespacedKey ownerKey;
+    private final NamespacedKey arenaKey;
+    private final NamespacedKey modeKey;
+
+    // ArenaID -> dropped item entity UUIDs
+    private final Map<String, Set<UUID>> arenaDrops;
+
+    // Drops of ended arenas waiting for removal (main thread only)
+    private final Deque<UUID> removalQueue;
+    private BukkitTask removalTask;
+
+    public DropTracker(Hordes plugin) {
+        this.plugin = plugin;
+        this.ownerKey = new NamespacedKey(plugin, "drop_owner");
+        this.arenaKey = new NamespacedKey(plugin, "drop_arena");
+        this.modeKey = new NamespacedKey(plugin, "drop_mode");
+        this.arenaDrops = new ConcurrentHashMap<>();
+        this.removalQueue = new ArrayDeque<>();
+    }
+
+    /**
+     * Marks a dropped item as owned by an arena player
+     */
+    public void track(Item item, UUID owner, String arenaId, ItemDropMode mode) {
+        PersistentDataContainer data = item.getPersistentDataContainer();
+        data.set(ownerKey, PersistentDataType.STRING, owner.toString());
+        data.set(arenaKey, PersistentDataType.STRING, arenaId);
+        data.set(modeKey, PersistentDataType.STRING, mode.name());
+
+        arenaDrops.computeIfAbsent(arenaId, key -> ConcurrentHashMap.newKeySet()).add(item.getUniqueId());
+    }
+
+    /**
+     * Checks if an item was dropped by an arena player
+     */
+    public boolean isTracked(Item item) {
+        return item.getPersistentDataContainer().has(arenaKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Gets the player that dropped an item
+     *
+     * @return Owner UUID or null if not tracked
+     */
+    public UUID getOwner(Item item) {
+        String owner = item.getPersistentDataContainer().get(ownerKey, PersistentDataType.STRING);
+        if (owner == null) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(owner);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the arena an item was dropped in
+     *
+     * @return Arena ID or null if not tracked
+     */
+    public String getArenaId(Item item) {
+        return item.getPersistentDataContainer().get(arenaKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Gets the drop mode an item was dropped with
+     *
+     * @return Drop mode or null if not tracked
+     */
+    public ItemDropMode getDropMode(Item item) {
+        String mode = item.getPersistentDataContainer().get(modeKey, PersistentDataType.STRING);
+        if (mode == null) {
+            return null;
+        }
+
+        try {
+            return ItemDropMode.valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if two items may stack without mixing owners
+     */
+    public boolean canMerge(Item source, Item target) {
+        return Objects.equals(getArenaId(source), getArenaId(target))
+                && Objects.equals(getOwner(source), getOwner(target));
+    }
+
+    /**
+     * Removes an item from the arena index
+     * Called when the item is picked up, despawns or merges away
+     */
+    public void untrack(Item item) {
+        String arenaId = getArenaId(item);
+        if (arenaId == null) {
+            return;
+        }
+
+        Set<UUID> drops = arenaDrops.get(arenaId);
+        if (drops != null) {
+            drops.remove(item.getUniqueId());
+        }
+    }
+
+    /**
+     * Removes the leftover drops of an arena
+     * Spread across ticks in batches so a large arena never stalls a tick
+     */
+    public void clearArena(String arenaId) {
+        Set<UUID> drops = arenaDrops.remove(arenaId);
+        if (drops == null || drops.isEmpty()) {
+            return;
+        }
+
+        removalQueue.addAll(drops);
+
+        if (removalTask == null) {
+            removalTask = new BukkitRunnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < CLEANUP_BATCH && !removalQueue.isEmpty(); i++) {
+                        remove(removalQueue.poll());
+                    }
+
+                    if (removalQueue.isEmpty()) {
+                        cancel();
+                        removalTask = null;
+                    }
+                }
+            }.runTaskTimer(plugin, 1L, 1L);
+        }
+    }
+
+    /**
+     * Removes an item entity if it still exists
+     */
+    private void remove(UUID uuid) {
+        Entity entity = Bukkit.getEntity(uuid);
+        if (entity instanceof Item && entity.isValid()) {
+            entity.remove();
+        }
+    }
+
+    /**
+     * Gets number of indexed drops
+     */
+    public int getTrackedCount() {
+        int count = 0;
+        for (Set<UUID> drops : arenaDrops.values()) {
+            count += drops.size();
+        }
+        return count;
+    }
+
+    /**
+     * Stops running cleanups and removes every leftover drop
+     * Called on plugin disable
+     */
+    public void cleanup() {
+        if (removalTask != null) {
+            removalTask.cancel();
+            removalTask = null;
+        }
+
+        while (!removalQueue.isEmpty()) {
+            remove(removalQueue.poll());
+        }
+
+        for (Set<UUID> drops : arenaDrops.values()) {
+            for (UUID uuid : drops) {
+                remove(uuid);
+            }
+        }
+        arenaDrops.clear();
+    }
+}
@@ -0,0 +1,229 @@
+package me.bixgamer707.hordes.file;
+
+import me.bixgamer707.hordes.Hordes;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot reloads YAML files edited on disk (optional)
+ *
+ * Watches the data folder and messages/. Bursts of changes are debounced,
+ * each changed file is parsed off the main thread into a staging config
+ * and, once it parses, swapped in on the main thread. Only the subsystems
+ * that read that file are refreshed
+ */
+public class ConfigWatcher {
+
+    private final Hordes plugin;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    // Settings
+    private boolean enabled;
+    private long debounceMillis;
+
+    public ConfigWatcher(Hordes plugin) {
+        this.plugin = plugin;
+
+        loadConfiguration();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        enabled = plugin.getFileManager().getConfig().getBoolean("file-watcher.enabled", false);
+        debounceMillis = Math.max(50L, plugin.getFileManager().getConfig().getLong("file-watcher.debounce-ms", 500L));
+    }
+
+    /**
+     * Starts the watcher thread
+     */
+    public void start() {
+        if (thread != null || !enabled) {
+            return;
+        }
+
+        java.io.File messagesFolder = new java.io.File(plugin.getDataFolder(), "messages");
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            register(plugin.getDataFolder().toPath());
+            if (messagesFolder.isDirectory()) {
+                register(messagesFolder.toPath());
+            }
+        } catch (IOException e) {
+            plugin.logWarning("Failed to start the config file watcher: " + e.getMessage());
+            cleanup();
+            return;
+        }
+
+        thread = new Thread(this::watch, "Hordes-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void register(Path folder) throws IOException {
+        folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Watcher thread loop
+     * Waits for a change, then keeps collecting until the folder has been
+     * quiet for the debounce window
+     */
+    private void watch() {
+        WatchService service = watchService;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(service.take(), changed);
+
+                WatchKey next;
+                while ((next = service.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collect(next, changed);
+                }
+
+                for (Path path : changed) {
+                    stage(path);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    /**
+     * Adds the YAML files of a watch key to the changed set
+     */
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path folder = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+
+            Path name = (Path) event.context();
+            if (name.toString().endsWith(".yml")) {
+                changed.add(folder.resolve(name));
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Parses a changed file into a staging config (watcher thread)
+     * Files that fail to parse or are empty (mid-save) are skipped
+     */
+    private void stage(Path path) {
+        String text;
+        YamlConfiguration staged = new YamlConfiguration();
+
+        try {
+            text = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            staged.loadFromString(text);
+        } catch (IOException e) {
+            return;
+        } catch (InvalidConfigurationException e) {
+            plugin.logWarning("Ignoring invalid edit to " + path.getFileName() + ": " + e.getMessage());
+            return;
+        }
+
+        if (staged.getKeys(false).isEmpty()) {
+            return;
+        }
+
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> apply(path.toFile(), staged, text));
+        }
+    }
+
+    /**
+     * Swaps a staged config in and refreshes what depends on it (main thread)
+     */
+    private void apply(java.io.File target, YamlConfiguration staged, String text) {
+        FileManager fileManager = plugin.getFileManager();
+        File file = fileManager.findFile(target);
+
+        // Unknown files, edits still being written by us, or our own writes
+        if (file == null || fileManager.getWriteService().isPending(file) || text.equals(file.saveToString())) {
+            return;
+        }
+
+        file.replaceContents(staged);
+
+        String name = target.getName();
+        java.io.File folder = target.getAbsoluteFile().getParentFile();
+
+        if (folder.getName().equalsIgnoreCase("messages")) {
+            // Messages are read from the file on use
+        } else if (name.equals("config.yml")) {
+            plugin.reloadSettings();
+            reload();
+        } else if (name.equals("arenas.yml") || name.equals("mobs.yml")) {
+            plugin.reloadArenas();
+        } else if (name.equals("guis.yml")) {
+            plugin.getGuiTemplateManager().reload();
+        } else if (name.equals("loot.yml")) {
+            plugin.getLootManager().reload();
+        }
+
+        plugin.logInfo("Reloaded " + name + " from disk");
+    }
+
+    /**
+     * Reloads settings and restarts the watcher if they changed
+     */
+    public void reload() {
+        boolean wasEnabled = enabled;
+        long wasDebounce = debounceMillis;
+
+        loadConfiguration();
+
+        if (enabled != wasEnabled || debounceMillis != wasDebounce) {
+            cleanup();
+            start();
+        }
+    }
+
+    /**
+     * Stops the watcher thread
+     */
+    public void cleanup() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            watchService = null;
+        }
+
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+}
@@ -0,0 +1,191 @@
+package me.bixgamer707.hordes.file;
+
+import me.bixgamer707.hordes.Hordes;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+
+/**
+ * Coalesces config edits and writes them off the main thread
+ *
+ * Edits made within the debounce window are written once. The YAML is
+ * serialized on the main thread (configurations are not thread-safe) and
+ * the text is written by a single writer thread, in order, through a temp
+ * file that is synced and renamed over the target
+ */
+public class ConfigWriteService {
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 10L;
+
+    private final Hordes plugin;
+
+    // Files with unsaved edits (main thread only)
+    private final Set<File> dirty;
+
+    private ExecutorService executor;
+    private BukkitTask debounceTask;
+
+    public ConfigWriteService(Hordes plugin) {
+        this.plugin = plugin;
+        this.dirty = new LinkedHashSet<>();
+    }
+
+    /**
+     * Queues a file to be written after the debounce window
+     * Must be called from the main thread
+     */
+    public void scheduleSave(File file) {
+        dirty.add(file);
+
+        if (debounceTask != null) {
+            return;
+        }
+
+        long delay = Math.max(1L, plugin.getFileManager().getConfig().getLong("file-writes.debounce-ticks", 20L));
+        debounceTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            debounceTask = null;
+            submitDirty();
+        }, delay);
+    }
+
+    /**
+     * Serializes every dirty file and hands it to the writer thread
+     *
+     * @return Future of the last write, or null if nothing was queued
+     */
+    private Future<?> submitDirty() {
+        Future<?> last = null;
+
+        List<File> files = new ArrayList<>(dirty);
+        dirty.clear();
+
+        for (File file : files) {
+            java.io.File target = file.getTarget();
+            String data = file.saveToString();
+
+            try {
+                last = getExecutor().submit(() -> {
+                    try {
+                        writeAtomically(target, data);
+                    } catch (IOException e) {
+                        plugin.getLogger().log(Level.SEVERE, "Save of the file '" + target.getName() + "' failed.", e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                file.save();
+            }
+        }
+
+        return last;
+    }
+
+    /**
+     * Writes pending edits now and waits for the writer to finish
+     * Must be called from the main thread
+     */
+    public void flush() {
+        if (debounceTask != null) {
+            debounceTask.cancel();
+            debounceTask = null;
+        }
+
+        Future<?> last = submitDirty();
+        if (last == null) {
+            return;
+        }
+
+        // Writes run in order, so the last one finishing means all did
+        try {
+            last.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            plugin.logError("Pending config writes did not finish: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks if a file has edits waiting to be written
+     */
+    public boolean isPending(File file) {
+        return dirty.contains(file);
+    }
+
+    /**
+     * Flushes pending edits and stops the writer thread
+     */
+    public void shutdown() {
+        flush();
+
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Hordes-ConfigWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Replaces a file's contents without ever leaving it half written
+     * Writes a temp file next to the target, syncs it and renames it over
+     * the target. Temp names are unique, so concurrent saves of the same
+     * file (main thread and writer thread) never share one
+     */
+    public static void writeAtomically(java.io.File target, String data) throws IOException {
+        Path path = target.toPath();
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        Path temp = Files.createTempFile(parent, target.getName() + ".", ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // Left over only if the write or the move failed
+            Files.deleteIfExists(temp);
+        }
+    }
+}
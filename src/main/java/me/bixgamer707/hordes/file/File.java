@@ -1,6 +1,7 @@
 package me.bixgamer707.hordes.file;
 
 import me.bixgamer707.hordes.Hordes;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -35,9 +36,9 @@ public class File extends YamlConfiguration {
         try {
             file = new java.io.File(this.folder, this.fileName);
 
+            // Existing files are only read; rewriting them on boot is wasted I/O
             if (file.exists()) {
                 load(file);
-                save(file);
                 return;
             }
 
@@ -60,12 +61,52 @@ public class File extends YamlConfiguration {
 
     public void save() {
         try {
-            save(file);
+            ConfigWriteService.writeAtomically(file, saveToString());
         } catch (IOException e) {
             this.plugin.getLogger().log(Level.SEVERE, "Save of the file '" + this.fileName + "' failed.", e);
         }
     }
 
+    /**
+     * Saves after the debounce window, off the main thread
+     * Use for frequent edits such as GUI toggles
+     */
+    public void scheduleSave() {
+        plugin.getFileManager().getWriteService().scheduleSave(this);
+    }
+
+    /**
+     * Replaces the loaded contents with an already parsed configuration
+     * Comments are carried over so later saves keep them
+     */
+    public void replaceContents(YamlConfiguration staged) {
+        for (String key : getKeys(false)) {
+            set(key, null);
+        }
+
+        copy(staged, this);
+        options().setHeader(staged.options().getHeader());
+    }
+
+    private static void copy(ConfigurationSection from, ConfigurationSection to) {
+        for (String key : from.getKeys(false)) {
+            Object value = from.get(key);
+
+            if (value instanceof ConfigurationSection) {
+                copy((ConfigurationSection) value, to.createSection(key));
+            } else {
+                to.set(key, value);
+            }
+
+            to.setComments(key, from.getComments(key));
+            to.setInlineComments(key, from.getInlineComments(key));
+        }
+    }
+
+    public java.io.File getTarget() {
+        return file;
+    }
+
     public void reload() {
         try {
             load(file);
@@ -3,7 +3,10 @@ package me.bixgamer707.hordes.file;
 import me.bixgamer707.hordes.Hordes;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class FileManager{
 
@@ -11,9 +14,11 @@ public class FileManager{
     private java.io.File[] files;
     private java.io.File[] messages;
     private final Map<String, File> filesMap = new HashMap<>(7);
+    private final ConfigWriteService writeService;
 
     public FileManager(Hordes plugin) {
         this.plugin = plugin;
+        this.writeService = new ConfigWriteService(plugin);
     }
 
     public void loadFiles() {
@@ -22,20 +27,24 @@ public class FileManager{
             messagesFolder.mkdirs();
         }
 
-        filesMap.put("config.yml", new File(plugin, "config"));
-        filesMap.put("mobs.yml", new File(plugin, "mobs"));
-        filesMap.put("arenas.yml", new File(plugin, "arenas"));
-        filesMap.put("statistics.yml", new File(plugin, "statistics"));
-        filesMap.put("guis.yml", new File(plugin, "guis"));
+        // Name -> loader, files are parsed in parallel below
+        Map<String, Supplier<File>> loaders = new LinkedHashMap<>();
 
-        filesMap.put("en_us.yml", new File(plugin, "en_us.yml", messagesFolder));
-        filesMap.put("es_es.yml", new File(plugin, "es_es.yml", messagesFolder));
+        loaders.put("config.yml", () -> new File(plugin, "config"));
+        loaders.put("mobs.yml", () -> new File(plugin, "mobs"));
+        loaders.put("arenas.yml", () -> new File(plugin, "arenas"));
+        loaders.put("statistics.yml", () -> new File(plugin, "statistics"));
+        loaders.put("guis.yml", () -> new File(plugin, "guis"));
+        loaders.put("loot.yml", () -> new File(plugin, "loot"));
+
+        loaders.put("en_us.yml", () -> new File(plugin, "en_us.yml", messagesFolder));
+        loaders.put("es_es.yml", () -> new File(plugin, "es_es.yml", messagesFolder));
 
         files = plugin.getDataFolder().listFiles();
         if (files != null) {
             for (java.io.File file : files) {
                 if (file.getName().endsWith(".yml")) {
-                    filesMap.put(file.getName(), new File(plugin, file.getName()));
+                    loaders.putIfAbsent(file.getName(), () -> new File(plugin, file.getName()));
                 }
             }
         }
@@ -44,13 +53,19 @@ public class FileManager{
         if (messages != null) {
             for (java.io.File file : messages) {
                 if (file.getName().endsWith(".yml")) {
-                    filesMap.put(file.getName(), new File(plugin, file.getName(), messagesFolder));
+                    loaders.putIfAbsent(file.getName(), () -> new File(plugin, file.getName(), messagesFolder));
                 }
             }
         }
+
+        Map<String, CompletableFuture<File>> loading = new LinkedHashMap<>();
+        loaders.forEach((name, loader) -> loading.put(name, CompletableFuture.supplyAsync(loader)));
+        loading.forEach((name, future) -> filesMap.put(name, future.join()));
     }
 
     public void reload() {
+        // Pending edits would be lost when re-reading from disk
+        writeService.flush();
         filesMap.forEach((name, file) -> file.reload());
     }
 
@@ -76,6 +91,10 @@ public class FileManager{
         return getFile("guis.yml");
     }
 
+    public File getLoot(){
+        return getFile("loot.yml");
+    }
+
     public void createFile(String id) {
         filesMap.put(id, new File(plugin, id));
     }
@@ -89,6 +108,7 @@ public class FileManager{
     }
 
     public void saveFiles() {
+        writeService.shutdown();
         filesMap.forEach((key, value) -> value.save());
         filesMap.clear();
     }
@@ -97,4 +117,25 @@ public class FileManager{
     public File getStatistics() {
         return getFile("statistics.yml");
     }
+
+    /**
+     * Gets the loaded file backed by a path on disk
+     *
+     * @return File or null if that path is not loaded
+     */
+    public File findFile(java.io.File target) {
+        java.io.File absolute = target.getAbsoluteFile();
+
+        for (File file : filesMap.values()) {
+            if (file.getTarget().getAbsoluteFile().equals(absolute)) {
+                return file;
+            }
+        }
+
+        return null;
+    }
+
+    public ConfigWriteService getWriteService() {
+        return writeService;
+    }
 }
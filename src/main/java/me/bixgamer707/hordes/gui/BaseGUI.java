@@ -2,16 +2,18 @@ package me.bixgamer707.hordes.gui;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.gui.template.GuiTemplate;
+import me.bixgamer707.hordes.gui.template.GuiTemplateManager;
+import me.bixgamer707.hordes.gui.template.TemplateAction;
+import me.bixgamer707.hordes.gui.template.TemplateItem;
+import me.bixgamer707.hordes.skull.SkullCache;
+import me.bixgamer707.hordes.skull.SkullTexture;
 import me.bixgamer707.hordes.text.Text;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -23,6 +25,7 @@ import java.util.function.Consumer;
 /**
  * Base GUI class - 100% configurable from guis.yml
  * Everything can be configured: positions, materials, amounts, CustomModelData, etc.
+ * The layout comes precompiled from {@link GuiTemplateManager}, opening clones and patches it
  */
 public abstract class BaseGUI {
 
@@ -39,26 +42,29 @@ public abstract class BaseGUI {
     protected int currentPage = 0;
     protected int maxPages = 0;
 
-    // Click handlers registered by GUI ID and slot
-    protected final Map<String, Consumer<Player>> clickHandlers = new HashMap<>();
-    protected final Map<Integer, ClickType> clickTypes = new ConcurrentHashMap<>();
+    // Click handlers registered by dynamic content, indexed by slot
+    protected final Consumer<Player>[] clickHandlers;
+
+    // Compiled layout from guis.yml
+    protected final GuiTemplate template;
+
+    // Slot -> skull owner still waiting for its texture
+    private final String[] pendingSkulls;
 
     /**
-     * Constructor - loads everything from guis.yml
+     * Constructor - loads the compiled template for this GUI
      */
+    @SuppressWarnings("unchecked")
     public BaseGUI(Hordes plugin, Player player, String guiId) {
         this.plugin = plugin;
         this.player = player;
         this.guiId = guiId;
         this.guiConfig = plugin.getFileManager().getFile("guis.yml");
+        this.template = plugin.getGuiTemplateManager().getTemplate(guiId);
 
-        // Load title and size from config
-        String title = guiConfig.getString("guis."+guiId+".title", "&6Menu");
-        int rows = guiConfig.getInt("guis."+guiId+".rows", 6);
-        int size = rows * 9;
-
-        this.inventory = Bukkit.createInventory(null, size,
-                Text.createText(title).build(player));
+        this.inventory = Bukkit.createInventory(null, template.getSize(), template.getTitle(player));
+        this.clickHandlers = new Consumer[template.getSize()];
+        this.pendingSkulls = new String[template.getSize()];
     }
 
     /**
@@ -71,7 +77,7 @@ public abstract class BaseGUI {
             existing.onClose();
         }
 
-        // Build GUI from config
+        // Build GUI from template
         buildFromConfig();
 
         // Open inventory
@@ -79,29 +85,33 @@ public abstract class BaseGUI {
         openGUIs.put(player.getUniqueId(), this);
 
         // Play sound
-        playSound(guiConfig.getString("guis."+guiId+".sounds.open", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("open", "UI_BUTTON_CLICK"));
     }
 
     /**
-     * Builds GUI entirely from guis.yml configuration
+     * Places the compiled template items and lets subclasses add dynamic content
      */
     protected void buildFromConfig() {
         inventory.clear();
-        clickHandlers.clear();
-        clickTypes.clear();
+        Arrays.fill(clickHandlers, null);
+        Arrays.fill(pendingSkulls, null);
 
-        // Get items section
-        ConfigurationSection itemsSection = guiConfig.getConfigurationSection("guis." + guiId + ".items");
+        for (TemplateItem item : template.getPlacedItems()) {
+            ItemStack stack = item.render(player);
+            String skullOwner = item.getCachedSkullOwner(player);
 
-        if (itemsSection == null) {
-            plugin.logWarning("No items defined for GUI: " + guiId);
-            return;
-        }
+            if (skullOwner != null) {
+                // Never modify the shared base stack
+                stack = stack.clone();
+            }
 
-        // Load each item
-        for (String itemId : itemsSection.getKeys(false)) {
-            String itemPath = "guis." + guiId + ".items." + itemId;
-            loadAndSetItem(itemId, itemPath);
+            for (int slot : item.getSlots()) {
+                if (skullOwner != null) {
+                    setSkullItem(slot, stack, null, skullOwner);
+                } else {
+                    inventory.setItem(slot, stack);
+                }
+            }
         }
 
         // Call custom build for dynamic content
@@ -109,223 +119,77 @@ public abstract class BaseGUI {
     }
 
     /**
-     * Loads an item from config and sets it in the GUI
+     * Registers a click handler for a slot
+     * Overrides any action configured for that slot in guis.yml
      */
-    protected void loadAndSetItem(String itemId, String itemPath) {
-        // Get slot(s)
-        Object slotObj = guiConfig.get(itemPath + ".slot");
-        List<Integer> slots = new ArrayList<>();
-
-        if (slotObj instanceof Integer) {
-            slots.add((Integer) slotObj);
-        } else if (slotObj instanceof List) {
-            for (Object obj : (List<?>) slotObj) {
-                if (obj instanceof Integer) {
-                    slots.add((Integer) obj);
-                }
-            }
-        } else if (slotObj instanceof String) {
-            // Support for ranges like "0-8" or "all-border"
-            String slotStr = (String) slotObj;
-            slots.addAll(parseSlotString(slotStr));
-        }
-
-        if (slots.isEmpty()) {
-            return;
-        }
-
-        // Create item
-        ItemStack item = createItemFromConfig(itemPath);
-
-        if (item == null) {
-            return;
-        }
-
-        // Set in all slots
-        for (int slot : slots) {
-            if (slot >= 0 && slot < inventory.getSize()) {
-                inventory.setItem(slot, item);
-
-                // Register click handler if defined
-                List<String> action = guiConfig.getStringList(itemPath + ".action");
-                if (!action.isEmpty()) {
-                    clickHandlers.put(slot + "", p -> handleAction(slot, action, itemId, p));
-                } else {
-                    clickHandlers.put(slot + "", p -> handleAction(slot, guiConfig.getString(itemPath + ".action"), itemId, p));
-                }
-            }
+    protected void setClickHandler(int slot, Consumer<Player> handler) {
+        if (slot >= 0 && slot < clickHandlers.length) {
+            clickHandlers[slot] = handler;
         }
     }
 
     /**
-     * Creates an ItemStack from config path
+     * Places a player head, textured from the skull cache
+     * On a cache miss a plain head is shown and patched in place
+     * once the texture has been fetched in the background
+     *
+     * @param slot Inventory slot
+     * @param item Player head to place (modified)
+     * @param uuid Owner UUID, may be null
+     * @param name Owner name, may be null
      */
-    protected ItemStack createItemFromConfig(String path) {
-        // Material (required)
-        String materialName = guiConfig.getString(path + ".material");
-        if (materialName == null) {
-            return null;
-        }
-
-        // Support for player head
-        if (materialName.equalsIgnoreCase("PLAYER_HEAD") || materialName.equalsIgnoreCase("SKULL")) {
-            return createPlayerHead(path);
-        }
-
-        Material material = Material.getMaterial(materialName.toUpperCase());
-        if (material == null) {
-            plugin.logWarning("Invalid material: " + materialName + " at " + path);
-            return null;
+    protected void setSkullItem(int slot, ItemStack item, UUID uuid, String name) {
+        if (slot < 0 || slot >= pendingSkulls.length) {
+            return;
         }
 
-        // Amount
-        int amount = guiConfig.getInt(path + ".amount", 1);
-
-        ItemStack item = new ItemStack(material, amount);
-        ItemMeta meta = item.getItemMeta();
+        pendingSkulls[slot] = null;
 
-        if (meta == null) {
-            return item;
-        }
+        if (item != null && item.getItemMeta() instanceof SkullMeta) {
+            SkullMeta meta = (SkullMeta) item.getItemMeta();
+            String owner = uuid != null ? uuid.toString() : name;
 
-        // Display name
-        String name = guiConfig.getString(path + ".name");
-        if (name != null) {
-            meta.setDisplayName(Text.createText(name).build(player));
-        }
+            boolean applied = plugin.getSkullCache().applyOrRequest(meta, uuid, name,
+                    texture -> patchSkull(slot, owner, texture));
 
-        // Lore
-        List<String> lore = guiConfig.getStringList(path + ".lore");
-        if (!lore.isEmpty()) {
-            List<String> processedLore = new ArrayList<>();
-            for (String line : lore) {
-                processedLore.add(Text.createText(line).build(player));
+            if (applied) {
+                item.setItemMeta(meta);
+            } else {
+                pendingSkulls[slot] = owner;
             }
-            meta.setLore(processedLore);
         }
 
-        // CustomModelData
-        if (guiConfig.contains(path + ".custom-model-data")) {
-            meta.setCustomModelData(guiConfig.getInt(path + ".custom-model-data"));
-        }
-
-        // Glow effect
-        if (guiConfig.getBoolean(path + ".glow", false)) {
-            meta.addEnchant(Enchantment.DURABILITY, 1, true);
-            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-        }
-
-        // Hide flags
-        if (guiConfig.getBoolean(path + ".hide-attributes", true)) {
-            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
-        }
-
-        if (guiConfig.getBoolean(path + ".hide-enchants", false)) {
-            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-        }
-
-        // Unbreakable
-        if (guiConfig.getBoolean(path + ".unbreakable", false)) {
-            meta.setUnbreakable(true);
-            meta.addItemFlags(ItemFlag.HIDE_UNBREAKABLE);
-        }
-
-        item.setItemMeta(meta);
-        return item;
+        inventory.setItem(slot, item);
     }
 
     /**
-     * Creates a player head
+     * Applies a texture that arrived after the head was placed
      */
-    protected ItemStack createPlayerHead(String path) {
-        ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
-        SkullMeta meta = (SkullMeta) skull.getItemMeta();
-
-        if (meta == null) {
-            return skull;
-        }
-
-        // Owner
-        String owner = guiConfig.getString(path + ".skull-owner");
-        if (owner != null) {
-            // Support for placeholders like {player}
-            owner = owner.replace("{player}", player.getName());
-            meta.setOwner(owner);
+    private void patchSkull(int slot, String owner, SkullTexture texture) {
+        // Skip if the slot was rebuilt or the GUI is gone
+        if (!owner.equals(pendingSkulls[slot]) || openGUIs.get(player.getUniqueId()) != this) {
+            return;
         }
 
-        // Display name
-        String name = guiConfig.getString(path + ".name");
-        if (name != null) {
-            meta.setDisplayName(Text.createText(name).build(player));
-        }
+        pendingSkulls[slot] = null;
 
-        // Lore
-        List<String> lore = guiConfig.getStringList(path + ".lore");
-        if (!lore.isEmpty()) {
-            List<String> processedLore = new ArrayList<>();
-            for (String line : lore) {
-                processedLore.add(Text.createText(line).build(player));
-            }
-            meta.setLore(processedLore);
+        ItemStack item = inventory.getItem(slot);
+        if (item == null || !(item.getItemMeta() instanceof SkullMeta)) {
+            return;
         }
 
-        skull.setItemMeta(meta);
-        return skull;
+        SkullMeta meta = (SkullMeta) item.getItemMeta();
+        SkullCache.applyTexture(meta, texture);
+        item.setItemMeta(meta);
+        inventory.setItem(slot, item);
     }
 
     /**
-     * Parses slot strings like "0-8", "all", "border", etc.
+     * Gets the configured slot of an item
      */
-    protected List<Integer> parseSlotString(String slotStr) {
-        List<Integer> slots = new ArrayList<>();
-        int size = inventory.getSize();
-        int rows = size / 9;
-
-        switch (slotStr.toLowerCase()) {
-            case "all":
-                for (int i = 0; i < size; i++) {
-                    slots.add(i);
-                }
-                break;
-
-            case "border":
-                // Top and bottom rows
-                for (int i = 0; i < 9; i++) {
-                    slots.add(i);
-                    slots.add((rows - 1) * 9 + i);
-                }
-                // Sides
-                for (int i = 1; i < rows - 1; i++) {
-                    slots.add(i * 9);
-                    slots.add(i * 9 + 8);
-                }
-                break;
-
-            case "corners":
-                slots.add(0);
-                slots.add(8);
-                slots.add((rows - 1) * 9);
-                slots.add(size - 1);
-                break;
-
-            default:
-                // Range like "0-8" or "10-15"
-                if (slotStr.contains("-")) {
-                    String[] parts = slotStr.split("-");
-                    try {
-                        int start = Integer.parseInt(parts[0].trim());
-                        int end = Integer.parseInt(parts[1].trim());
-                        for (int i = start; i <= end && i < size; i++) {
-                            slots.add(i);
-                        }
-                    } catch (NumberFormatException e) {
-                        plugin.logWarning("Invalid slot range: " + slotStr);
-                    }
-                }
-                break;
-        }
-
-        return slots;
+    protected int getItemSlot(String itemId, int def) {
+        TemplateItem item = template.getItem(itemId);
+        return item != null ? item.getSlot(def) : def;
     }
 
     /**
@@ -339,98 +203,38 @@ public abstract class BaseGUI {
      * Handles click on inventory
      */
     protected void handleClick(int slot, ClickType clickType) {
-        // Check for registered handler
-        Consumer<Player> handler = clickHandlers.get(slot + "");
-
-        clickTypes.put(slot, clickType);
+        if (slot < 0 || slot >= clickHandlers.length) {
+            return;
+        }
 
+        // Dynamic handlers take precedence over configured actions
+        Consumer<Player> handler = clickHandlers[slot];
         if (handler != null) {
             handler.accept(player);
+            return;
+        }
+
+        TemplateItem item = template.getItemAt(slot);
+        if (item != null && item.hasActions()) {
+            handleActions(slot, item, clickType);
         }
     }
 
     /**
-     * Handles action strings from config
+     * Runs the configured actions matching the click type
      */
-    protected void handleAction(int slot, List<String> actions, String itemId, Player player) {
-        for(String action : actions){
-            String[] split = action.split("=");
-
-            String click = (split[1] == null || split[1].equalsIgnoreCase("ANY"))
-                    ? null : split[1].toUpperCase();
-
-            if(click != null) {
-                if(!click.equalsIgnoreCase(clickTypes.get(slot).name())) {
-                    continue;
-                }
-            }
-
-            String[] parts = split[0].split(":", 2);
-            String actionType = parts[0].toLowerCase();
-            String actionValue = parts.length > 1 ? parts[1] : "";
-
-            clickTypes.remove(slot);
-            switch (actionType) {
-                case "close":
-                    close();
-                    break;
-
-                case "command":
-                    player.performCommand(actionValue.replace("{player}", player.getName()));
-                    break;
-
-                case "console":
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(),
-                            actionValue.replace("{player}", player.getName()));
-                    break;
-
-                case "message":
-                    player.sendMessage(Text.createText(actionValue).build(player));
-                    break;
-
-                case "sound":
-                    playSound(actionValue);
-                    break;
-
-                case "gui":
-                    // Open another GUI
-                    openGUI(actionValue);
-                    break;
-
-                case "back":
-                    onBack();
-                    break;
-
-                case "refresh":
-                    refresh();
-                    break;
-
-                case "next-page":
-                    nextPage();
-                    break;
-
-                case "previous-page":
-                    previousPage();
-                    break;
-
-                default:
-                    // Custom action - handle in subclass
-                    handleCustomAction(slot, actionType, actionValue, itemId);
-                    break;
+    protected void handleActions(int slot, TemplateItem item, ClickType clickType) {
+        for (TemplateAction action : item.getActions()) {
+            if (action.matches(clickType)) {
+                handleAction(slot, action.getType(), action.getValue(), item.getId());
             }
         }
     }
 
-    protected void handleAction(int slot, String action, String itemId, Player player) {
-        if (action == null || action.isEmpty()) {
-            return;
-        }
-
-        String[] parts = action.split(":", 2);
-        String actionType = parts[0].toLowerCase();
-        String actionValue = parts.length > 1 ? parts[1] : "";
-
-        clickTypes.remove(slot);
+    /**
+     * Handles a single action from config
+     */
+    protected void handleAction(int slot, String actionType, String actionValue, String itemId) {
         switch (actionType) {
             case "close":
                 close();
@@ -529,7 +333,7 @@ public abstract class BaseGUI {
     protected void nextPage() {
         if (currentPage < maxPages - 1) {
             currentPage++;
-            playSound(guiConfig.getString("guis."+ guiId +".sounds.page", "ITEM_BOOK_PAGE_TURN"));
+            playSound(template.getSound("page", "ITEM_BOOK_PAGE_TURN"));
             refresh();
         }
     }
@@ -540,7 +344,7 @@ public abstract class BaseGUI {
     protected void previousPage() {
         if (currentPage > 0) {
             currentPage--;
-            playSound(guiConfig.getString("guis."+ guiId +".sounds.page", "ITEM_BOOK_PAGE_TURN"));
+            playSound(template.getSound("page", "ITEM_BOOK_PAGE_TURN"));
             refresh();
         }
     }
@@ -588,14 +392,13 @@ public abstract class BaseGUI {
      * Updates item lore by item ID from config
      */
     protected void updateItemLore(String itemId, String[] replacements) {
-        String slotStr = guiConfig.getString("guis." + guiId + ".items." + itemId + ".slot", null);
-        if (slotStr != null) {
-            try {
-                int slot = Integer.parseInt(slotStr);
-                updateItemLore(slot, replacements);
-            } catch (NumberFormatException e) {
-                // Slot pattern, skip for now
-            }
+        TemplateItem item = template.getItem(itemId);
+        if (item == null) {
+            return;
+        }
+
+        for (int slot : item.getSlots()) {
+            updateItemLore(slot, replacements);
         }
     }
 
@@ -107,10 +107,10 @@ public class ArenaCreateGUI extends BaseGUI {
         arenasFile.set("arenas." + arenaId + ".wave-progression", defaultWaveProgression);
         arenasFile.set("arenas." + arenaId + ".global-cooldown", defaultGlobalCooldown);
 
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         // Reload arenas
-        plugin.getArenaManager().loadArenas();
+        plugin.getArenaManager().reloadArena(arenaId);
     }
 
     @Override
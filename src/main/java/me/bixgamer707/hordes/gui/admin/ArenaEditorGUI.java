@@ -155,7 +155,7 @@ public class ArenaEditorGUI extends BaseGUI {
         File messages = plugin.getFileManager().getMessages();
         plugin.getFileManager().getFile("arenas.yml")
                 .set("arenas." + arenaId + ".display-name", displayName);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         sendConfigMessage("Messages.admin.edit-basic-success", messages, displayName);
         playSound("success");
@@ -187,7 +187,7 @@ public class ArenaEditorGUI extends BaseGUI {
     private void handleWorldGuardRegionInput(String regionName) {
         plugin.getFileManager().getArenas()
                 .set("arenas." + arenaId + ".worldguard-region", regionName);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         sendConfigMessage("Messages.admin.edit-worldguard-success", plugin.getFileManager().getMessages(), regionName);
         playSound("success");
@@ -205,7 +205,7 @@ public class ArenaEditorGUI extends BaseGUI {
 
         plugin.getFileManager().getArenas()
                 .set("arenas." + arenaId + ".enabled", newState);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         sendConfigMessage(newState ? "admin.arena-enabled" : "admin.arena-disabled", plugin.getFileManager().getMessages(), arenaId);
         playSound("click");
@@ -218,8 +218,8 @@ public class ArenaEditorGUI extends BaseGUI {
      */
     private void saveArena() {
         try {
-            plugin.getFileManager().getArenas().save();
-            plugin.getArenaManager().loadArenas();
+            plugin.getFileManager().getArenas().scheduleSave();
+            plugin.getArenaManager().reloadArena(arenaId);
 
             sendConfigMessage("Messages.admin.save-success", plugin.getFileManager().getMessages());
             playSound("success");
@@ -249,7 +249,7 @@ public class ArenaEditorGUI extends BaseGUI {
      */
     private void reloadAndReopen() {
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            plugin.getArenaManager().loadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             Arena reloaded = plugin.getArenaManager().getArena(arenaId);
 
             if (reloaded != null) {
@@ -51,7 +51,7 @@ public class ArenaListGUI extends BaseGUI {
             inventory.setItem(slot, arenaItem);
 
             final String arenaId = arena.getId();
-            clickHandlers.put(slot + "", p -> handleArenaClick(p, arenaId));
+            setClickHandler(slot, p -> handleArenaClick(p, arenaId));
 
             slotIndex++;
         }
@@ -39,7 +39,7 @@ public class ModeSettingsGUI extends BaseGUI {
     }
 
     private void updateSurvivalMode() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.survival-mode.slot", 10);
+        int slot = getItemSlot("survival-mode", 10);
         boolean enabled = arena.getConfig().getSurvivalMode().isEnabled();
         
         String materialKey = enabled ? "material-enabled" : "material-disabled";
@@ -64,11 +64,11 @@ public class ModeSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> toggleSurvivalMode());
+        setClickHandler(slot, p -> toggleSurvivalMode());
     }
 
     private void updateDeathAction() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.death-action.slot", 12);
+        int slot = getItemSlot("death-action", 12);
         DeathAction action = arena.getConfig().getDeathHandling().getAction();
         
         String materialKey = "material-" + action.name().toLowerCase();
@@ -92,11 +92,11 @@ public class ModeSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> cycleDeathAction());
+        setClickHandler(slot, p -> cycleDeathAction());
     }
 
     private void updateItemDropMode() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.item-drop-mode.slot", 14);
+        int slot = getItemSlot("item-drop-mode", 14);
         ItemDropMode mode = arena.getConfig().getItemHandling().getDropMode();
         
         String materialKey = "material-" + mode.name().toLowerCase();
@@ -120,11 +120,11 @@ public class ModeSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> cycleItemDropMode());
+        setClickHandler(slot, p -> cycleItemDropMode());
     }
 
     private void updatePvPSetting() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.pvp-setting.slot", 16);
+        int slot = getItemSlot("pvp-setting", 16);
         boolean allowed = arena.getConfig().getSurvivalMode().isPvPAllowed();
         
         String materialKey = allowed ? "material-enabled" : "material-disabled";
@@ -148,11 +148,11 @@ public class ModeSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> togglePvP());
+        setClickHandler(slot, p -> togglePvP());
     }
 
     private void updateKeepInventory() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.keep-inventory.slot", 22);
+        int slot = getItemSlot("keep-inventory", 22);
         boolean keep = arena.getConfig().getItemHandling().shouldKeepInventory();
         
         String materialKey = keep ? "material-enabled" : "material-disabled";
@@ -176,7 +176,7 @@ public class ModeSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> toggleKeepInventory());
+        setClickHandler(slot, p -> toggleKeepInventory());
     }
 
     private String getDeathActionDescription(DeathAction action) {
@@ -194,13 +194,13 @@ public class ModeSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".survival-mode.enabled", newValue);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
         
         player.sendMessage(Text.createTextWithLang(
             "admin.survival-mode-toggled")
                 .replace("{status}", newValue ? "enabled" : "disabled").build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -212,13 +212,13 @@ public class ModeSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".death-handling.action", next.name());
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang(
                         "admin.death-action-changed")
                 .replace("{action}", next.getDisplayName()).build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -230,13 +230,13 @@ public class ModeSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".item-handling.drop-mode", next.name());
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang(
                         "admin.item-drop-mode-changed")
                 .replace("{action}", next.getDisplayName()).build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -245,13 +245,13 @@ public class ModeSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".survival-mode.allow-pvp", newValue);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang(
                         "admin.pvp-toggled")
                 .replace("{status}", newValue ? "enabled" : "disabled").build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -260,19 +260,19 @@ public class ModeSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".item-handling.keep-inventory-on-death", newValue);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang(
                         "admin.keep-inventory-toggled")
                 .replace("{status}", newValue ? "enabled" : "disabled").build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
     private void reopenGUI() {
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            plugin.getArenaManager().reloadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             Arena reloaded = plugin.getArenaManager().getArena(arenaId);
             if (reloaded != null) {
                 new ModeSettingsGUI(plugin, player, reloaded).open();
@@ -38,7 +38,7 @@ public class PlayerSettingsGUI extends BaseGUI {
     }
 
     private void updateMinPlayers() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.min-players.slot", 11);
+        int slot = getItemSlot("min-players", 11);
         int minPlayers = arena.getConfig().getMinPlayers();
         
         ItemStack item = new ItemStack(Material.valueOf(
@@ -59,11 +59,11 @@ public class PlayerSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editMinPlayers());
+        setClickHandler(slot, p -> editMinPlayers());
     }
 
     private void updateMaxPlayers() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.max-players.slot", 13);
+        int slot = getItemSlot("max-players", 13);
         int maxPlayers = arena.getConfig().getMaxPlayers();
         
         ItemStack item = new ItemStack(Material.valueOf(
@@ -84,11 +84,11 @@ public class PlayerSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editMaxPlayers());
+        setClickHandler(slot, p -> editMaxPlayers());
     }
 
     private void updateCountdown() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.countdown.slot", 15);
+        int slot = getItemSlot("countdown", 15);
         int countdown = arena.getConfig().getCountdownTime();
         
         ItemStack item = new ItemStack(Material.valueOf(
@@ -109,11 +109,11 @@ public class PlayerSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editCountdown());
+        setClickHandler(slot, p -> editCountdown());
     }
 
     private void updateAutoStart() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.auto-start.slot", 22);
+        int slot = getItemSlot("auto-start", 22);
         boolean autoStart = arena.getConfig().isAutoStart();
         
         String materialKey = autoStart ? "material-enabled" : "material-disabled";
@@ -136,7 +136,7 @@ public class PlayerSettingsGUI extends BaseGUI {
         }
         
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> toggleAutoStart());
+        setClickHandler(slot, p -> toggleAutoStart());
     }
 
     private void editMinPlayers() {
@@ -167,7 +167,7 @@ public class PlayerSettingsGUI extends BaseGUI {
 
                     plugin.getFileManager().getArenas()
                             .set("arenas." + arenaId + ".min-players", value);
-                    plugin.getFileManager().getArenas().save();
+                    plugin.getFileManager().getArenas().scheduleSave();
 
                     player.sendMessage(Text.createTextWithLang("prompts.min-players-updated")
                             .replace("{value}", String.valueOf(value)).build());
@@ -207,7 +207,7 @@ public class PlayerSettingsGUI extends BaseGUI {
 
                     plugin.getFileManager().getArenas()
                             .set("arenas." + arenaId + ".max-players", value);
-                    plugin.getFileManager().getArenas().save();
+                    plugin.getFileManager().getArenas().scheduleSave();
 
                     player.sendMessage(Text.createTextWithLang("prompts.max-players-updated")
                             .replace("{value}", String.valueOf(value)).build(player));
@@ -244,7 +244,7 @@ public class PlayerSettingsGUI extends BaseGUI {
 
                     plugin.getFileManager().getArenas()
                             .set("arenas." + arenaId + ".countdown", value);
-                    plugin.getFileManager().getArenas().save();
+                    plugin.getFileManager().getArenas().scheduleSave();
 
                     player.sendMessage(Text.createTextWithLang("prompts.countdown-time-updated")
                             .replace("{value}", String.valueOf(value)).build(player));
@@ -260,18 +260,18 @@ public class PlayerSettingsGUI extends BaseGUI {
         
         plugin.getFileManager().getArenas()
             .set("arenas." + arenaId + ".auto-start", newValue);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
         
         player.sendMessage(Text.createTextWithLang("prompts.auto-start-toggled")
                 .replace("{status}", newValue ? "enabled" : "disabled").build(player));
         
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
     private void reopenGUI() {
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            plugin.getArenaManager().reloadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             Arena reloaded = plugin.getArenaManager().getArena(arenaId);
             if (reloaded != null) {
                 new PlayerSettingsGUI(plugin, player, reloaded).open();
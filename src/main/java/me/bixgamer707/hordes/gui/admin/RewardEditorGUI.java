@@ -40,7 +40,7 @@ public class RewardEditorGUI extends BaseGUI {
     }
 
     private void updateRewardStatus() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.reward-status.slot", 4);
+        int slot = getItemSlot("reward-status", 4);
         boolean enabled = arena.getConfig().getRewardConfig().isEnabled();
 
         String materialKey = enabled ? "material-enabled" : "material-disabled";
@@ -69,11 +69,11 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> toggleRewardStatus());
+        setClickHandler(slot, p -> toggleRewardStatus());
     }
 
     private void updateRewardType() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.reward-type.slot", 10);
+        int slot = getItemSlot("reward-type", 10);
         RewardType type = arena.getConfig().getRewardConfig().getType();
 
         String materialKey = "material-" + type.name().toLowerCase();
@@ -97,11 +97,11 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> cycleRewardType());
+        setClickHandler(slot, p -> cycleRewardType());
     }
 
     private void updateMoneyReward() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.money-reward.slot", 12);
+        int slot = getItemSlot("money-reward", 12);
         double money = arena.getConfig().getRewardConfig().getMoney();
 
         ItemStack item = new ItemStack(Material.valueOf(
@@ -122,11 +122,11 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editMoneyReward());
+        setClickHandler(slot, p -> editMoneyReward());
     }
 
     private void updateItemRewards() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.item-rewards.slot", 14);
+        int slot = getItemSlot("item-rewards", 14);
         List<String> items = arena.getConfig().getRewardConfig().getItems();
 
         ItemStack item = new ItemStack(Material.valueOf(
@@ -164,11 +164,11 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editItemRewards());
+        setClickHandler(slot, p -> editItemRewards());
     }
 
     private void updateCommandRewards() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.command-rewards.slot", 16);
+        int slot = getItemSlot("command-rewards", 16);
         List<String> commands = arena.getConfig().getRewardConfig().getCommands();
 
         ItemStack item = new ItemStack(Material.valueOf(
@@ -206,11 +206,11 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editCommandRewards());
+        setClickHandler(slot, p -> editCommandRewards());
     }
 
     private void updateProgressiveMultiplier() {
-        int slot = guiConfig.getInt("guis."+guiId+".items.progressive-multiplier.slot", 22);
+        int slot = getItemSlot("progressive-multiplier", 22);
         double multiplier = arena.getConfig().getRewardConfig().getProgressiveMultiplier();
 
         ItemStack item = new ItemStack(Material.valueOf(
@@ -237,7 +237,7 @@ public class RewardEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> editProgressiveMultiplier());
+        setClickHandler(slot, p -> editProgressiveMultiplier());
     }
 
     private String getRewardTypeDescription(RewardType type) {
@@ -250,12 +250,12 @@ public class RewardEditorGUI extends BaseGUI {
 
         plugin.getFileManager().getArenas()
                 .set("arenas." + arenaId + ".rewards.enabled", newValue);
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang("admin.reward-status-toggled")
                         .replace("{status}", newValue ? "enabled" : "disabled").build(player));
 
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -267,12 +267,12 @@ public class RewardEditorGUI extends BaseGUI {
 
         plugin.getFileManager().getArenas()
                 .set("arenas." + arenaId + ".rewards.type", next.name());
-        plugin.getFileManager().getArenas().save();
+        plugin.getFileManager().getArenas().scheduleSave();
 
         player.sendMessage(Text.createTextWithLang("admin.reward-type-changed")
                         .replace("{type}", next.getDisplayName()).build(player));
 
-        playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+        playSound(template.getSound("click", "UI_BUTTON_CLICK"));
         reopenGUI();
     }
 
@@ -295,7 +295,7 @@ public class RewardEditorGUI extends BaseGUI {
 
                         plugin.getFileManager().getArenas()
                                 .set("arenas." + arenaId + ".rewards.money", amount);
-                        plugin.getFileManager().getArenas().save();
+                        plugin.getFileManager().getArenas().scheduleSave();
                         reopenGUI();
 
                     } catch (NumberFormatException e) {
@@ -324,7 +324,7 @@ public class RewardEditorGUI extends BaseGUI {
                     if (input.equalsIgnoreCase("done")) {
                         plugin.getFileManager().getArenas()
                                 .set("arenas." + arenaId + ".rewards.items", items);
-                        plugin.getFileManager().getArenas().save();
+                        plugin.getFileManager().getArenas().scheduleSave();
 
                         player.sendMessage(Text.createTextWithLang("prompts.item-rewards-updated")
                                         .replace("{count}", String.valueOf(items.size())).build(player));
@@ -382,7 +382,7 @@ public class RewardEditorGUI extends BaseGUI {
                     if (input.equalsIgnoreCase("done")) {
                         plugin.getFileManager().getArenas()
                                 .set("arenas." + arenaId + ".rewards.commands", commands);
-                        plugin.getFileManager().getArenas().save();
+                        plugin.getFileManager().getArenas().scheduleSave();
 
                         player.sendMessage(Text.createTextWithLang("prompts.command-rewards-updated")
                                         .replace("{count}", String.valueOf(commands.size())).build(player));
@@ -429,7 +429,7 @@ public class RewardEditorGUI extends BaseGUI {
 
                         plugin.getFileManager().getArenas()
                                 .set("arenas." + arenaId + ".rewards.progressive-multiplier", value);
-                        plugin.getFileManager().getArenas().save();
+                        plugin.getFileManager().getArenas().scheduleSave();
 
                         player.sendMessage(Text.createTextWithLang("prompts.multiplier-updated")
                                         .replace("{value}", String.format("%.1f", value * 100)).build(player));
@@ -449,28 +449,28 @@ public class RewardEditorGUI extends BaseGUI {
         if (actionType.equals("clear-items")) {
             plugin.getFileManager().getArenas()
                     .set("arenas." + arenaId + ".rewards.items", new ArrayList<>());
-            plugin.getFileManager().getArenas().save();
+            plugin.getFileManager().getArenas().scheduleSave();
 
             player.sendMessage(Text.createTextWithLang("prompts.items-cleared").build(player));
 
-            playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+            playSound(template.getSound("click", "UI_BUTTON_CLICK"));
             reopenGUI();
 
         } else if (actionType.equals("clear-commands")) {
             plugin.getFileManager().getArenas()
                     .set("arenas." + arenaId + ".rewards.commands", new ArrayList<>());
-            plugin.getFileManager().getArenas().save();
+            plugin.getFileManager().getArenas().scheduleSave();
 
             player.sendMessage(Text.createTextWithLang("prompts.commands-cleared").build(player));
 
-            playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+            playSound(template.getSound("click", "UI_BUTTON_CLICK"));
             reopenGUI();
         }
     }
 
     private void reopenGUI() {
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            plugin.getArenaManager().reloadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             Arena reloaded = plugin.getArenaManager().getArena(arenaId);
             if (reloaded != null) {
                 new RewardEditorGUI(plugin, player, reloaded).open();
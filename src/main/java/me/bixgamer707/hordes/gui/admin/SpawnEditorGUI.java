@@ -93,7 +93,7 @@ public class SpawnEditorGUI extends BaseGUI {
         }
 
         inventory.setItem(slot, item);
-        clickHandlers.put(slot + "", p -> handleSpawnClick(p, spawnType));
+        setClickHandler(slot, p -> handleSpawnClick(p, spawnType));
     }
 
     /**
@@ -128,7 +128,7 @@ public class SpawnEditorGUI extends BaseGUI {
                     spawnType.substring(0,1).toUpperCase() + spawnType.substring(1));
             playSound("success");
 
-            plugin.getArenaManager().loadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             refresh();
         } else {
             sendConfigMessage("Messages.admin.spawn-set-failed", plugin.getFileManager().getMessages());
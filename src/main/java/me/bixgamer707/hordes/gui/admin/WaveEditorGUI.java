@@ -5,6 +5,7 @@ import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.gui.BaseGUI;
 import me.bixgamer707.hordes.text.Text;
 import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -50,7 +51,7 @@ public class WaveEditorGUI extends BaseGUI {
             inventory.setItem(slot, waveItem);
             
             final int finalWave = waveNumber;
-            clickHandlers.put(slot + "", p -> handleWaveClick(p, finalWave));
+            setClickHandler(slot, p -> handleWaveClick(p, finalWave));
             
             slotIndex++;
         }
@@ -82,9 +83,10 @@ public class WaveEditorGUI extends BaseGUI {
      * Creates wave item from config
      */
     private ItemStack createWaveItem(int waveNumber) {
-        // Get wave config from mobs.yml
-        boolean hasConfig = plugin.getFileManager().getMobs()
-            .contains(arenaId + ".wave-" + waveNumber);
+        // Get wave config from mobs.yml (templates applied)
+        ConfigurationSection waves = plugin.getArenaManager().getWaveSection(arenaId);
+        boolean hasConfig = waves != null
+            && (waves.contains("wave-" + waveNumber) || waves.contains("waves." + waveNumber));
         
         // Get material from GUI config
         String materialKey = "items.wave-item.material-" + (hasConfig ? "configured" : "not-configured");
@@ -161,8 +163,8 @@ public class WaveEditorGUI extends BaseGUI {
      * Updates pagination buttons
      */
     private void updatePaginationButtons() {
-        int prevSlot = guiConfig.getInt("guis."+guiId+".items.previous-page.slot", 45);
-        int nextSlot = guiConfig.getInt("guis."+guiId+".items.next-page.slot", 53);
+        int prevSlot = getItemSlot("previous-page", 45);
+        int nextSlot = getItemSlot("next-page", 53);
         
         if (currentPage > 0) {
             updateItemLore(prevSlot, new String[]{
@@ -190,13 +192,13 @@ public class WaveEditorGUI extends BaseGUI {
             int newWave = arena.getConfig().getTotalWaves() + 1;
             plugin.getFileManager().getFile("arenas.yml")
                 .set("arenas." + arenaId + ".total-waves", newWave);
-            plugin.getFileManager().getArenas().save();
+            plugin.getFileManager().getArenas().scheduleSave();
 
             player.sendMessage(Text.createTextWithLang("admin.wave-added")
                             .replace("{count}", String.valueOf(newWave))
                     .build());
             
-            plugin.getArenaManager().loadArenas();
+            plugin.getArenaManager().reloadArena(arenaId);
             refresh();
         }
     }
@@ -250,7 +250,7 @@ public class ArenaInfoGUI extends BaseGUI {
             int shown = Math.min(players.size(), 10);
             for (int i = 0; i < shown; i++) {
                 HordePlayer hp = players.get(i);
-                playerList.append("&7- &e").append(hp.getPlayer().getName());
+                playerList.append("&7- &e").append(hp.getName());
                 if (i < shown - 1) {
                     playerList.append("\n");
                 }
@@ -322,16 +322,16 @@ public class ArenaInfoGUI extends BaseGUI {
                 boolean success = plugin.getArenaManager().joinArena(player, arena.getId());
                 if (success) {
                     close();
-                    playSound(guiConfig.getString("guis."+guiId+".sounds.success", "ENTITY_PLAYER_LEVELUP"));
+                    playSound(template.getSound("success", "ENTITY_PLAYER_LEVELUP"));
                 } else {
-                    playSound(guiConfig.getString("guis."+guiId+".sounds.error", "ENTITY_VILLAGER_NO"));
+                    playSound(template.getSound("error", "ENTITY_VILLAGER_NO"));
                 }
                 break;
                 
             case "refresh":
                 // Refresh the GUI
                 refresh();
-                playSound(guiConfig.getString("guis."+guiId+".sounds.click", "UI_BUTTON_CLICK"));
+                playSound(template.getSound("click", "UI_BUTTON_CLICK"));
                 break;
         }
     }
@@ -2,24 +2,44 @@ package me.bixgamer707.hordes.gui.player;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaChange;
+import me.bixgamer707.hordes.arena.ArenaObserver;
 import me.bixgamer707.hordes.arena.ArenaState;
 import me.bixgamer707.hordes.gui.BaseGUI;
+import me.bixgamer707.hordes.gui.template.TemplateItem;
 import me.bixgamer707.hordes.text.Text;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * GUI for players to select and join arenas
  * 100% configurable from guis.yml
+ *
+ * While open, the GUI observes arena changes and patches only the
+ * slots of arenas that changed, at most once per tick
  */
-public class ArenaSelectionGUI extends BaseGUI {
+public class ArenaSelectionGUI extends BaseGUI implements ArenaObserver {
 
     private final List<Arena> arenas;
+    
+    // ArenaID -> slot on the current page
+    private final Map<String, Integer> arenaSlots;
+    
+    // Arenas changed since the last flush
+    private final Set<Arena> changedArenas;
+    
+    private boolean flushScheduled;
+    private boolean subscribed;
     private static final int ARENAS_PER_PAGE = 28; // 4 rows of 7 items
     
     // Arena display slots: rows 2-5, columns 2-8
@@ -33,6 +53,9 @@ public class ArenaSelectionGUI extends BaseGUI {
     public ArenaSelectionGUI(Hordes plugin, Player player) {
         super(plugin, player, "arena-selection");
         
+        this.arenaSlots = new HashMap<>();
+        this.changedArenas = new LinkedHashSet<>();
+        
         // Get all enabled arenas
         this.arenas = new ArrayList<>();
         for (Arena arena : plugin.getArenaManager().getArenas().values()) {
@@ -50,6 +73,8 @@ public class ArenaSelectionGUI extends BaseGUI {
     protected void buildDynamic() {
         // Static items (border, buttons, etc.) are already loaded by BaseGUI
         // We only add dynamic arena items here
+        arenaSlots.clear();
+        changedArenas.clear();
         
         if (arenas.isEmpty()) {
             // Show "no arenas" message
@@ -72,7 +97,8 @@ public class ArenaSelectionGUI extends BaseGUI {
             
             // Register click handler
             final String arenaId = arena.getId();
-            clickHandlers.put(slot + "", p -> handleArenaClick(p, arenaId));
+            arenaSlots.put(arenaId, slot);
+            setClickHandler(slot, p -> handleArenaClick(p, arenaId));
             
             slotIndex++;
         }
@@ -82,6 +108,62 @@ public class ArenaSelectionGUI extends BaseGUI {
         updatePaginationButtons();
     }
 
+    @Override
+    public void open() {
+        super.open();
+        
+        if (!subscribed) {
+            plugin.getArenaManager().subscribe(this);
+            subscribed = true;
+        }
+    }
+
+    @Override
+    protected void onClose() {
+        super.onClose();
+        
+        if (subscribed) {
+            plugin.getArenaManager().unsubscribe(this);
+            subscribed = false;
+        }
+        changedArenas.clear();
+    }
+
+    @Override
+    public void onArenaChange(Arena arena, ArenaChange change) {
+        if (!arenaSlots.containsKey(arena.getId())) {
+            return;
+        }
+        
+        changedArenas.add(arena);
+        
+        // Coalesce all changes of this tick into one flush
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flushChanges);
+        }
+    }
+
+    /**
+     * Re-renders the slots of arenas changed since the last flush
+     */
+    private void flushChanges() {
+        flushScheduled = false;
+        
+        if (!subscribed) {
+            return;
+        }
+        
+        for (Arena arena : changedArenas) {
+            Integer slot = arenaSlots.get(arena.getId());
+            if (slot != null) {
+                inventory.setItem(slot, createArenaItem(arena));
+            }
+        }
+        
+        changedArenas.clear();
+    }
+
     /**
      * Creates an ItemStack for an arena based on its state
      */
@@ -95,14 +177,16 @@ public class ArenaSelectionGUI extends BaseGUI {
             return item;
         }
         
-        // Get name from config and replace placeholders
-        String nameTemplate = guiConfig.getString("guis."+guiId+".items.arena-item.name", "&e{arena_name}");
+        // Name and lore come precompiled from the template
+        TemplateItem itemTemplate = template.getItem("arena-item");
+        String nameTemplate = itemTemplate != null && itemTemplate.getName() != null
+                ? itemTemplate.getName() : "&e{arena_name}";
         String name = nameTemplate.replace("{arena_name}", arena.getConfig().getDisplayName());
         meta.setDisplayName(Text.createText(name).build(player));
         
-        // Get lore from config and replace placeholders
-        List<String> loreTemplate = guiConfig.getStringList("guis." + guiId + ".items.arena-item.lore");
-        List<String> lore = new ArrayList<>();
+        // Replace placeholders in the compiled lore
+        List<String> loreTemplate = itemTemplate != null ? itemTemplate.getLore() : List.of();
+        List<String> lore = new ArrayList<>(loreTemplate.size());
         
         for (String line : loreTemplate) {
             String processed = line
@@ -174,10 +258,10 @@ public class ArenaSelectionGUI extends BaseGUI {
         if (success) {
             // Successfully joined - close GUI
             close();
-            playSound(guiConfig.getString("guis."+guiId+".sounds.open", "ENTITY_PLAYER_LEVELUP"));
+            playSound(template.getSound("open", "ENTITY_PLAYER_LEVELUP"));
         } else {
             // Failed to join - play error sound but keep GUI open
-            playSound(guiConfig.getString("guis."+guiId+".sounds.error", "ENTITY_VILLAGER_NO"));
+            playSound(template.getSound("error", "ENTITY_VILLAGER_NO"));
             // Refresh GUI in case arena state changed
             refresh();
         }
@@ -2,27 +2,40 @@ package me.bixgamer707.hordes.gui.player;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.gui.BaseGUI;
+import me.bixgamer707.hordes.gui.template.TemplateItem;
+import me.bixgamer707.hordes.leaderboard.LeaderboardCategory;
+import me.bixgamer707.hordes.leaderboard.LeaderboardManager;
+import me.bixgamer707.hordes.leaderboard.LeaderboardScope;
+import me.bixgamer707.hordes.leaderboard.RankIndex;
 import me.bixgamer707.hordes.statistics.PlayerStatistics;
+import me.bixgamer707.hordes.statistics.StatWindow;
 import me.bixgamer707.hordes.text.Text;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Leaderboard GUI - Shows top players
  * 100% configurable from guis.yml
+ *
+ * Pages are served as rank ranges from the leaderboard index,
+ * so opening a page never sorts the full statistics cache
  */
 public class LeaderboardGUI extends BaseGUI {
 
-    private String currentCategory;
-    private static final int ENTRIES_PER_PAGE = 28;
+    private LeaderboardCategory category;
+
+    // Filters (mutually exclusive, null = all)
+    private StatWindow window;
+    private String arenaId;
+
     private static final int[] ENTRY_SLOTS = {
-        10, 11, 12, 13, 14, 15, 16,
         19, 20, 21, 22, 23, 24, 25,
         28, 29, 30, 31, 32, 33, 34,
         37, 38, 39, 40, 41, 42, 43
@@ -34,126 +47,265 @@ public class LeaderboardGUI extends BaseGUI {
 
     public LeaderboardGUI(Hordes plugin, Player player, String category) {
         super(plugin, player, "leaderboard");
-        this.currentCategory = category;
+
+        LeaderboardCategory parsed = LeaderboardCategory.fromKey(category);
+        this.category = parsed != null ? parsed : LeaderboardCategory.COMPLETIONS;
     }
 
     @Override
     protected void buildDynamic() {
-        // Load leaderboard data based on category
-        List<PlayerStatistics> topPlayers = getTopPlayers(currentCategory, ENTRIES_PER_PAGE);
+        LeaderboardScope scope = getScope();
+        LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+
+        if (!plugin.getStatisticsManager().isEnabled()) {
+            maxPages = 1;
+            currentPage = 0;
+            updatePaginationButtons();
+            updateFilters();
+            return;
+        }
+
+        RankIndex index = leaderboards.getIndex(category, scope);
+
+        // Pagination over the ranked players
+        maxPages = Math.max(1, (index.size() + ENTRY_SLOTS.length - 1) / ENTRY_SLOTS.length);
+        currentPage = Math.min(currentPage, maxPages - 1);
+
+        int offset = currentPage * ENTRY_SLOTS.length;
+        List<UUID> page = index.getRange(offset, ENTRY_SLOTS.length);
+
+        TemplateItem entryTemplate = template.getItem("player-entry");
+
+        for (int i = 0; i < page.size(); i++) {
+            UUID uuid = page.get(i);
+            PlayerStatistics stats = plugin.getStatisticsManager().getCachedStatistics(uuid);
+            if (stats == null) {
+                continue;
+            }
 
-        // Display entries
-        for (int i = 0; i < topPlayers.size() && i < ENTRY_SLOTS.length; i++) {
-            PlayerStatistics stats = topPlayers.get(i);
             int slot = ENTRY_SLOTS[i];
-            int position = i + 1;
+            int position = offset + i + 1;
 
-            ItemStack entry = createEntryItem(stats, position);
-            inventory.setItem(slot, entry);
+            ItemStack entry = createEntryItem(entryTemplate, stats, position, index.getScore(uuid));
+
+            if (entry.getType() == Material.PLAYER_HEAD) {
+                setSkullItem(slot, entry, uuid, stats.getPlayerName());
+            } else {
+                inventory.setItem(slot, entry);
+            }
         }
 
-        // Update your position
-        updateYourPosition();
+        updatePaginationButtons();
+        updateFilters();
+        updateYourPosition(index);
     }
 
-    private List<PlayerStatistics> getTopPlayers(String category, int limit) {
-        if (!plugin.getStatisticsManager().isEnabled()) {
-            return new ArrayList<>();
-        }
-
-        switch (category) {
-            case "completions":
-                return plugin.getStatisticsManager().getTopByCompletions(limit);
-            case "kills":
-                return plugin.getStatisticsManager().getTopByKills(limit);
-            case "speed":
-                return plugin.getStatisticsManager().getTopBySpeed(limit);
-            case "winrate":
-                // Not implemented yet
-                return new ArrayList<>();
-            default:
-                return new ArrayList<>();
+    /**
+     * Gets the active scope
+     */
+    private LeaderboardScope getScope() {
+        if (arenaId != null) {
+            return LeaderboardScope.arena(arenaId);
         }
+        return LeaderboardScope.window(window);
     }
 
-    private ItemStack createEntryItem(PlayerStatistics stats, int position) {
+    private ItemStack createEntryItem(TemplateItem entryTemplate, PlayerStatistics stats,
+                                      int position, double score) {
         Material material = getMaterialForPosition(position);
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
 
-        if (meta != null) {
-            String medal = getMedal(position);
-            String name = medal + " &7#" + position + " &f" + stats.getPlayerName();
-            meta.setDisplayName(Text.createText(name).build(player));
+        if (meta == null) {
+            return item;
+        }
 
-            List<String> lore = new ArrayList<>();
-            String statValue = getStatValue(stats, currentCategory);
-            lore.add(Text.createText("&7" + getCategoryName() + ": &e" + statValue).build(player));
+        String nameTemplate = entryTemplate != null && entryTemplate.getName() != null
+                ? entryTemplate.getName() : "{position_medal} &7#{position} &f{player_name}";
+        String statName = getCategoryName();
+        String statValue = category.format(score);
+        String lastSeen = Bukkit.getPlayer(stats.getPlayerUuid()) != null
+                ? getText("leaderboard.online", "&aOnline")
+                : getText("leaderboard.offline", "&7Offline");
 
-            meta.setLore(lore);
+        meta.setDisplayName(Text.createText(nameTemplate
+                .replace("{position_medal}", LeaderboardManager.getMedal(position))
+                .replace("{position}", String.valueOf(position))
+                .replace("{player_name}", stats.getPlayerName())).build(player));
 
-            // Set skull owner if player head
-            if (material == Material.PLAYER_HEAD && meta instanceof SkullMeta) {
-                ((SkullMeta) meta).setOwner(stats.getPlayerName());
-            }
+        List<String> loreTemplate = entryTemplate != null ? entryTemplate.getLore() : List.of();
+        List<String> lore = new ArrayList<>(loreTemplate.size());
 
-            item.setItemMeta(meta);
+        for (String line : loreTemplate) {
+            lore.add(Text.createText(line
+                    .replace("{stat_name}", statName)
+                    .replace("{stat_value}", statValue)
+                    .replace("{last_seen}", lastSeen)).build(player));
         }
 
+        meta.setLore(lore);
+        item.setItemMeta(meta);
+
         return item;
     }
 
     private Material getMaterialForPosition(int position) {
-        if (position == 1) return Material.GOLD_BLOCK;
-        if (position == 2) return Material.IRON_BLOCK;
-        if (position == 3) return Material.COPPER_BLOCK;
-        return Material.PLAYER_HEAD;
-    }
+        String key;
+        Material def;
 
-    private String getMedal(int position) {
         switch (position) {
-            case 1: return "§6🥇";
-            case 2: return "§7🥈";
-            case 3: return "§c🥉";
-            default: return "§7 ";
+            case 1: key = "material-1st"; def = Material.GOLD_BLOCK; break;
+            case 2: key = "material-2nd"; def = Material.IRON_BLOCK; break;
+            case 3: key = "material-3rd"; def = Material.COPPER_BLOCK; break;
+            default: key = "material-other"; def = Material.PLAYER_HEAD; break;
         }
+
+        Material material = Material.getMaterial(
+                guiConfig.getString("guis." + guiId + ".items.player-entry." + key, def.name()).toUpperCase());
+        return material != null ? material : def;
+    }
+
+    private String getCategoryName() {
+        return Text.getMessages().getString("Messages.leaderboard." + category.getKey(), category.getKey());
+    }
+
+    private String getText(String path, String def) {
+        return Text.getMessages().getString("Messages." + path, def);
     }
 
-    private String getStatValue(PlayerStatistics stats, String category) {
-        switch (category) {
-            case "completions":
-                return String.valueOf(stats.getTotalCompletions());
-            case "kills":
-                return String.valueOf(stats.getTotalKills());
-            case "speed":
-                return formatTime(stats.getFastestCompletion());
-            case "winrate":
-                return String.format("%.1f%%", stats.getWinRate());
-            default:
-                return "N/A";
+    /**
+     * Updates the player's own rank in O(log n)
+     */
+    private void updateYourPosition(RankIndex index) {
+        int rank = index.getRank(player.getUniqueId());
+
+        replaceInItem(getItemSlot("your-position", 49),
+                "{your_rank}", rank > 0 ? String.valueOf(rank) : "-",
+                "{stat_name}", getCategoryName(),
+                "{your_value}", category.format(index.getScore(player.getUniqueId())));
+    }
+
+    /**
+     * Updates filter buttons with the active window and arena
+     */
+    private void updateFilters() {
+        String windowName = window != null
+                ? getText("leaderboard.windows." + window.getKey(), window.getKey())
+                : getText("leaderboard.windows.all-time", "All time");
+        String arenaName = arenaId != null
+                ? arenaId
+                : getText("leaderboard.all-arenas", "All arenas");
+
+        replaceInItem(getItemSlot("window-filter", 48), "{window}", windowName);
+        replaceInItem(getItemSlot("arena-filter", 50), "{arena}", arenaName);
+    }
+
+    /**
+     * Updates or hides pagination buttons
+     */
+    private void updatePaginationButtons() {
+        String current = String.valueOf(currentPage + 1);
+        String total = String.valueOf(maxPages);
+
+        int previousSlot = getItemSlot("previous-page", 46);
+        if (currentPage > 0) {
+            replaceInItem(previousSlot, "{current_page}", current, "{total_pages}", total);
+        } else {
+            inventory.setItem(previousSlot, null);
+        }
+
+        int nextSlot = getItemSlot("next-page", 52);
+        if (currentPage < maxPages - 1) {
+            replaceInItem(nextSlot, "{current_page}", current, "{total_pages}", total);
+        } else {
+            inventory.setItem(nextSlot, null);
         }
     }
 
-    private String getCategoryName() {
-        return Text.getMessages().getString("Messages.leaderboard." + currentCategory, currentCategory);
+    /**
+     * Replaces named placeholders in an item's name and lore
+     *
+     * @param replacements Alternating placeholder and value
+     */
+    private void replaceInItem(int slot, String... replacements) {
+        ItemStack item = inventory.getItem(slot);
+        if (item == null || !item.hasItemMeta()) {
+            return;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return;
+        }
+
+        if (meta.hasDisplayName()) {
+            meta.setDisplayName(replace(meta.getDisplayName(), replacements));
+        }
+
+        if (meta.hasLore()) {
+            List<String> lore = new ArrayList<>();
+            for (String line : meta.getLore()) {
+                lore.add(replace(line, replacements));
+            }
+            meta.setLore(lore);
+        }
+
+        item.setItemMeta(meta);
+        inventory.setItem(slot, item);
     }
 
-    private String formatTime(long seconds) {
-        if (seconds < 60) return seconds + "s";
-        long minutes = seconds / 60;
-        long secs = seconds % 60;
-        return minutes + "m " + secs + "s";
+    private String replace(String text, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            text = text.replace(replacements[i], Text.createText(replacements[i + 1]).build());
+        }
+        return text;
     }
 
-    private void updateYourPosition() {
-        // TODO: Calculate player's position in leaderboard
+    /**
+     * Cycles all time -> daily -> weekly -> monthly
+     */
+    private void cycleWindow() {
+        StatWindow[] windows = StatWindow.values();
+        window = window == null ? windows[0]
+                : window.ordinal() + 1 < windows.length ? windows[window.ordinal() + 1] : null;
+        arenaId = null;
+    }
+
+    /**
+     * Cycles all arenas -> each arena
+     */
+    private void cycleArena() {
+        List<String> arenaIds = new ArrayList<>(plugin.getArenaManager().getArenas().keySet());
+        arenaIds.sort(String.CASE_INSENSITIVE_ORDER);
+
+        int next = arenaId == null ? 0 : arenaIds.indexOf(arenaId) + 1;
+        arenaId = next < arenaIds.size() ? arenaIds.get(next) : null;
+        window = null;
     }
 
     @Override
     protected void handleCustomAction(int slot, String actionType, String actionValue, String itemId) {
-        if (actionType.equals("category")) {
-            currentCategory = actionValue;
-            refresh();
+        switch (actionType) {
+            case "category":
+                LeaderboardCategory selected = LeaderboardCategory.fromKey(actionValue);
+                if (selected != null) {
+                    category = selected;
+                    currentPage = 0;
+                    refresh();
+                }
+                break;
+
+            case "cycle-window":
+                cycleWindow();
+                currentPage = 0;
+                refresh();
+                break;
+
+            case "cycle-arena":
+                cycleArena();
+                currentPage = 0;
+                refresh();
+                break;
         }
     }
-}
\ No newline at end of file
+}
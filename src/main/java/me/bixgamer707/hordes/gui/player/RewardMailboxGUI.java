@@ -0,0 +1,183 @@
+package me.bixgamer707.hordes.gui.player;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.gui.BaseGUI;
+import me.bixgamer707.hordes.gui.template.TemplateItem;
+import me.bixgamer707.hordes.rewards.RewardMailbox;
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reward mailbox GUI - Shows pending rewards
+ * 100% configurable from guis.yml
+ *
+ * Clicking an entry claims it, claim-all claims everything
+ */
+public class RewardMailboxGUI extends BaseGUI {
+
+    private static final int[] ENTRY_SLOTS = {
+        10, 11, 12, 13, 14, 15, 16,
+        19, 20, 21, 22, 23, 24, 25,
+        28, 29, 30, 31, 32, 33, 34,
+        37, 38, 39, 40, 41, 42, 43
+    };
+
+    public RewardMailboxGUI(Hordes plugin, Player player) {
+        super(plugin, player, "reward-mailbox");
+    }
+
+    @Override
+    protected void buildDynamic() {
+        List<RewardMailbox.MailEntry> entries = plugin.getRewardManager().getClaimable(player.getUniqueId());
+
+        // Pagination over the pending entries
+        maxPages = Math.max(1, (entries.size() + ENTRY_SLOTS.length - 1) / ENTRY_SLOTS.length);
+        currentPage = Math.min(currentPage, maxPages - 1);
+
+        int offset = currentPage * ENTRY_SLOTS.length;
+        int end = Math.min(entries.size(), offset + ENTRY_SLOTS.length);
+
+        for (int i = offset; i < end; i++) {
+            RewardMailbox.MailEntry entry = entries.get(i);
+            int slot = ENTRY_SLOTS[i - offset];
+
+            inventory.setItem(slot, createEntryItem(entry));
+            setClickHandler(slot, p -> claim(Collections.singletonList(entry)));
+        }
+
+        updatePaginationButtons(entries.size());
+    }
+
+    /**
+     * Renders a pending entry
+     * Items show themselves, money and commands use their template
+     */
+    private ItemStack createEntryItem(RewardMailbox.MailEntry entry) {
+        switch (entry.getType()) {
+            case ITEM:
+                ItemStack item = entry.createItem();
+                return item != null
+                        ? withLore(item, "item-entry")
+                        : fromTemplate("command-entry", Material.PAPER);
+
+            case MONEY:
+                return fromTemplate("money-entry", Material.GOLD_INGOT,
+                        "{amount}", String.format("%.2f", entry.getAmount()));
+
+            default:
+                return fromTemplate("command-entry", Material.PAPER);
+        }
+    }
+
+    /**
+     * Appends the configured lore of an entry template to an item
+     */
+    private ItemStack withLore(ItemStack item, String templateId) {
+        TemplateItem entryTemplate = template.getItem(templateId);
+        ItemMeta meta = item.getItemMeta();
+
+        if (entryTemplate == null || meta == null) {
+            return item;
+        }
+
+        List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
+        for (String line : entryTemplate.getLore()) {
+            lore.add(Text.createText(line).build(player));
+        }
+
+        meta.setLore(lore);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    /**
+     * Builds an entry from its template item
+     *
+     * @param replacements Alternating placeholder and value
+     */
+    private ItemStack fromTemplate(String templateId, Material def, String... replacements) {
+        TemplateItem entryTemplate = template.getItem(templateId);
+        ItemStack item = entryTemplate != null && entryTemplate.getBase() != null
+                ? entryTemplate.getBase().clone()
+                : new ItemStack(def);
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return item;
+        }
+
+        if (meta.hasDisplayName()) {
+            meta.setDisplayName(replace(meta.getDisplayName(), replacements));
+        }
+
+        if (meta.hasLore()) {
+            List<String> lore = new ArrayList<>();
+            for (String line : meta.getLore()) {
+                lore.add(replace(line, replacements));
+            }
+            meta.setLore(lore);
+        }
+
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    private String replace(String text, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            text = text.replace(replacements[i], replacements[i + 1]);
+        }
+        return text;
+    }
+
+    /**
+     * Updates or hides pagination buttons
+     */
+    private void updatePaginationButtons(int total) {
+        String current = String.valueOf(currentPage + 1);
+        String pages = String.valueOf(maxPages);
+
+        int previousSlot = getItemSlot("previous-page", 48);
+        if (currentPage > 0) {
+            updateItemLore(previousSlot, new String[] {current, pages});
+        } else {
+            inventory.setItem(previousSlot, null);
+        }
+
+        int nextSlot = getItemSlot("next-page", 50);
+        if (currentPage < maxPages - 1) {
+            updateItemLore(nextSlot, new String[] {current, pages});
+        } else {
+            inventory.setItem(nextSlot, null);
+        }
+
+        updateItemLore("claim-all", new String[] {String.valueOf(total)});
+    }
+
+    /**
+     * Claims entries and redraws the mailbox
+     */
+    private void claim(List<RewardMailbox.MailEntry> entries) {
+        if (!plugin.getRewardManager().claim(player, entries)) {
+            Text.sendMessage(player, "mailbox.in-arena");
+            close();
+            return;
+        }
+
+        playSound(template.getSound("claim", "ENTITY_EXPERIENCE_ORB_PICKUP"));
+        refresh();
+    }
+
+    @Override
+    protected void handleCustomAction(int slot, String actionType, String actionValue, String itemId) {
+        if (actionType.equals("claim-all")) {
+            claim(plugin.getRewardManager().getClaimable(player.getUniqueId()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package me.bixgamer707.hordes.gui.template;
+
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable GUI compiled from guis.yml
+ * Opening a menu clones the placed items and indexes actions by slot,
+ * so no configuration is read while players browse
+ */
+public final class GuiTemplate {
+
+    private final String id;
+    private final String title;
+    private final boolean placeholderTitle;
+    private final int size;
+
+    // Sound key -> sound name
+    private final Map<String, String> sounds;
+
+    // Item ID -> item (config order)
+    private final Map<String, TemplateItem> items;
+
+    // Items with a material and at least one slot, in config order
+    private final TemplateItem[] placed;
+
+    // Slot -> item whose actions handle clicks there
+    private final TemplateItem[] layout;
+
+    public GuiTemplate(String id, String title, int size, Map<String, String> sounds,
+                       Map<String, TemplateItem> items, TemplateItem[] placed) {
+        this.id = id;
+        this.title = title;
+        this.placeholderTitle = TemplateItem.hasPlaceholders(title);
+        this.size = size;
+        this.sounds = Collections.unmodifiableMap(sounds);
+        this.items = Collections.unmodifiableMap(items);
+        this.placed = placed;
+
+        // Later entries overwrite earlier ones, same as placing them in order
+        this.layout = new TemplateItem[size];
+        for (TemplateItem item : placed) {
+            for (int slot : item.getSlots()) {
+                layout[slot] = item;
+            }
+        }
+    }
+
+    /**
+     * Gets the title for a viewer
+     */
+    public String getTitle(Player viewer) {
+        return placeholderTitle ? new Text(title).build(viewer) : title;
+    }
+
+    /**
+     * Gets a configured sound name
+     */
+    public String getSound(String key, String def) {
+        return sounds.getOrDefault(key, def);
+    }
+
+    /**
+     * Gets the item placed at a slot
+     *
+     * @return Item or null
+     */
+    public TemplateItem getItemAt(int slot) {
+        return slot >= 0 && slot < layout.length ? layout[slot] : null;
+    }
+
+    /**
+     * Gets an item definition by ID
+     *
+     * @return Item or null
+     */
+    public TemplateItem getItem(String itemId) {
+        return items.get(itemId);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public TemplateItem[] getPlacedItems() {
+        return placed;
+    }
+
+    public Map<String, TemplateItem> getItems() {
+        return items;
+    }
+}
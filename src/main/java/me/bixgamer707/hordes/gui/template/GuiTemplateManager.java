@@ -0,0 +1,317 @@
+package me.bixgamer707.hordes.gui.template;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles guis.yml into immutable templates on load/reload
+ * GUIs look their template up by ID instead of walking the YAML tree
+ */
+public class GuiTemplateManager {
+
+    private static final String DEFAULT_TITLE = "&6Menu";
+    private static final int DEFAULT_ROWS = 6;
+
+    private final Hordes plugin;
+
+    // GUI ID -> template (replaced atomically on reload)
+    private volatile Map<String, GuiTemplate> templates;
+
+    public GuiTemplateManager(Hordes plugin) {
+        this.plugin = plugin;
+        this.templates = new ConcurrentHashMap<>();
+        loadTemplates();
+    }
+
+    /**
+     * Compiles every GUI under guis.*
+     */
+    private void loadTemplates() {
+        File guiConfig = plugin.getFileManager().getFile("guis.yml");
+        ConfigurationSection guis = guiConfig.getConfigurationSection("guis");
+
+        Map<String, GuiTemplate> loaded = new ConcurrentHashMap<>();
+
+        if (guis != null) {
+            for (String guiId : guis.getKeys(false)) {
+                ConfigurationSection section = guis.getConfigurationSection(guiId);
+                if (section != null) {
+                    loaded.put(guiId, compile(guiId, section));
+                }
+            }
+        }
+
+        templates = loaded;
+        plugin.logInfo("Compiled " + loaded.size() + " GUI templates");
+    }
+
+    /**
+     * Compiles a single GUI section
+     */
+    private GuiTemplate compile(String guiId, ConfigurationSection section) {
+        String title = Text.createText(section.getString("title", DEFAULT_TITLE)).build();
+        int rows = Math.max(1, Math.min(6, section.getInt("rows", DEFAULT_ROWS)));
+        int size = rows * 9;
+
+        Map<String, String> sounds = new HashMap<>();
+        ConfigurationSection soundsSection = section.getConfigurationSection("sounds");
+        if (soundsSection != null) {
+            for (String key : soundsSection.getKeys(false)) {
+                sounds.put(key, soundsSection.getString(key));
+            }
+        }
+
+        Map<String, TemplateItem> items = new LinkedHashMap<>();
+        List<TemplateItem> placed = new ArrayList<>();
+
+        ConfigurationSection itemsSection = section.getConfigurationSection("items");
+        if (itemsSection == null) {
+            plugin.logWarning("No items defined for GUI: " + guiId);
+        } else {
+            for (String itemId : itemsSection.getKeys(false)) {
+                ConfigurationSection itemSection = itemsSection.getConfigurationSection(itemId);
+                if (itemSection == null) {
+                    continue;
+                }
+
+                String path = "guis." + guiId + ".items." + itemId;
+                TemplateItem item = compileItem(itemId, path, itemSection, size);
+                items.put(itemId, item);
+
+                if (item.getBase() != null && item.getSlots().length > 0) {
+                    placed.add(item);
+                }
+            }
+        }
+
+        return new GuiTemplate(guiId, title, size, sounds, items, placed.toArray(new TemplateItem[0]));
+    }
+
+    /**
+     * Compiles an item definition
+     */
+    private TemplateItem compileItem(String itemId, String path, ConfigurationSection section, int size) {
+        int[] slots = parseSlots(section.get("slot"), size);
+
+        String rawName = section.getString("name");
+        String name = rawName != null ? Text.createText(rawName).build() : null;
+
+        List<String> lore = new ArrayList<>();
+        for (String line : section.getStringList("lore")) {
+            lore.add(Text.createText(line).build());
+        }
+
+        List<TemplateAction> actions = new ArrayList<>();
+        if (section.isList("action")) {
+            for (String raw : section.getStringList("action")) {
+                TemplateAction action = TemplateAction.parse(raw, true);
+                if (action != null) {
+                    actions.add(action);
+                }
+            }
+        } else {
+            TemplateAction action = TemplateAction.parse(section.getString("action"), false);
+            if (action != null) {
+                actions.add(action);
+            }
+        }
+
+        ItemStack base = buildBase(path, section, name, lore);
+
+        // Textures are applied when placed, never resolved here
+        String skullOwner = base != null && base.getType() == Material.PLAYER_HEAD
+                ? section.getString("skull-owner") : null;
+
+        return new TemplateItem(itemId, slots, base, name, lore, skullOwner, actions);
+    }
+
+    /**
+     * Builds the base ItemStack
+     *
+     * @return Stack or null if no valid material
+     */
+    private ItemStack buildBase(String path, ConfigurationSection section, String name,
+                                List<String> lore) {
+        String materialName = section.getString("material");
+        if (materialName == null) {
+            return null;
+        }
+
+        Material material;
+        if (materialName.equalsIgnoreCase("PLAYER_HEAD") || materialName.equalsIgnoreCase("SKULL")) {
+            material = Material.PLAYER_HEAD;
+        } else {
+            material = Material.getMaterial(materialName.toUpperCase());
+        }
+
+        if (material == null) {
+            plugin.logWarning("Invalid material: " + materialName + " at " + path);
+            return null;
+        }
+
+        ItemStack item = new ItemStack(material, section.getInt("amount", 1));
+        ItemMeta meta = item.getItemMeta();
+
+        if (meta == null) {
+            return item;
+        }
+
+        if (name != null) {
+            meta.setDisplayName(name);
+        }
+
+        if (!lore.isEmpty()) {
+            meta.setLore(new ArrayList<>(lore));
+        }
+
+        if (section.contains("custom-model-data")) {
+            meta.setCustomModelData(section.getInt("custom-model-data"));
+        }
+
+        if (section.getBoolean("glow", false)) {
+            meta.addEnchant(Enchantment.DURABILITY, 1, true);
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        }
+
+        if (section.getBoolean("hide-attributes", true)) {
+            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
+        }
+
+        if (section.getBoolean("hide-enchants", false)) {
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        }
+
+        if (section.getBoolean("unbreakable", false)) {
+            meta.setUnbreakable(true);
+            meta.addItemFlags(ItemFlag.HIDE_UNBREAKABLE);
+        }
+
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    /**
+     * Parses a slot value: number, list of numbers or a pattern
+     * like "all", "border", "corners" or a range "0-8"
+     */
+    private int[] parseSlots(Object slotObj, int size) {
+        Set<Integer> slots = new LinkedHashSet<>();
+
+        if (slotObj instanceof Integer) {
+            slots.add((Integer) slotObj);
+        } else if (slotObj instanceof List) {
+            for (Object obj : (List<?>) slotObj) {
+                if (obj instanceof Integer) {
+                    slots.add((Integer) obj);
+                }
+            }
+        } else if (slotObj instanceof String) {
+            parseSlotString((String) slotObj, size, slots);
+        }
+
+        return slots.stream()
+                .filter(slot -> slot >= 0 && slot < size)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Parses slot strings like "0-8", "all", "border", etc.
+     */
+    private void parseSlotString(String slotStr, int size, Set<Integer> slots) {
+        int rows = size / 9;
+
+        switch (slotStr.toLowerCase()) {
+            case "all":
+                for (int i = 0; i < size; i++) {
+                    slots.add(i);
+                }
+                break;
+
+            case "border":
+                // Top and bottom rows
+                for (int i = 0; i < 9; i++) {
+                    slots.add(i);
+                    slots.add((rows - 1) * 9 + i);
+                }
+                // Sides
+                for (int i = 1; i < rows - 1; i++) {
+                    slots.add(i * 9);
+                    slots.add(i * 9 + 8);
+                }
+                break;
+
+            case "corners":
+                slots.add(0);
+                slots.add(8);
+                slots.add((rows - 1) * 9);
+                slots.add(size - 1);
+                break;
+
+            default:
+                if (slotStr.contains("-")) {
+                    String[] parts = slotStr.split("-");
+                    try {
+                        int start = Integer.parseInt(parts[0].trim());
+                        int end = Integer.parseInt(parts[1].trim());
+                        for (int i = start; i <= end && i < size; i++) {
+                            slots.add(i);
+                        }
+                    } catch (NumberFormatException e) {
+                        plugin.logWarning("Invalid slot range: " + slotStr);
+                    }
+                } else {
+                    try {
+                        slots.add(Integer.parseInt(slotStr.trim()));
+                    } catch (NumberFormatException e) {
+                        plugin.logWarning("Invalid slot: " + slotStr);
+                    }
+                }
+                break;
+        }
+    }
+
+    /**
+     * Gets a compiled template
+     * Unknown IDs get an empty default template
+     *
+     * @param guiId GUI ID in guis.yml
+     * @return Template (never null)
+     */
+    public GuiTemplate getTemplate(String guiId) {
+        GuiTemplate template = templates.get(guiId);
+        if (template != null) {
+            return template;
+        }
+
+        return templates.computeIfAbsent(guiId, id -> {
+            plugin.logWarning("No items defined for GUI: " + id);
+            return new GuiTemplate(id, Text.createText(DEFAULT_TITLE).build(), DEFAULT_ROWS * 9,
+                    Collections.emptyMap(), Collections.emptyMap(), new TemplateItem[0]);
+        });
+    }
+
+    /**
+     * Recompiles all templates from guis.yml
+     */
+    public void reload() {
+        loadTemplates();
+    }
+}
@@ -0,0 +1,82 @@
+package me.bixgamer707.hordes.gui.template;
+
+import org.bukkit.event.inventory.ClickType;
+
+/**
+ * Parsed click action from guis.yml
+ * Format: "type:value" optionally followed by "=CLICK_TYPE" (or "=ANY")
+ */
+public final class TemplateAction {
+
+    private final String type;
+    private final String value;
+
+    // Null means any click type
+    private final ClickType clickType;
+
+    public TemplateAction(String type, String value, ClickType clickType) {
+        this.type = type;
+        this.value = value;
+        this.clickType = clickType;
+    }
+
+    /**
+     * Parses an action string
+     *
+     * @param raw Action string from config
+     * @param allowClickFilter Whether a trailing "=CLICK_TYPE" is recognised
+     * @return Action or null if empty
+     */
+    public static TemplateAction parse(String raw, boolean allowClickFilter) {
+        if (raw == null || raw.isEmpty()) {
+            return null;
+        }
+
+        String action = raw;
+        ClickType clickType = null;
+
+        if (allowClickFilter) {
+            int split = raw.lastIndexOf('=');
+
+            if (split >= 0) {
+                String click = raw.substring(split + 1).trim().toUpperCase();
+
+                if (click.equals("ANY")) {
+                    action = raw.substring(0, split);
+                } else {
+                    try {
+                        clickType = ClickType.valueOf(click);
+                        action = raw.substring(0, split);
+                    } catch (IllegalArgumentException ignored) {
+                        // Not a click filter, "=" belongs to the value
+                    }
+                }
+            }
+        }
+
+        String[] parts = action.split(":", 2);
+        String type = parts[0].toLowerCase();
+        String value = parts.length > 1 ? parts[1] : "";
+
+        return new TemplateAction(type, value, clickType);
+    }
+
+    /**
+     * Checks if this action fires for the given click
+     */
+    public boolean matches(ClickType click) {
+        return clickType == null || clickType == click;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public ClickType getClickType() {
+        return clickType;
+    }
+}
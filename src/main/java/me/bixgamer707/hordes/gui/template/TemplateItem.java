@@ -0,0 +1,178 @@
+package me.bixgamer707.hordes.gui.template;
+
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled item from guis.yml
+ * Holds a fully built base stack; only lines with PlaceholderAPI
+ * placeholders and {player} skull owners are patched per viewer
+ * Other skull owners are textured through the skull cache once placed
+ */
+public final class TemplateItem {
+
+    private static final int[] NO_SLOTS = new int[0];
+    private static final TemplateAction[] NO_ACTIONS = new TemplateAction[0];
+
+    private final String id;
+    private final int[] slots;
+
+    // Null for definitions without a material (e.g. arena-item)
+    private final ItemStack base;
+
+    // Colorized texts, kept for subclasses that render their own stacks
+    private final String name;
+    private final List<String> lore;
+
+    // Per-viewer patches
+    private final boolean placeholderName;
+    private final int[] placeholderLines;
+    private final boolean viewerSkull;
+
+    // Raw skull-owner value, may be null
+    private final String skullOwner;
+
+    private final TemplateAction[] actions;
+
+    public TemplateItem(String id, int[] slots, ItemStack base, String name, List<String> lore,
+                        String skullOwner, List<TemplateAction> actions) {
+        this.id = id;
+        this.slots = slots == null ? NO_SLOTS : slots;
+        this.base = base;
+        this.name = name;
+        this.lore = lore == null ? Collections.emptyList() : Collections.unmodifiableList(lore);
+        this.skullOwner = skullOwner;
+        this.actions = actions == null ? NO_ACTIONS : actions.toArray(new TemplateAction[0]);
+
+        this.placeholderName = hasPlaceholders(name);
+        this.viewerSkull = "{player}".equals(skullOwner);
+
+        int[] lines = new int[this.lore.size()];
+        int count = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (hasPlaceholders(this.lore.get(i))) {
+                lines[count++] = i;
+            }
+        }
+        this.placeholderLines = Arrays.copyOf(lines, count);
+    }
+
+    /**
+     * Checks if a text carries PlaceholderAPI placeholders
+     */
+    static boolean hasPlaceholders(String text) {
+        if (text == null) {
+            return false;
+        }
+
+        int first = text.indexOf('%');
+        return first >= 0 && text.indexOf('%', first + 1) > first + 1;
+    }
+
+    /**
+     * Checks if the item needs per-viewer patching
+     */
+    public boolean isPerViewer() {
+        return placeholderName || placeholderLines.length > 0 || viewerSkull;
+    }
+
+    /**
+     * Renders the item for a viewer
+     * Static items return the shared base (inventories copy on set)
+     *
+     * @param viewer Player viewing the GUI
+     * @return Stack to place, or null if the item has no material
+     */
+    public ItemStack render(Player viewer) {
+        if (base == null) {
+            return null;
+        }
+
+        if (!isPerViewer()) {
+            return base;
+        }
+
+        ItemStack item = base.clone();
+        ItemMeta meta = item.getItemMeta();
+
+        if (meta == null) {
+            return item;
+        }
+
+        if (placeholderName) {
+            meta.setDisplayName(new Text(name).build(viewer));
+        }
+
+        if (placeholderLines.length > 0) {
+            List<String> patched = new ArrayList<>(lore);
+            for (int line : placeholderLines) {
+                patched.set(line, new Text(lore.get(line)).build(viewer));
+            }
+            meta.setLore(patched);
+        }
+
+        // Online players carry a complete profile, no lookup needed
+        if (viewerSkull && meta instanceof SkullMeta) {
+            ((SkullMeta) meta).setOwningPlayer(viewer);
+        }
+
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int[] getSlots() {
+        return slots;
+    }
+
+    /**
+     * Gets the first slot or a default
+     */
+    public int getSlot(int def) {
+        return slots.length > 0 ? slots[0] : def;
+    }
+
+    public ItemStack getBase() {
+        return base;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getLore() {
+        return lore;
+    }
+
+    /**
+     * Gets the skull owner resolved through the skull cache
+     *
+     * @return Owner name or null if none or if it is the viewer
+     */
+    public String getCachedSkullOwner(Player viewer) {
+        if (skullOwner == null || viewerSkull || base == null) {
+            return null;
+        }
+
+        return skullOwner.replace("{player}", viewer.getName());
+    }
+
+    public TemplateAction[] getActions() {
+        return actions;
+    }
+
+    public boolean hasActions() {
+        return actions.length > 0;
+    }
+}
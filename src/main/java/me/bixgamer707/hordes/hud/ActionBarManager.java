@@ -0,0 +1,269 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.player.HordePlayer;
+import me.bixgamer707.hordes.text.Text;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Action bar HUD service
+ * Keeps one slot per arena player and fills it from a priority stack of
+ * providers (respawn timer, rejoin cooldown, wave countdown, combo)
+ *
+ * Renders in a single pass per tick and only sends when the content
+ * changes or the client is about to fade the previous message
+ */
+public class ActionBarManager {
+
+    // Client shows an action bar for ~60 ticks, resend before it fades
+    private static final int RESEND_TICKS = 40;
+
+    private final Hordes plugin;
+
+    // Player UUID -> HudSlot
+    private final Map<UUID, HudSlot> slots;
+
+    // Sorted by priority (highest first), replaced atomically
+    private volatile HudProvider[] providers;
+
+    // Providers registered by other code (kept across reloads)
+    private final List<HudProvider> customProviders;
+
+    private BukkitTask renderTask;
+    private long tick;
+    private boolean enabled;
+
+    public ActionBarManager(Hordes plugin) {
+        this.plugin = plugin;
+        this.slots = new ConcurrentHashMap<>();
+        this.customProviders = new ArrayList<>();
+        this.providers = new HudProvider[0];
+
+        loadConfiguration();
+    }
+
+    /**
+     * Builds the built-in providers from config and messages
+     */
+    private void loadConfiguration() {
+        File config = plugin.getFileManager().getConfig();
+        enabled = config.getBoolean("hud.enabled", true);
+
+        List<HudProvider> loaded = new ArrayList<>();
+        loaded.add(new RespawnHudProvider(
+                config.getInt("hud.priorities.respawn", 100), getTemplate("respawn")));
+        loaded.add(new RejoinHudProvider(
+                config.getInt("hud.priorities.rejoin", 90), getTemplate("rejoin"),
+                plugin.getCooldownManager()));
+        loaded.add(new WaveCountdownHudProvider(
+                config.getInt("hud.priorities.wave-countdown", 50), getTemplate("wave-countdown")));
+        loaded.add(new ComboHudProvider(
+                config.getInt("hud.priorities.combo", 30), getTemplate("combo")));
+
+        synchronized (customProviders) {
+            loaded.addAll(customProviders);
+        }
+
+        setProviders(loaded);
+    }
+
+    /**
+     * Gets a colorized HUD template from the messages file
+     */
+    private String getTemplate(String key) {
+        return Text.createText(Text.getMessages().getString("Messages.hud." + key, "")).build();
+    }
+
+    /**
+     * Sorts and publishes the provider stack
+     */
+    private void setProviders(List<HudProvider> list) {
+        list.sort(Comparator.comparingInt(HudProvider::getPriority).reversed());
+        providers = list.toArray(new HudProvider[0]);
+    }
+
+    /**
+     * Registers an additional provider
+     *
+     * @param provider Provider to add
+     */
+    public void registerProvider(HudProvider provider) {
+        synchronized (customProviders) {
+            customProviders.add(provider);
+        }
+
+        List<HudProvider> list = new ArrayList<>(List.of(providers));
+        list.add(provider);
+        setProviders(list);
+    }
+
+    /**
+     * Unregisters a provider
+     *
+     * @param provider Provider to remove
+     */
+    public void unregisterProvider(HudProvider provider) {
+        synchronized (customProviders) {
+            customProviders.remove(provider);
+        }
+
+        List<HudProvider> list = new ArrayList<>(List.of(providers));
+        list.remove(provider);
+        setProviders(list);
+    }
+
+    /**
+     * Starts the render task
+     */
+    public void start() {
+        if (renderTask != null || !enabled) {
+            return;
+        }
+
+        renderTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                render();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Single pass over all arena players
+     */
+    private void render() {
+        tick++;
+        long now = System.currentTimeMillis();
+        HudProvider[] stack = providers;
+        int visited = 0;
+
+        for (Arena arena : plugin.getArenaManager().getArenas().values()) {
+            if (arena.getPlayerCount() == 0) {
+                continue;
+            }
+
+            for (HordePlayer hordePlayer : arena.getHordePlayerView()) {
+                Player player = hordePlayer.getPlayer();
+                if (player == null) {
+                    continue;
+                }
+
+                HudSlot slot = slots.computeIfAbsent(hordePlayer.getUuid(), uuid -> new HudSlot());
+                slot.seenTick = tick;
+                visited++;
+
+                render(player, arena, hordePlayer, slot, stack, now);
+            }
+        }
+
+        // Drop slots of players that left their arena
+        if (slots.size() > visited) {
+            Iterator<HudSlot> iterator = slots.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().seenTick != tick) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves and sends a single player's slot
+     */
+    private void render(Player player, Arena arena, HordePlayer hordePlayer,
+                        HudSlot slot, HudProvider[] stack, long now) {
+        HudProvider winner = null;
+        int value = -1;
+
+        for (HudProvider provider : stack) {
+            value = provider.sample(arena, hordePlayer, now);
+            if (value >= 0) {
+                winner = provider;
+                break;
+            }
+        }
+
+        if (winner == null) {
+            // Clear once when the last provider goes idle
+            if (slot.text != null) {
+                slot.provider = null;
+                slot.text = null;
+                send(player, "");
+            }
+            return;
+        }
+
+        boolean changed = winner != slot.provider || value != slot.value;
+
+        if (changed) {
+            slot.provider = winner;
+            slot.value = value;
+            slot.text = winner.format(value);
+        }
+
+        if (changed || tick - slot.sentTick >= RESEND_TICKS) {
+            slot.sentTick = tick;
+            send(player, slot.text);
+        }
+    }
+
+    /**
+     * Sends an action bar message
+     */
+    private void send(Player player, String text) {
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(text));
+    }
+
+    /**
+     * Reloads providers from config and messages
+     */
+    public void reload() {
+        cleanup();
+        loadConfiguration();
+        start();
+    }
+
+    /**
+     * Stops the render task and clears slots
+     */
+    public void cleanup() {
+        if (renderTask != null) {
+            renderTask.cancel();
+            renderTask = null;
+        }
+
+        slots.clear();
+    }
+
+    /**
+     * Checks if the HUD is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Per-player HUD state
+     */
+    private static class HudSlot {
+        private HudProvider provider;
+        private int value = -1;
+        private String text;
+        private long sentTick;
+        private long seenTick;
+    }
+}
@@ -0,0 +1,40 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.player.HordePlayer;
+
+/**
+ * Shows the current kill combo while it is still running
+ * Template uses {0} for the combo count
+ */
+public class ComboHudProvider implements HudProvider {
+
+    private final int priority;
+    private final String template;
+
+    public ComboHudProvider(int priority, String template) {
+        this.priority = priority;
+        this.template = template;
+    }
+
+    @Override
+    public String getId() {
+        return "combo";
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public int sample(Arena arena, HordePlayer hordePlayer, long now) {
+        int combo = hordePlayer.getCombo(now);
+        return combo >= 2 ? combo : -1;
+    }
+
+    @Override
+    public String format(int value) {
+        return template.replace("{0}", String.valueOf(value));
+    }
+}
@@ -0,0 +1,42 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.player.HordePlayer;
+
+/**
+ * Source of action bar content
+ * The highest priority provider with a value wins the player's slot
+ *
+ * Providers sample a single int per tick; text is only formatted
+ * when the sampled value changes
+ */
+public interface HudProvider {
+
+    /**
+     * Gets the provider ID (used for config keys)
+     */
+    String getId();
+
+    /**
+     * Gets the priority (higher wins)
+     */
+    int getPriority();
+
+    /**
+     * Samples the current value for a player
+     *
+     * @param arena Arena the player is in
+     * @param hordePlayer Player wrapper
+     * @param now Current time in milliseconds
+     * @return Value to display, or -1 if nothing to show
+     */
+    int sample(Arena arena, HordePlayer hordePlayer, long now);
+
+    /**
+     * Formats a sampled value
+     *
+     * @param value Value returned by sample
+     * @return Colorized action bar text
+     */
+    String format(int value);
+}
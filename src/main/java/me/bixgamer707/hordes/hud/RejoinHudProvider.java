@@ -0,0 +1,28 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.config.DeathAction;
+import me.bixgamer707.hordes.cooldown.CooldownManager;
+import me.bixgamer707.hordes.player.HordePlayer;
+
+/**
+ * Shows the REJOIN death action cooldown
+ */
+public class RejoinHudProvider extends TimerHudProvider {
+
+    private final CooldownManager cooldownManager;
+
+    public RejoinHudProvider(int priority, String template, CooldownManager cooldownManager) {
+        super("rejoin", priority, template);
+        this.cooldownManager = cooldownManager;
+    }
+
+    @Override
+    public int sample(Arena arena, HordePlayer hordePlayer, long now) {
+        if (!hordePlayer.isDead() || arena.getConfig().getDeathHandling().getAction() != DeathAction.REJOIN) {
+            return -1;
+        }
+
+        return secondsUntil(cooldownManager.getTempExpiry(hordePlayer.getUuid(), arena.getId()), now);
+    }
+}
@@ -0,0 +1,19 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.player.HordePlayer;
+
+/**
+ * Shows the RESPAWN death action countdown
+ */
+public class RespawnHudProvider extends TimerHudProvider {
+
+    public RespawnHudProvider(int priority, String template) {
+        super("respawn", priority, template);
+    }
+
+    @Override
+    public int sample(Arena arena, HordePlayer hordePlayer, long now) {
+        return secondsUntil(hordePlayer.getRespawnAt(), now);
+    }
+}
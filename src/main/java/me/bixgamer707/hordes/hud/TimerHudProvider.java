@@ -0,0 +1,45 @@
+package me.bixgamer707.hordes.hud;
+
+/**
+ * Base for providers that show a countdown in seconds
+ * Template uses {0} for the remaining seconds
+ */
+public abstract class TimerHudProvider implements HudProvider {
+
+    private final String id;
+    private final int priority;
+    private final String template;
+
+    protected TimerHudProvider(String id, int priority, String template) {
+        this.id = id;
+        this.priority = priority;
+        this.template = template;
+    }
+
+    /**
+     * Converts a deadline to remaining whole seconds (rounded up)
+     *
+     * @return Seconds left, or -1 if the deadline passed or is unset
+     */
+    protected static int secondsUntil(long deadline, long now) {
+        if (deadline <= 0 || deadline <= now) {
+            return -1;
+        }
+        return (int) ((deadline - now + 999) / 1000);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public String format(int value) {
+        return template.replace("{0}", String.valueOf(value));
+    }
+}
@@ -0,0 +1,19 @@
+package me.bixgamer707.hordes.hud;
+
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.player.HordePlayer;
+
+/**
+ * Shows the time until the next wave (or the arena start countdown)
+ */
+public class WaveCountdownHudProvider extends TimerHudProvider {
+
+    public WaveCountdownHudProvider(int priority, String template) {
+        super("wave-countdown", priority, template);
+    }
+
+    @Override
+    public int sample(Arena arena, HordePlayer hordePlayer, long now) {
+        return secondsUntil(arena.getNextWaveAt(), now);
+    }
+}
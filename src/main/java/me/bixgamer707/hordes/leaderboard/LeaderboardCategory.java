@@ -0,0 +1,97 @@
+package me.bixgamer707.hordes.leaderboard;
+
+/**
+ * Ranked statistic
+ * Scores are ordered highest first; categories where lower is
+ * better (speed) store negated values
+ */
+public enum LeaderboardCategory {
+
+    COMPLETIONS("completions"),
+    KILLS("kills"),
+    SPEED("speed"),
+    WINRATE("winrate");
+
+    private final String key;
+
+    LeaderboardCategory(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Computes the score from raw counters
+     *
+     * @return Score or NaN if the player should not be ranked
+     */
+    public double score(int kills, int completions, int attempts, long fastestCompletion) {
+        switch (this) {
+            case COMPLETIONS:
+                return completions > 0 ? completions : Double.NaN;
+            case KILLS:
+                return kills > 0 ? kills : Double.NaN;
+            case SPEED:
+                return fastestCompletion > 0 ? -fastestCompletion : Double.NaN;
+            case WINRATE:
+                return attempts > 0 ? (double) completions / attempts * 100.0 : Double.NaN;
+            default:
+                return Double.NaN;
+        }
+    }
+
+    /**
+     * Formats a score for display
+     */
+    public String format(double score) {
+        if (Double.isNaN(score)) {
+            return "-";
+        }
+
+        switch (this) {
+            case SPEED:
+                return formatTime((long) -score);
+            case WINRATE:
+                return String.format("%.1f%%", score);
+            default:
+                return String.valueOf((long) score);
+        }
+    }
+
+    /**
+     * Formats time in seconds to readable format
+     */
+    private static String formatTime(long seconds) {
+        if (seconds < 60) {
+            return seconds + "s";
+        }
+
+        long minutes = seconds / 60;
+        long secs = seconds % 60;
+
+        if (minutes < 60) {
+            return minutes + "m " + secs + "s";
+        }
+
+        long hours = minutes / 60;
+        minutes = minutes % 60;
+
+        return hours + "h " + minutes + "m";
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Parses a category from its key
+     *
+     * @return Category or null if unknown
+     */
+    public static LeaderboardCategory fromKey(String key) {
+        for (LeaderboardCategory category : values()) {
+            if (category.key.equalsIgnoreCase(key)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -5,107 +5,184 @@ import me.bixgamer707.hordes.statistics.PlayerStatistics;
 import me.bixgamer707.hordes.text.Text;
 import org.bukkit.command.CommandSender;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages leaderboards for different statistics
  * Displays top players in various categories
+ *
+ * Every category/scope pair is backed by a rank index that is built
+ * once on first use and then kept up to date as statistics change
  */
 public class LeaderboardManager {
 
     private final Hordes plugin;
 
+    // Category + scope key -> index
+    private final Map<String, RankIndex> indexes;
+
     public LeaderboardManager(Hordes plugin) {
         this.plugin = plugin;
+        this.indexes = new ConcurrentHashMap<>();
     }
 
     /**
-     * Displays top players by completions
+     * Gets the index for a leaderboard, building it if needed
+     * Window indexes are rebuilt once when their period rolls over
      */
-    public void showTopCompletions(CommandSender sender, int limit) {
-        if (!isEnabled()) {
-            sendMessage(sender, "leaderboard.disabled");
-            return;
-        }
+    public RankIndex getIndex(LeaderboardCategory category, LeaderboardScope scope) {
+        String key = category.getKey() + "|" + scope.getKey();
+        long period = scope.getCurrentPeriod();
 
-        List<PlayerStatistics> top = plugin.getStatisticsManager()
-            .getTopByCompletions(limit);
+        RankIndex index = indexes.get(key);
+        if (index == null || index.getPeriod() != period) {
+            index = buildIndex(category, scope, period);
+            indexes.put(key, index);
+        }
 
-        displayLeaderboard(sender, getText("leaderboard.completions"), top, limit, 
-            stats -> String.valueOf(stats.getTotalCompletions()));
+        return index;
     }
 
     /**
-     * Displays top players by kills
+     * Builds an index from all cached statistics
      */
-    public void showTopKills(CommandSender sender, int limit) {
-        if (!isEnabled()) {
-            sendMessage(sender, "leaderboard.disabled");
-            return;
+    private RankIndex buildIndex(LeaderboardCategory category, LeaderboardScope scope, long period) {
+        RankIndex index = new RankIndex(category, scope, period);
+
+        if (isEnabled()) {
+            for (PlayerStatistics stats : plugin.getStatisticsManager().getAllStatistics()) {
+                index.update(stats.getPlayerUuid(), scope.score(category, stats, period));
+            }
         }
 
-        List<PlayerStatistics> top = plugin.getStatisticsManager()
-            .getTopByKills(limit);
+        return index;
+    }
 
-        displayLeaderboard(sender, getText("leaderboard.kills"), top, limit, 
-            stats -> String.valueOf(stats.getTotalKills()));
+    /**
+     * Moves a player in every built index
+     * Called whenever the player's statistics change
+     */
+    public void update(PlayerStatistics stats) {
+        for (RankIndex index : indexes.values()) {
+            index.update(stats.getPlayerUuid(),
+                    index.getScope().score(index.getCategory(), stats, index.getPeriod()));
+        }
     }
 
     /**
-     * Displays top players by fastest completion
+     * Drops all indexes (rebuilt lazily)
      */
-    public void showTopSpeed(CommandSender sender, int limit) {
+    public void invalidate() {
+        indexes.clear();
+    }
+
+    /**
+     * Gets a rank range of a leaderboard
+     *
+     * @param offset Number of ranks to skip
+     * @param limit Max entries
+     * @return Statistics, best first
+     */
+    public List<PlayerStatistics> getRange(LeaderboardCategory category, LeaderboardScope scope,
+                                           int offset, int limit) {
         if (!isEnabled()) {
-            sendMessage(sender, "leaderboard.disabled");
-            return;
+            return new ArrayList<>();
         }
 
-        List<PlayerStatistics> top = plugin.getStatisticsManager()
-            .getTopBySpeed(limit);
+        List<UUID> uuids = getIndex(category, scope).getRange(offset, limit);
+        List<PlayerStatistics> result = new ArrayList<>(uuids.size());
+
+        for (UUID uuid : uuids) {
+            PlayerStatistics stats = plugin.getStatisticsManager().getCachedStatistics(uuid);
+            if (stats != null) {
+                result.add(stats);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a player's position
+     *
+     * @return 1-based rank or 0 if not ranked
+     */
+    public int getRank(LeaderboardCategory category, LeaderboardScope scope, UUID uuid) {
+        return isEnabled() ? getIndex(category, scope).getRank(uuid) : 0;
+    }
+
+    /**
+     * Gets a player's formatted value
+     */
+    public String getFormattedScore(LeaderboardCategory category, LeaderboardScope scope, UUID uuid) {
+        return category.format(isEnabled() ? getIndex(category, scope).getScore(uuid) : Double.NaN);
+    }
+
+    /**
+     * Gets number of ranked players
+     */
+    public int getRankedCount(LeaderboardCategory category, LeaderboardScope scope) {
+        return isEnabled() ? getIndex(category, scope).size() : 0;
+    }
+
+    /**
+     * Displays top players by completions
+     */
+    public void showTopCompletions(CommandSender sender, int limit) {
+        showTop(sender, LeaderboardCategory.COMPLETIONS, limit);
+    }
+
+    /**
+     * Displays top players by kills
+     */
+    public void showTopKills(CommandSender sender, int limit) {
+        showTop(sender, LeaderboardCategory.KILLS, limit);
+    }
 
-        displayLeaderboard(sender, getText("leaderboard.speed"), top, limit, 
-            stats -> formatTime(stats.getFastestCompletion()));
+    /**
+     * Displays top players by fastest completion
+     */
+    public void showTopSpeed(CommandSender sender, int limit) {
+        showTop(sender, LeaderboardCategory.SPEED, limit);
     }
 
     /**
      * Displays top players by win rate
      */
     public void showTopWinRate(CommandSender sender, int limit) {
+        showTop(sender, LeaderboardCategory.WINRATE, limit);
+    }
+
+    /**
+     * Generic leaderboard display
+     */
+    private void showTop(CommandSender sender, LeaderboardCategory category, int limit) {
         if (!isEnabled()) {
             sendMessage(sender, "leaderboard.disabled");
             return;
         }
 
-        List<PlayerStatistics> top = plugin.getStatisticsManager()
-            .getTopByCompletions(limit);
-        
-        // Sort by win rate
-        top.sort((a, b) -> Double.compare(b.getWinRate(), a.getWinRate()));
-
-        displayLeaderboard(sender, getText("leaderboard.winrate"), top, limit, 
-            stats -> String.format("%.1f%%", stats.getWinRate()));
-    }
+        RankIndex index = getIndex(category, LeaderboardScope.GLOBAL);
+        List<UUID> top = index.getRange(0, limit);
 
-    /**
-     * Generic leaderboard display
-     */
-    private void displayLeaderboard(CommandSender sender, String category, 
-                                   List<PlayerStatistics> players, int limit,
-                                   StatFormatter formatter) {
-        sendMessageListWithReplacements(sender, "commands.top-header", limit, category);
+        sendMessageListWithReplacements(sender, "commands.top-header", limit,
+                getText("leaderboard." + category.getKey()));
 
-        if (players.isEmpty()) {
+        if (top.isEmpty()) {
             sendMessage(sender, "commands.top-no-data");
         } else {
             int position = 1;
-            for (PlayerStatistics stats : players) {
-                String medal = getMedal(position);
-                String value = formatter.format(stats);
-                
-                sendMessage(sender, "leaderboard.position", medal, position, stats.getPlayerName(), value);
-                
+            for (UUID uuid : top) {
+                PlayerStatistics stats = plugin.getStatisticsManager().getCachedStatistics(uuid);
+                String name = stats != null ? stats.getPlayerName() : uuid.toString();
+
+                sendMessage(sender, "leaderboard.position", getMedal(position), position, name,
+                        category.format(index.getScore(uuid)));
                 position++;
-                if (position > limit) break;
             }
         }
 
@@ -139,7 +216,7 @@ public class LeaderboardManager {
     /**
      * Gets medal emoji for position
      */
-    private String getMedal(int position) {
+    public static String getMedal(int position) {
         switch (position) {
             case 1: return "§6🥇";
             case 2: return "§7🥈";
@@ -148,27 +225,6 @@ public class LeaderboardManager {
         }
     }
 
-    /**
-     * Formats time in seconds to readable format
-     */
-    private String formatTime(long seconds) {
-        if (seconds < 60) {
-            return seconds + "s";
-        }
-
-        long minutes = seconds / 60;
-        long secs = seconds % 60;
-
-        if (minutes < 60) {
-            return minutes + "m " + secs + "s";
-        }
-
-        long hours = minutes / 60;
-        minutes = minutes % 60;
-
-        return hours + "h " + minutes + "m";
-    }
-
     /**
      * Checks if statistics are enabled
      */
@@ -197,12 +253,4 @@ public class LeaderboardManager {
             sender.sendMessage(Text.createText(message).build());
         }
     }
-
-    /**
-     * Functional interface for stat formatting
-     */
-    @FunctionalInterface
-    private interface StatFormatter {
-        String format(PlayerStatistics stats);
-    }
 }
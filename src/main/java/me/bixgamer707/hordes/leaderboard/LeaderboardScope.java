@@ -0,0 +1,96 @@
+package me.bixgamer707.hordes.leaderboard;
+
+import me.bixgamer707.hordes.statistics.PlayerStatistics;
+import me.bixgamer707.hordes.statistics.StatWindow;
+
+/**
+ * Filter applied to a leaderboard
+ * Either all-time global, a single arena or a time window
+ */
+public final class LeaderboardScope {
+
+    public static final LeaderboardScope GLOBAL = new LeaderboardScope(null, null);
+
+    private final String arenaId;
+    private final StatWindow window;
+    private final String key;
+
+    private LeaderboardScope(String arenaId, StatWindow window) {
+        this.arenaId = arenaId;
+        this.window = window;
+        this.key = arenaId != null ? "arena:" + arenaId
+                : window != null ? "window:" + window.getKey()
+                : "global";
+    }
+
+    /**
+     * Scope for a single arena (all time)
+     */
+    public static LeaderboardScope arena(String arenaId) {
+        return arenaId == null ? GLOBAL : new LeaderboardScope(arenaId, null);
+    }
+
+    /**
+     * Scope for a time window (all arenas)
+     */
+    public static LeaderboardScope window(StatWindow window) {
+        return window == null ? GLOBAL : new LeaderboardScope(null, window);
+    }
+
+    /**
+     * Gets the period the scope currently covers
+     *
+     * @return Window period or -1 for all time
+     */
+    public long getCurrentPeriod() {
+        return window != null ? window.getCurrentPeriod() : -1L;
+    }
+
+    /**
+     * Computes a player's score within this scope
+     *
+     * @param period Window period the index was built for
+     * @return Score or NaN if not ranked
+     */
+    public double score(LeaderboardCategory category, PlayerStatistics stats, long period) {
+        if (arenaId != null) {
+            PlayerStatistics.ArenaStats arena = stats.getArenaStatistics(arenaId);
+            return category.score(arena.getKills(), arena.getCompletions(),
+                    arena.getAttempts(), arena.getFastestCompletion());
+        }
+
+        if (window != null) {
+            PlayerStatistics.WindowStats current = stats.getWindowStatistics(window, period);
+            if (current == null) {
+                return Double.NaN;
+            }
+            return category.score(current.getKills(), current.getCompletions(),
+                    current.getAttempts(), current.getFastestCompletion());
+        }
+
+        return category.score(stats.getTotalKills(), stats.getTotalCompletions(),
+                stats.getTotalAttempts(), stats.getFastestCompletion());
+    }
+
+    public String getArenaId() {
+        return arenaId;
+    }
+
+    public StatWindow getWindow() {
+        return window;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LeaderboardScope && key.equals(((LeaderboardScope) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+}
@@ -0,0 +1,256 @@
+package me.bixgamer707.hordes.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic index for a single leaderboard
+ * Treap ordered by score (highest first) with subtree sizes,
+ * so updates, rank lookups and page queries are all O(log n)
+ *
+ * Players without a score (NaN) are not ranked
+ */
+public final class RankIndex {
+
+    private final LeaderboardCategory category;
+    private final LeaderboardScope scope;
+
+    // Window period the index was built for (-1 for all time)
+    private final long period;
+
+    // Player UUID -> node
+    private final Map<UUID, Node> nodes;
+
+    private Node root;
+
+    public RankIndex(LeaderboardCategory category, LeaderboardScope scope, long period) {
+        this.category = category;
+        this.scope = scope;
+        this.period = period;
+        this.nodes = new HashMap<>();
+    }
+
+    /**
+     * Inserts, moves or removes a player
+     *
+     * @param uuid Player UUID
+     * @param score New score, NaN to remove
+     */
+    public synchronized void update(UUID uuid, double score) {
+        Node current = nodes.get(uuid);
+
+        if (current != null) {
+            if (Double.compare(current.score, score) == 0) {
+                return;
+            }
+
+            root = remove(root, current.score, uuid);
+            nodes.remove(uuid);
+        }
+
+        if (Double.isNaN(score)) {
+            return;
+        }
+
+        Node node = new Node(uuid, score, ThreadLocalRandom.current().nextInt());
+        Node[] split = split(root, score, uuid);
+        root = merge(merge(split[0], node), split[1]);
+        nodes.put(uuid, node);
+    }
+
+    /**
+     * Removes a player
+     */
+    public synchronized void remove(UUID uuid) {
+        Node current = nodes.remove(uuid);
+        if (current != null) {
+            root = remove(root, current.score, uuid);
+        }
+    }
+
+    /**
+     * Gets a player's position
+     *
+     * @return 1-based rank or 0 if not ranked
+     */
+    public synchronized int getRank(UUID uuid) {
+        Node target = nodes.get(uuid);
+        if (target == null) {
+            return 0;
+        }
+
+        int rank = 0;
+        Node node = root;
+
+        while (node != null) {
+            int cmp = compare(target.score, uuid, node.score, node.uuid);
+
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Gets a player's score
+     *
+     * @return Score or NaN if not ranked
+     */
+    public synchronized double getScore(UUID uuid) {
+        Node node = nodes.get(uuid);
+        return node != null ? node.score : Double.NaN;
+    }
+
+    /**
+     * Gets players by rank range
+     *
+     * @param offset Number of ranks to skip
+     * @param limit Max players to return
+     * @return Player UUIDs, best first
+     */
+    public synchronized List<UUID> getRange(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int to = (int) Math.min((long) from + Math.max(0, limit), size(root));
+
+        List<UUID> result = new ArrayList<>(Math.max(0, to - from));
+        collect(root, 0, from, to, result);
+        return result;
+    }
+
+    /**
+     * Gets number of ranked players
+     */
+    public synchronized int size() {
+        return size(root);
+    }
+
+    public LeaderboardCategory getCategory() {
+        return category;
+    }
+
+    public LeaderboardScope getScope() {
+        return scope;
+    }
+
+    public long getPeriod() {
+        return period;
+    }
+
+    // ==================== TREAP ====================
+
+    /**
+     * Orders higher scores first, ties by UUID
+     */
+    private static int compare(double scoreA, UUID a, double scoreB, UUID b) {
+        int cmp = Double.compare(scoreB, scoreA);
+        return cmp != 0 ? cmp : a.compareTo(b);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    /**
+     * Splits into nodes ordered before the key and the rest
+     */
+    private static Node[] split(Node node, double score, UUID uuid) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        if (compare(node.score, node.uuid, score, uuid) < 0) {
+            Node[] split = split(node.right, score, uuid);
+            node.right = split[0];
+            split[0] = update(node);
+            return split;
+        }
+
+        Node[] split = split(node.left, score, uuid);
+        node.left = split[1];
+        split[1] = update(node);
+        return split;
+    }
+
+    /**
+     * Merges two treaps where every node of left orders before right
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node remove(Node node, double score, UUID uuid) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(score, uuid, node.score, node.uuid);
+
+        if (cmp < 0) {
+            node.left = remove(node.left, score, uuid);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, score, uuid);
+        } else {
+            return merge(node.left, node.right);
+        }
+
+        return update(node);
+    }
+
+    /**
+     * Collects ranks [from, to) of a subtree whose first rank is base
+     */
+    private static void collect(Node node, int base, int from, int to, List<UUID> out) {
+        if (node == null || base >= to || base + node.size <= from) {
+            return;
+        }
+
+        int index = base + size(node.left);
+        collect(node.left, base, from, to, out);
+
+        if (index >= from && index < to) {
+            out.add(node.uuid);
+        }
+
+        collect(node.right, index + 1, from, to, out);
+    }
+
+    private static final class Node {
+        private final UUID uuid;
+        private final double score;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(UUID uuid, double score, int priority) {
+            this.uuid = uuid;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+}
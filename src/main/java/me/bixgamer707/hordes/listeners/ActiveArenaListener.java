@@ -0,0 +1,235 @@
+package me.bixgamer707.hordes.listeners;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaManager;
+import me.bixgamer707.hordes.arena.ArenaState;
+import me.bixgamer707.hordes.combat.DamageLedger;
+import me.bixgamer707.hordes.config.ItemDropMode;
+import me.bixgamer707.hordes.drops.DropTracker;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityTargetEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+
+/**
+ * Handles the hot-path events that only matter during a run
+ * - Entity damage (PvP control, damage contribution)
+ * - Entity targeting (arena mob behavior)
+ * - Item pickup
+ *
+ * Only registered while an arena is in use (see ListenerRegistry)
+ */
+public class ActiveArenaListener implements Listener {
+
+    private final ArenaManager arenaManager;
+    private final DropTracker dropTracker;
+
+    public ActiveArenaListener(Hordes plugin) {
+        this.arenaManager = plugin.getArenaManager();
+        this.dropTracker = plugin.getDropTracker();
+    }
+
+    /**
+     * Records damage dealt by arena players to arena mobs
+     * Runs after every other plugin had its say; allocation-free
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onArenaMobDamage(EntityDamageByEntityEvent event) {
+        Entity victim = event.getEntity();
+
+        if (victim instanceof Player || !(victim instanceof LivingEntity)) {
+            return;
+        }
+
+        Player attacker = getAttackingPlayer(event.getDamager());
+        if (attacker == null) {
+            return;
+        }
+
+        Arena arena = arenaManager.getPlayerArena(attacker);
+        if (arena == null || arena.getState() != ArenaState.ACTIVE) {
+            return;
+        }
+
+        // Overkill does not count
+        double damage = Math.min(event.getFinalDamage(), ((LivingEntity) victim).getHealth());
+
+        DamageLedger ledger = arena.getDamageLedger();
+        ledger.record(victim.getUniqueId(), ledger.getSlot(attacker.getUniqueId()), damage);
+    }
+
+    /**
+     * Gets the player behind a damager, following projectiles to their shooter
+     */
+    private Player getAttackingPlayer(Entity damager) {
+        if (damager instanceof Player) {
+            return (Player) damager;
+        }
+
+        if (damager instanceof Projectile && ((Projectile) damager).getShooter() instanceof Player) {
+            return (Player) ((Projectile) damager).getShooter();
+        }
+
+        return null;
+    }
+
+    /**
+     * Handles entity damage by entity
+     * Controls PvP and damage mechanics in arenas
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        // Only care about player damage
+        if (!(event.getEntity() instanceof Player)) {
+            return;
+        }
+
+        Player victim = (Player) event.getEntity();
+        Arena victimArena = arenaManager.getPlayerArena(victim);
+
+        if (victimArena == null) {
+            return;
+        }
+
+        // Check if attacker is a player
+        Player attacker = null;
+
+        if (event.getDamager() instanceof Player) {
+            attacker = (Player) event.getDamager();
+        }
+
+        if (attacker == null) {
+            return;
+        }
+
+        // Check if attacker is in same arena
+        Arena attackerArena = arenaManager.getPlayerArena(attacker);
+
+        if (attackerArena != victimArena) {
+            // Different arenas or attacker not in arena - cancel
+            event.setCancelled(true);
+            return;
+        }
+
+        // Check PvP setting
+        if (!victimArena.getConfig().getSurvivalMode().isPvPAllowed()) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Handles entity target events
+     * Ensures arena mobs only target arena players
+     */
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onEntityTarget(EntityTargetEvent event) {
+        Entity entity = event.getEntity();
+
+        // Check if this is an arena mob
+        if (!entity.hasMetadata("hordes_arena")) {
+            return;
+        }
+
+        // If target is not a player, allow
+        if (!(event.getTarget() instanceof Player)) {
+            return;
+        }
+
+        Player targetPlayer = (Player) event.getTarget();
+
+        // Get arena
+        String arenaId = entity.getMetadata("hordes_arena").get(0).asString();
+        Arena arena = arenaManager.getArena(arenaId);
+
+        if (arena == null) {
+            event.setCancelled(true);
+            return;
+        }
+
+        // Check if target is in this arena
+        if (!arena.hasPlayer(targetPlayer.getUniqueId())) {
+            // Target not in arena - cancel
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Handles entity damage events
+     * Prevents arena mobs from taking damage outside arena
+     */
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        Entity entity = event.getEntity();
+
+        // Check if this is an arena mob
+        if (!entity.hasMetadata("hordes_arena")) {
+            return;
+        }
+
+        // Get arena
+        String arenaId = entity.getMetadata("hordes_arena").get(0).asString();
+        Arena arena = arenaManager.getArena(arenaId);
+
+        if (arena == null || arena.getState() != ArenaState.ACTIVE) {
+            // Arena not active - remove mob
+            entity.remove();
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Handles item pickup
+     * Enforces drop mode restrictions from the item's own tag
+     */
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onPlayerPickupItem(PlayerPickupItemEvent event) {
+        Player player = event.getPlayer();
+        Item item = event.getItem();
+
+        ItemDropMode dropMode = dropTracker.getDropMode(item);
+
+        // Not an arena drop
+        if (dropMode == null) {
+            return;
+        }
+
+        switch (dropMode) {
+            case OWNER_ONLY:
+                // Only owner can pick up
+                if (!player.getUniqueId().equals(dropTracker.getOwner(item))) {
+                    event.setCancelled(true);
+                }
+                break;
+
+            case ARENA_PLAYERS:
+                // Only arena players can pick up
+                Arena arena = arenaManager.getPlayerArena(player);
+                if (arena == null || !arena.getId().equals(dropTracker.getArenaId(item))) {
+                    event.setCancelled(true);
+                }
+                break;
+
+            case ALL_PLAYERS:
+                // Anyone can pick up
+                break;
+
+            case TELEPORT_WITH_PLAYER:
+                // Items shouldn't be on ground
+                break;
+        }
+
+        // Clean up tracking if picked up
+        if (!event.isCancelled()) {
+            dropTracker.untrack(item);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package me.bixgamer707.hordes.listeners;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.config.ItemDropMode;
+import me.bixgamer707.hordes.drops.DropTracker;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+
+/**
+ * Keeps the arena drop index in sync with dropped items
+ * - Despawns and merges remove items from the index
+ * - Restricted drops never merge across owners or go into hoppers
+ */
+public class DropListener implements Listener {
+
+    private final DropTracker dropTracker;
+
+    public DropListener(Hordes plugin) {
+        this.dropTracker = plugin.getDropTracker();
+    }
+
+    /**
+     * Forgets despawned drops
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemDespawn(ItemDespawnEvent event) {
+        dropTracker.untrack(event.getEntity());
+    }
+
+    /**
+     * Keeps stacks of different owners apart
+     * The merged source item is forgotten, the target keeps its tag
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onItemMerge(ItemMergeEvent event) {
+        Item source = event.getEntity();
+        Item target = event.getTarget();
+
+        if (!dropTracker.isTracked(source) && !dropTracker.isTracked(target)) {
+            return;
+        }
+
+        if (!dropTracker.canMerge(source, target)) {
+            event.setCancelled(true);
+            return;
+        }
+
+        dropTracker.untrack(source);
+    }
+
+    /**
+     * Stops hoppers from taking restricted drops
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent event) {
+        ItemDropMode mode = dropTracker.getDropMode(event.getItem());
+
+        if (mode == ItemDropMode.OWNER_ONLY || mode == ItemDropMode.ARENA_PLAYERS) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package me.bixgamer707.hordes.listeners;
 
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.arena.ArenaManager;
 import me.bixgamer707.hordes.arena.ArenaState;
+import me.bixgamer707.hordes.combat.DamageLedger;
 import me.bixgamer707.hordes.player.HordePlayer;
 import me.bixgamer707.hordes.wave.Wave;
 import org.bukkit.entity.Entity;
@@ -14,13 +17,16 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Handles all entity-related events
- * - Mob deaths (wave progression)
- * - Entity damage (PvP control)
- * - Entity targeting (arena mob behavior)
+ * - Mob deaths (wave progression and assists)
+ * - Arena mobs leaving the world without dying
+ * - Explosions and combustion of arena mobs
+ *
+ * Damage and targeting are handled by ActiveArenaListener
  */
 public class EntityListener implements Listener {
 
@@ -55,18 +61,33 @@ public class EntityListener implements Listener {
 
         // Get killer (if player)
         Player killer = entity.getKiller();
+        DamageLedger ledger = arena.getDamageLedger();
+        int killerSlot = killer != null ? ledger.getSlot(killer.getUniqueId()) : -1;
+
+        // Credit everyone who dealt enough damage
+        List<UUID> assisted = ledger.settleMob(entity.getUniqueId(), killerSlot);
+        for (UUID uuid : assisted) {
+            recordAssist(arena, uuid);
+        }
 
         if (killer != null) {
             HordePlayer hordePlayer = arena.getHordePlayer(killer.getUniqueId());
 
             if (hordePlayer != null) {
                 hordePlayer.addKill();
+                arena.markPlayerDirty(killer.getUniqueId());
 
                 // Track statistics
                 if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
                     plugin.getStatisticsManager().getStatistics(killer.getUniqueId(), killer.getName()).addKill(arenaId);
                     plugin.getStatisticsManager().markDirty(killer.getUniqueId());
                 }
+
+                // Killer's own loot roll, dropped for them only
+                String mobId = entity.hasMetadata("hordes_mob_id")
+                        ? entity.getMetadata("hordes_mob_id").get(0).asString()
+                        : null;
+                plugin.getLootManager().rollMobDeath(killer, arena, mobId, entity.getLocation());
                 /*
                 Estas son mis clases para el texto, quiero que todos los mensajes esten en los archivos de mensajes (en_us.yml) no debe haber un solo mensaje por fuera de este archivo asi que actualiza todos los archivos que lo hagan (todos los mensajes que reciba el jugador deben estar para configurar)
                  */
@@ -88,83 +109,42 @@ public class EntityListener implements Listener {
     }
 
     /**
-     * Handles entity damage by entity
-     * Controls PvP and damage mechanics in arenas
+     * Settles arena mobs that leave the world without a death event
      */
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
-        // Only care about player damage
-        if (!(event.getEntity() instanceof Player)) {
-            return;
-        }
-
-        Player victim = (Player) event.getEntity();
-        Arena victimArena = arenaManager.getPlayerArena(victim);
-
-        if (victimArena == null) {
-            return;
-        }
-
-        // Check if attacker is a player
-        Player attacker = null;
-
-        if (event.getDamager() instanceof Player) {
-            attacker = (Player) event.getDamager();
-        }
-
-        if (attacker == null) {
-            return;
-        }
-
-        // Check if attacker is in same arena
-        Arena attackerArena = arenaManager.getPlayerArena(attacker);
-
-        if (attackerArena != victimArena) {
-            // Different arenas or attacker not in arena - cancel
-            event.setCancelled(true);
-            return;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        if (event.getEntity() instanceof LivingEntity && !(event.getEntity() instanceof Player)) {
+            plugin.getMobReconciler().onRemoved(event.getEntity());
         }
+    }
 
-        // Check PvP setting
-        if (!victimArena.getConfig().getSurvivalMode().isPvPAllowed()) {
-            event.setCancelled(true);
+    /**
+     * Removes stale arena mobs coming back with their chunk
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof LivingEntity && !(event.getEntity() instanceof Player)) {
+            plugin.getMobReconciler().onAdded(event.getEntity());
         }
     }
 
     /**
-     * Handles entity target events
-     * Ensures arena mobs only target arena players
+     * Records an assist in the player's statistics
      */
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
-    public void onEntityTarget(EntityTargetEvent event) {
-        Entity entity = event.getEntity();
+    private void recordAssist(Arena arena, UUID uuid) {
+        arena.markPlayerDirty(uuid);
 
-        // Check if this is an arena mob
-        if (!entity.hasMetadata("hordes_arena")) {
+        if (plugin.getStatisticsManager() == null || !plugin.getStatisticsManager().isEnabled()) {
             return;
         }
 
-        // If target is not a player, allow
-        if (!(event.getTarget() instanceof Player)) {
+        HordePlayer hordePlayer = arena.getHordePlayer(uuid);
+        if (hordePlayer == null) {
             return;
         }
 
-        Player targetPlayer = (Player) event.getTarget();
-
-        // Get arena
-        String arenaId = entity.getMetadata("hordes_arena").get(0).asString();
-        Arena arena = arenaManager.getArena(arenaId);
-
-        if (arena == null) {
-            event.setCancelled(true);
-            return;
-        }
-
-        // Check if target is in this arena
-        if (!arena.hasPlayer(targetPlayer.getUniqueId())) {
-            // Target not in arena - cancel
-            event.setCancelled(true);
-        }
+        plugin.getStatisticsManager().getStatistics(uuid, hordePlayer.getName()).addAssist();
+        plugin.getStatisticsManager().markDirty(uuid);
     }
 
     /**
@@ -196,30 +176,6 @@ public class EntityListener implements Listener {
         event.blockList().clear();
     }
 
-    /**
-     * Handles entity damage events
-     * Prevents arena mobs from taking damage outside arena
-     */
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
-    public void onEntityDamage(EntityDamageEvent event) {
-        Entity entity = event.getEntity();
-
-        // Check if this is an arena mob
-        if (!entity.hasMetadata("hordes_arena")) {
-            return;
-        }
-
-        // Get arena
-        String arenaId = entity.getMetadata("hordes_arena").get(0).asString();
-        Arena arena = arenaManager.getArena(arenaId);
-
-        if (arena == null || arena.getState() != ArenaState.ACTIVE) {
-            // Arena not active - remove mob
-            entity.remove();
-            event.setCancelled(true);
-        }
-    }
-
     /**
      * Handles entity combustion (fire damage)
      * Prevents arena mobs from burning in daylight
@@ -0,0 +1,139 @@
+package me.bixgamer707.hordes.listeners;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaChange;
+import me.bixgamer707.hordes.arena.ArenaObserver;
+import me.bixgamer707.hordes.arena.ArenaState;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers hot-path listeners only while an arena is in use
+ * An arena is in use while it has players or is not waiting
+ *
+ * The listener group is attached when the first arena gets busy and
+ * detached through HandlerList once the last one resets, so an idle
+ * server never pays for damage, target or pickup handlers
+ *
+ * Only the hot handlers are detached; quit, command, teleport, death and
+ * explosion handling stays registered so it never depends on the order
+ * of attaching and detaching
+ */
+public class ListenerRegistry implements ArenaObserver {
+
+    private final Hordes plugin;
+
+    // Listeners attached only while arenas are in use
+    private final List<Listener> arenaListeners;
+
+    // IDs of arenas currently in use
+    private final Set<String> busyArenas;
+
+    private boolean registered;
+
+    public ListenerRegistry(Hordes plugin) {
+        this.plugin = plugin;
+        this.arenaListeners = new ArrayList<>();
+        this.busyArenas = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Adds a listener to the arena group
+     * Must be called before start()
+     */
+    public void addArenaListener(Listener listener) {
+        arenaListeners.add(listener);
+    }
+
+    /**
+     * Starts observing arenas
+     */
+    public void start() {
+        plugin.getArenaManager().subscribe(this);
+        reload();
+    }
+
+    @Override
+    public void onArenaChange(Arena arena, ArenaChange change) {
+        if (isBusy(arena)) {
+            busyArenas.add(arena.getId());
+        } else {
+            busyArenas.remove(arena.getId());
+        }
+
+        updateRegistration();
+    }
+
+    /**
+     * Checks if an arena needs the arena listeners
+     */
+    private boolean isBusy(Arena arena) {
+        ArenaState state = arena.getState();
+        return arena.getPlayerCount() > 0 || (state != ArenaState.WAITING && state != ArenaState.DISABLED);
+    }
+
+    /**
+     * Attaches or detaches the arena group to match arena usage
+     */
+    private void updateRegistration() {
+        boolean needed = !busyArenas.isEmpty();
+
+        if (needed == registered) {
+            return;
+        }
+
+        if (needed) {
+            for (Listener listener : arenaListeners) {
+                plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            }
+        } else {
+            for (Listener listener : arenaListeners) {
+                HandlerList.unregisterAll(listener);
+            }
+        }
+
+        registered = needed;
+
+        if (plugin.getFileManager().getConfig().getBoolean("debug-mode", false)) {
+            plugin.logInfo((needed ? "Attached " : "Detached ") + arenaListeners.size() + " arena listeners");
+        }
+    }
+
+    /**
+     * Recomputes arena usage from the loaded arenas
+     * Called after arenas are reloaded
+     */
+    public void reload() {
+        busyArenas.clear();
+
+        for (Arena arena : plugin.getArenaManager().getArenas().values()) {
+            if (isBusy(arena)) {
+                busyArenas.add(arena.getId());
+            }
+        }
+
+        updateRegistration();
+    }
+
+    /**
+     * Checks if the arena listeners are attached
+     */
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * Stops observing and detaches the arena group
+     */
+    public void cleanup() {
+        plugin.getArenaManager().unsubscribe(this);
+        busyArenas.clear();
+        updateRegistration();
+    }
+}
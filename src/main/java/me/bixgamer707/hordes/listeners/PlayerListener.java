@@ -6,9 +6,9 @@ import me.bixgamer707.hordes.arena.ArenaManager;
 import me.bixgamer707.hordes.arena.ArenaState;
 import me.bixgamer707.hordes.config.ArenaConfig;
 import me.bixgamer707.hordes.config.ItemDropMode;
+import me.bixgamer707.hordes.drops.DropTracker;
 import me.bixgamer707.hordes.player.HordePlayer;
 import me.bixgamer707.hordes.text.Text;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -27,20 +27,20 @@ import java.util.*;
  * - Death and respawn
  * - Quit and join
  * - Interactions and commands
- * - Item pickup and drop
+ * - Item drop
+ *
+ * Item pickup is handled by ActiveArenaListener
  */
 public class PlayerListener implements Listener {
 
     private final Hordes plugin;
     private final ArenaManager arenaManager;
-    
-    // Track dropped items for drop mode enforcement
-    private final Map<UUID, UUID> itemOwners; // ItemUUID -> PlayerUUID
+    private final DropTracker dropTracker;
 
     public PlayerListener(Hordes plugin) {
         this.plugin = plugin;
         this.arenaManager = plugin.getArenaManager();
-        this.itemOwners = new HashMap<>();
+        this.dropTracker = plugin.getDropTracker();
     }
 
     /**
@@ -93,7 +93,7 @@ public class PlayerListener implements Listener {
             event.setDroppedExp(0);
             
         } else {
-            // Mark dropped items with metadata
+            // Mark dropped items with their owner
             List<ItemStack> drops = new ArrayList<>(event.getDrops());
             event.getDrops().clear();
             
@@ -109,12 +109,7 @@ public class PlayerListener implements Listener {
                             );
                             
                             // Mark item owner
-                            droppedItem.setMetadata("hordes_owner", 
-                                new FixedMetadataValue(plugin, player.getUniqueId().toString()));
-                            droppedItem.setMetadata("hordes_arena", 
-                                new FixedMetadataValue(plugin, arena.getId()));
-                            
-                            itemOwners.put(droppedItem.getUniqueId(), player.getUniqueId());
+                            dropTracker.track(droppedItem, player.getUniqueId(), arena.getId(), dropMode);
                         }
                     }
                 }
@@ -174,7 +169,9 @@ public class PlayerListener implements Listener {
 
     /**
      * Handles player quit
-     * Removes player from arena gracefully
+     * Holds the player's slot during a run, otherwise removes them
+     * Rejoining is handled by ReconnectManager, which stays registered
+     * even when no arena is in use
      */
     @EventHandler(priority = EventPriority.NORMAL)
     public void onPlayerQuit(PlayerQuitEvent event) {
@@ -185,21 +182,7 @@ public class PlayerListener implements Listener {
             return;
         }
         
-        // Remove player from arena (restore state)
-        arenaManager.leaveArena(player, true);
-    }
-
-    /**
-     * Handles player join
-     * Allows rejoining if configured
-     */
-    @EventHandler(priority = EventPriority.NORMAL)
-    public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        
-        // Check if player was in an arena before disconnect
-        // This is for future implementation of rejoin on disconnect
-        // For now, players are removed on quit
+        plugin.getReconnectManager().disconnect(player);
     }
 
     /**
@@ -236,62 +219,6 @@ public class PlayerListener implements Listener {
         }
     }
 
-    /**
-     * Handles item pickup
-     * Enforces drop mode restrictions
-     */
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
-    public void onPlayerPickupItem(PlayerPickupItemEvent event) {
-        Player player = event.getPlayer();
-        Item item = event.getItem();
-        
-        // Check if item has owner metadata
-        if (!item.hasMetadata("hordes_owner")) {
-            return;
-        }
-        
-        String ownerUuidStr = item.getMetadata("hordes_owner").get(0).asString();
-        UUID ownerUuid = UUID.fromString(ownerUuidStr);
-        
-        String arenaId = item.getMetadata("hordes_arena").get(0).asString();
-        Arena arena = arenaManager.getArena(arenaId);
-        
-        if (arena == null) {
-            return;
-        }
-        
-        ItemDropMode dropMode = arena.getConfig().getItemHandling().getDropMode();
-        
-        switch (dropMode) {
-            case OWNER_ONLY:
-                // Only owner can pick up
-                if (!player.getUniqueId().equals(ownerUuid)) {
-                    event.setCancelled(true);
-                }
-                break;
-                
-            case ARENA_PLAYERS:
-                // Only arena players can pick up
-                if (!arena.hasPlayer(player.getUniqueId())) {
-                    event.setCancelled(true);
-                }
-                break;
-                
-            case ALL_PLAYERS:
-                // Anyone can pick up
-                break;
-                
-            case TELEPORT_WITH_PLAYER:
-                // Items shouldn't be on ground
-                break;
-        }
-        
-        // Clean up tracking if picked up
-        if (!event.isCancelled()) {
-            itemOwners.remove(item.getUniqueId());
-        }
-    }
-
     /**
      * Handles item drop
      * Prevents dropping items if configured
@@ -327,24 +254,12 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        String command = event.getMessage().toLowerCase();
-
-        // Allow /hordes leave always
-        if (command.startsWith("/hordes leave") || command.startsWith("/hd leave")) {
-            event.setCancelled(false);
-            return;
-        }
-
-        List<String> commands = plugin.getFileManager().getConfig().getStringList("commands.blocked-commands");
-
-        for (String blocked : commands) {
-            if (command.startsWith(blocked.toLowerCase())) {
-                event.setCancelled(true);
-                Text.createTextWithLang("arena.cannot-use-command", player);
-                break;
-            }
+        if (!plugin.getCommandBlocker().isAllowed(arena, event.getMessage())) {
+            event.setCancelled(true);
+            Text.createTextWithLang("arena.cannot-use-command", player);
         }
     }
+
     /**
      * Handles player teleport
      * Prevents teleporting out of arena
@@ -370,17 +285,6 @@ public class PlayerListener implements Listener {
         }
     }
 
-    /**
-     * Cleanup expired item tracking
-     */
-    public void cleanupItemTracking() {
-        itemOwners.entrySet().removeIf(entry -> {
-            UUID itemUuid = entry.getKey();
-            // Item no longer exists
-            return Bukkit.getEntity(itemUuid) == null;
-        });
-    }
-
     public void onAsyncJoin(AsyncPlayerPreLoginEvent event){
         UUID uuid = event.getUniqueId();
 
@@ -1,13 +1,10 @@
 package me.bixgamer707.hordes.listeners;
 
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldguard.WorldGuard;
-import com.sk89q.worldguard.protection.ApplicableRegionSet;
-import com.sk89q.worldguard.protection.managers.RegionManager;
-import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.arena.ArenaManager;
+import me.bixgamer707.hordes.arena.region.ArenaRegion;
+import me.bixgamer707.hordes.arena.region.ArenaRegionIndex;
 import me.bixgamer707.hordes.text.Text;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -16,11 +13,11 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles WorldGuard region events
@@ -28,14 +25,17 @@ import java.util.UUID;
  * 
  * Note: This uses PlayerMoveEvent for region detection
  * WorldGuard 7.0+ doesn't have RegionEnterEvent anymore
+ *
+ * Region shapes are read from WorldGuard once per (re)load into the
+ * arena region index, moves never query WorldGuard directly
  */
 public class WorldGuardListener implements Listener {
 
     private final Hordes plugin;
     private final ArenaManager arenaManager;
     
-    // Track which region each player is in
-    private final Map<UUID, String> playerRegions;
+    // Track which arena region each player is in: PlayerUUID -> Region
+    private final Map<UUID, ArenaRegion> playerRegions;
     
     // WorldGuard integration status
     private boolean worldGuardEnabled;
@@ -43,7 +43,7 @@ public class WorldGuardListener implements Listener {
     public WorldGuardListener(Hordes plugin) {
         this.plugin = plugin;
         this.arenaManager = plugin.getArenaManager();
-        this.playerRegions = new HashMap<>();
+        this.playerRegions = new ConcurrentHashMap<>();
         
         checkWorldGuard();
     }
@@ -63,8 +63,8 @@ public class WorldGuardListener implements Listener {
 
     /**
      * Handles player movement for region detection
-     * This is more performance-intensive than RegionEnterEvent
-     * but it's the only option in WorldGuard 7.0+
+     * A chunk probe on the region index; exact containment only runs
+     * when the chunk overlaps an arena region
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
@@ -89,60 +89,30 @@ public class WorldGuardListener implements Listener {
         
         Player player = event.getPlayer();
         UUID uuid = player.getUniqueId();
+        ArenaRegion currentRegion = playerRegions.get(uuid);
+        ArenaRegionIndex index = arenaManager.getRegionIndex();
         
-        // Get regions at new location
-        Set<String> newRegions = getRegionsAtLocation(to);
-        String currentRegion = playerRegions.get(uuid);
+        if (currentRegion == null && index.isEmpty()) {
+            return;
+        }
         
-        // Check for region enter
-        for (String regionName : newRegions) {
-            if (currentRegion == null || !currentRegion.equals(regionName)) {
-                handleRegionEnter(player, regionName);
-                playerRegions.put(uuid, regionName);
-                return;
-            }
+        // Still inside the same region
+        if (currentRegion != null && currentRegion.contains(to)) {
+            return;
         }
         
-        // Check for region leave
-        if (currentRegion != null && !newRegions.contains(currentRegion)) {
-            handleRegionLeave(player, currentRegion);
+        ArenaRegion newRegion = index.getRegionAt(to);
+        
+        // Check for region leave (also when stepping into an adjacent region)
+        if (currentRegion != null && currentRegion != newRegion) {
             playerRegions.remove(uuid);
+            handleRegionLeave(player, currentRegion.getRegionName());
         }
-    }
-
-    /**
-     * Gets regions at a location
-     */
-    private Set<String> getRegionsAtLocation(Location location) {
-        try {
-            // WorldGuard 7.0+ API
-            com.sk89q.worldedit.util.Location wgLoc = BukkitAdapter.adapt(location);
-            
-            WorldGuard wg = WorldGuard.getInstance();
-            RegionManager regionManager =
-                wg.getPlatform().getRegionContainer().get(
-                   BukkitAdapter.adapt(location.getWorld())
-                );
-            
-            if (regionManager == null) {
-                return Set.of();
-            }
-            
-            ApplicableRegionSet regions = regionManager.getApplicableRegions(
-                com.sk89q.worldedit.math.BlockVector3.at(
-                    location.getBlockX(), 
-                    location.getBlockY(), 
-                    location.getBlockZ()
-                )
-            );
-            
-            return regions.getRegions().stream()
-                .map(ProtectedRegion::getId)
-                .collect(java.util.stream.Collectors.toSet());
-                
-        } catch (Exception e) {
-            plugin.logWarning("Error getting regions at location: " + e.getMessage());
-            return Set.of();
+        
+        // Check for region enter
+        if (newRegion != null && newRegion != currentRegion) {
+            playerRegions.put(uuid, newRegion);
+            handleRegionEnter(player, newRegion.getRegionName());
         }
     }
 
@@ -200,6 +170,14 @@ public class WorldGuardListener implements Listener {
         }
     }
 
+    /**
+     * Forgets the tracked region of a leaving player
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        cleanupPlayer(event.getPlayer().getUniqueId());
+    }
+
     /**
      * Cleanup on player quit
      */
@@ -212,6 +190,8 @@ public class WorldGuardListener implements Listener {
      */
     public void reload() {
         checkWorldGuard();
+        playerRegions.clear();
+        arenaManager.refreshRegionIndex();
     }
 
     /**
@@ -0,0 +1,105 @@
+package me.bixgamer707.hordes.loot;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Discrete weighted distribution sampled in O(1) (Vose's alias method)
+ *
+ * Built once from the weights: every column holds its own outcome with
+ * some probability and one alias outcome for the rest. Sampling picks a
+ * column and flips a biased coin, no search and no allocation
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds the table
+     *
+     * @param weights Non-negative weights, at least one positive
+     * @throws IllegalArgumentException If no weight is positive
+     */
+    public static AliasTable of(double[] weights) {
+        int n = weights.length;
+
+        double total = 0;
+        for (double weight : weights) {
+            total += Math.max(0, weight);
+        }
+
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("Loot table needs at least one positive weight");
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+
+        // Scaled so the average column is exactly 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = Math.max(0, weights[i]) * n / total;
+
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is 1 up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+
+        return new AliasTable(probability, alias);
+    }
+
+    /**
+     * Picks an outcome
+     *
+     * @return Index into the weights the table was built from
+     */
+    public int sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+}
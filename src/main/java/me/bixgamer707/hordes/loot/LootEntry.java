@@ -0,0 +1,118 @@
+package me.bixgamer707.hordes.loot;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A weighted outcome of a loot table
+ * Either an item (amount rolled between min and max) or nothing
+ */
+public final class LootEntry {
+
+    private final ItemStack template;
+    private final int minAmount;
+    private final int maxAmount;
+    private final LootRarity rarity;
+    private final double weight;
+
+    private LootEntry(ItemStack template, int minAmount, int maxAmount, LootRarity rarity, double weight) {
+        this.template = template;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.rarity = rarity;
+        this.weight = weight;
+    }
+
+    /**
+     * Reads an entry from a map list item
+     * Format: {item: "MATERIAL AMOUNT" or "MATERIAL MIN-MAX", weight, rarity}
+     * or {nothing: true, weight}
+     *
+     * @throws IllegalArgumentException If the entry is invalid
+     */
+    public static LootEntry of(Map<?, ?> map) {
+        double weight = map.get("weight") instanceof Number ? ((Number) map.get("weight")).doubleValue() : 1;
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight: " + weight);
+        }
+
+        Object item = map.get("item");
+        if (Boolean.TRUE.equals(map.get("nothing")) || item == null) {
+            return new LootEntry(null, 0, 0, null, weight);
+        }
+
+        String[] parts = item.toString().trim().split(" ");
+        Material material = Material.matchMaterial(parts[0]);
+        if (material == null || !material.isItem()) {
+            throw new IllegalArgumentException("Invalid material: " + parts[0]);
+        }
+
+        int min = 1;
+        int max = 1;
+        if (parts.length >= 2) {
+            try {
+                String[] range = parts[1].split("-", 2);
+                min = Integer.parseInt(range[0]);
+                max = range.length > 1 ? Integer.parseInt(range[1]) : min;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid amount: " + parts[1]);
+            }
+        }
+
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid amount: " + parts[1]);
+        }
+
+        Object rarityKey = map.get("rarity");
+        LootRarity rarity = LootRarity.fromKey(rarityKey != null ? rarityKey.toString() : "COMMON");
+        if (rarity == null) {
+            throw new IllegalArgumentException("Invalid rarity: " + rarityKey);
+        }
+
+        return new LootEntry(new ItemStack(material), min, max, rarity, weight);
+    }
+
+    /**
+     * Checks if this entry gives nothing
+     */
+    public boolean isEmpty() {
+        return template == null;
+    }
+
+    /**
+     * Creates the item with a rolled amount
+     *
+     * @return New ItemStack or null for an empty entry
+     */
+    public ItemStack createItem() {
+        if (template == null) {
+            return null;
+        }
+
+        ItemStack item = template.clone();
+        item.setAmount(minAmount == maxAmount
+                ? minAmount
+                : ThreadLocalRandom.current().nextInt(minAmount, maxAmount + 1));
+        return item;
+    }
+
+    public Material getMaterial() {
+        return template != null ? template.getType() : null;
+    }
+
+    /**
+     * Gets the rarity tier
+     *
+     * @return Tier or null for an empty entry
+     */
+    public LootRarity getRarity() {
+        return rarity;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,362 @@
+package me.bixgamer707.hordes.loot;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.config.ItemDropMode;
+import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.text.Text;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolls weighted loot tables from loot.yml
+ *
+ * Tables are compiled at load (see {@link LootTable}) and bound per arena
+ * to arena completion, waves and mob ids. Every player rolls separately
+ * with their own pity counters:
+ * - Mob loot drops at the mob, only the killer can pick it up
+ * - Wave and completion loot goes through the reward mailbox
+ *
+ * Roll outcomes are recorded in the player's statistics. Pity counters
+ * are kept while the player is online (or their arena slot is held)
+ */
+public class LootManager implements Listener {
+
+    private static final String DEFAULT_KEY = "default";
+
+    private final Hordes plugin;
+
+    // Table ID -> compiled table
+    private volatile Map<String, LootTable> tables;
+
+    // Arena ID -> table bindings
+    private volatile Map<String, ArenaLoot> arenaLoot;
+
+    // Mob ID -> table, used when the arena doesn't bind that mob
+    private volatile Map<String, LootTable> globalMobs;
+
+    // Player UUID -> rolls without a pity-tier entry, by table index
+    private final Map<UUID, int[]> pity;
+
+    // Settings
+    private boolean enabled;
+    private LootRarity announceRarity;
+
+    public LootManager(Hordes plugin) {
+        this.plugin = plugin;
+        this.tables = Collections.emptyMap();
+        this.arenaLoot = Collections.emptyMap();
+        this.globalMobs = Collections.emptyMap();
+        this.pity = new ConcurrentHashMap<>();
+
+        reload();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        enabled = plugin.getFileManager().getConfig().getBoolean("loot.enabled", true);
+
+        LootRarity rarity = LootRarity.fromKey(plugin.getFileManager().getConfig().getString("loot.announce-rarity", "RARE"));
+        announceRarity = rarity != null ? rarity : LootRarity.RARE;
+    }
+
+    /**
+     * Compiles every table and binding from loot.yml
+     * Tables that fail to compile are reported and skipped
+     */
+    private void loadTables() {
+        File loot = plugin.getFileManager().getLoot();
+
+        Map<String, LootTable> compiled = new HashMap<>();
+        ConfigurationSection tablesSection = loot.getConfigurationSection("tables");
+
+        if (tablesSection != null) {
+            for (String id : tablesSection.getKeys(false)) {
+                ConfigurationSection section = tablesSection.getConfigurationSection(id);
+                if (section == null) {
+                    continue;
+                }
+
+                try {
+                    compiled.put(id, LootTable.load(id, compiled.size(), section));
+                } catch (IllegalArgumentException e) {
+                    plugin.logWarning("Skipping loot table " + id + ": " + e.getMessage());
+                }
+            }
+        }
+
+        Map<String, ArenaLoot> arenas = new HashMap<>();
+        ConfigurationSection arenasSection = loot.getConfigurationSection("arenas");
+
+        if (arenasSection != null) {
+            for (String arenaId : arenasSection.getKeys(false)) {
+                ConfigurationSection section = arenasSection.getConfigurationSection(arenaId);
+                if (section != null) {
+                    arenas.put(arenaId, new ArenaLoot(
+                            getTable(compiled, section.getString("completion"), arenaId + ".completion"),
+                            bind(compiled, section.getConfigurationSection("waves"), arenaId + ".waves"),
+                            bind(compiled, section.getConfigurationSection("mobs"), arenaId + ".mobs")));
+                }
+            }
+        }
+
+        tables = compiled;
+        arenaLoot = arenas;
+        globalMobs = bind(compiled, loot.getConfigurationSection("mobs"), "mobs");
+
+        // Counters are indexed by table position, which may have changed
+        pity.clear();
+
+        if (!compiled.isEmpty()) {
+            plugin.logInfo("Loaded " + compiled.size() + " loot tables");
+        }
+    }
+
+    /**
+     * Reads a key -> table ID section
+     */
+    private Map<String, LootTable> bind(Map<String, LootTable> compiled, ConfigurationSection section, String path) {
+        if (section == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, LootTable> bindings = new HashMap<>();
+        for (String key : section.getKeys(false)) {
+            LootTable table = getTable(compiled, section.getString(key), path + "." + key);
+            if (table != null) {
+                bindings.put(key, table);
+            }
+        }
+        return bindings;
+    }
+
+    private LootTable getTable(Map<String, LootTable> compiled, String id, String path) {
+        if (id == null) {
+            return null;
+        }
+
+        LootTable table = compiled.get(id);
+        if (table == null) {
+            plugin.logWarning("Unknown loot table '" + id + "' at " + path);
+        }
+        return table;
+    }
+
+    /**
+     * Rolls the mob table for the player that killed an arena mob
+     * Items drop at the mob and only the killer can pick them up
+     *
+     * @param killer Player that got the kill
+     * @param arena Arena of the mob
+     * @param mobId Mob ID from mobs.yml
+     * @param location Where the mob died
+     */
+    public void rollMobDeath(Player killer, Arena arena, String mobId, Location location) {
+        if (!enabled || location.getWorld() == null) {
+            return;
+        }
+
+        LootTable table = null;
+        ArenaLoot loot = arenaLoot.get(arena.getId());
+
+        if (loot != null) {
+            table = lookup(loot.mobs, mobId);
+        }
+        if (table == null) {
+            table = lookup(globalMobs, mobId);
+        }
+        if (table == null) {
+            return;
+        }
+
+        for (int i = 0; i < table.getRolls(); i++) {
+            LootEntry entry = roll(killer.getUniqueId(), table);
+            if (entry.isEmpty()) {
+                continue;
+            }
+
+            ItemStack item = entry.createItem();
+            Item dropped = location.getWorld().dropItemNaturally(location, item);
+            plugin.getDropTracker().track(dropped, killer.getUniqueId(), arena.getId(), ItemDropMode.OWNER_ONLY);
+
+            announce(killer, entry, item);
+        }
+    }
+
+    /**
+     * Rolls the wave table for every player that cleared a wave
+     * Items go through the reward mailbox
+     */
+    public void rollWave(Arena arena, int waveNumber, Collection<? extends OfflinePlayer> players) {
+        ArenaLoot loot = arenaLoot.get(arena.getId());
+        if (!enabled || loot == null) {
+            return;
+        }
+
+        LootTable table = loot.waves.get(String.valueOf(waveNumber));
+        rollFor(table != null ? table : loot.waves.get(DEFAULT_KEY), players);
+    }
+
+    /**
+     * Rolls the completion table for every player that cleared the arena
+     * Items go through the reward mailbox
+     */
+    public void rollCompletion(Arena arena, Collection<? extends OfflinePlayer> players) {
+        ArenaLoot loot = arenaLoot.get(arena.getId());
+        if (!enabled || loot == null) {
+            return;
+        }
+
+        rollFor(loot.completion, players);
+    }
+
+    private void rollFor(LootTable table, Collection<? extends OfflinePlayer> players) {
+        if (table == null) {
+            return;
+        }
+
+        for (OfflinePlayer player : players) {
+            UUID uuid = player.getUniqueId();
+            boolean granted = false;
+
+            for (int i = 0; i < table.getRolls(); i++) {
+                LootEntry entry = roll(uuid, table);
+                if (entry.isEmpty()) {
+                    continue;
+                }
+
+                ItemStack item = entry.createItem();
+                plugin.getRewardMailbox().recordItem(uuid, item);
+                granted = true;
+
+                if (player.getPlayer() != null) {
+                    announce(player.getPlayer(), entry, item);
+                }
+            }
+
+            if (granted && player.getPlayer() != null) {
+                plugin.getRewardManager().deliverLater(player.getPlayer());
+            }
+        }
+    }
+
+    /**
+     * Rolls a table for a player, applying and updating their pity counter
+     */
+    private LootEntry roll(UUID uuid, LootTable table) {
+        LootEntry entry;
+
+        if (table.hasPity()) {
+            int[] counters = pity.get(uuid);
+            if (counters == null) {
+                counters = new int[tables.size()];
+                pity.put(uuid, counters);
+            }
+
+            int index = table.getIndex();
+            entry = table.roll(counters[index]);
+            counters[index] = table.resetsPity(entry) ? 0 : counters[index] + 1;
+        } else {
+            entry = table.roll(0);
+        }
+
+        if (plugin.getStatisticsManager() != null) {
+            plugin.getStatisticsManager().recordLoot(uuid, entry.getRarity());
+        }
+
+        return entry;
+    }
+
+    private static LootTable lookup(Map<String, LootTable> bindings, String key) {
+        LootTable table = key != null ? bindings.get(key) : null;
+        return table != null ? table : bindings.get(DEFAULT_KEY);
+    }
+
+    /**
+     * Tells a player about a drop of the announce tier or higher
+     */
+    private void announce(Player player, LootEntry entry, ItemStack item) {
+        if (!entry.getRarity().isAtLeast(announceRarity)) {
+            return;
+        }
+
+        LootRarity rarity = entry.getRarity();
+        Text.sendMessage(player, "loot.drop",
+                rarity.getColor() + Text.getMessages().getString("Messages.loot.rarities." + rarity.getKey(), rarity.name()),
+                item.getAmount(),
+                item.getType().name().toLowerCase().replace('_', ' '));
+    }
+
+    /**
+     * Forgets the pity counters of players that quit
+     * Players whose arena slot is held keep them until it expires
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+
+        if (!plugin.getReconnectManager().isHeld(uuid)) {
+            clearPity(uuid);
+        }
+    }
+
+    /**
+     * Forgets a player's pity counters
+     */
+    public void clearPity(UUID uuid) {
+        pity.remove(uuid);
+    }
+
+    public LootTable getTable(String id) {
+        return tables.get(id);
+    }
+
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Reloads settings and recompiles every table
+     */
+    public void reload() {
+        loadConfiguration();
+        loadTables();
+    }
+
+    /**
+     * Table bindings of one arena
+     */
+    private static final class ArenaLoot {
+
+        private final LootTable completion;
+
+        // Wave number (or "default") -> table
+        private final Map<String, LootTable> waves;
+
+        // Mob ID (or "default") -> table
+        private final Map<String, LootTable> mobs;
+
+        ArenaLoot(LootTable completion, Map<String, LootTable> waves, Map<String, LootTable> mobs) {
+            this.completion = completion;
+            this.waves = waves;
+            this.mobs = mobs;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package me.bixgamer707.hordes.loot;
+
+/**
+ * Rarity tiers of loot entries, lowest first
+ * Tiers are ordered, so pity and announcements work on "at least" a tier
+ */
+public enum LootRarity {
+
+    COMMON("&f"),
+    UNCOMMON("&a"),
+    RARE("&9"),
+    EPIC("&5"),
+    LEGENDARY("&6");
+
+    private final String color;
+
+    LootRarity(String color) {
+        this.color = color;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    /**
+     * Checks if this tier is the given one or higher
+     */
+    public boolean isAtLeast(LootRarity other) {
+        return ordinal() >= other.ordinal();
+    }
+
+    /**
+     * Gets the config/storage key
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Parses a rarity from its key
+     *
+     * @return Rarity or null if unknown
+     */
+    public static LootRarity fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        for (LootRarity rarity : values()) {
+            if (rarity.name().equalsIgnoreCase(key)) {
+                return rarity;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+package me.bixgamer707.hordes.loot;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A loot table compiled for O(1) rolls
+ *
+ * Entries are compiled into an alias table. With pity configured, a
+ * second alias table holds only the entries of the pity tier or higher:
+ * once a player has gone (rolls - 1) rolls without one, the next roll is
+ * taken from it
+ */
+public final class LootTable {
+
+    private final String id;
+    private final int index;
+    private final int rolls;
+    private final LootEntry[] entries;
+    private final AliasTable table;
+
+    // Pity (null tier = disabled)
+    private final LootRarity pityRarity;
+    private final int pityRolls;
+    private final LootEntry[] pityEntries;
+    private final AliasTable pityTable;
+
+    private LootTable(String id, int index, int rolls, LootEntry[] entries,
+                      LootRarity pityRarity, int pityRolls, LootEntry[] pityEntries) {
+        this.id = id;
+        this.index = index;
+        this.rolls = rolls;
+        this.entries = entries;
+        this.table = AliasTable.of(weights(entries));
+        this.pityRarity = pityRarity;
+        this.pityRolls = pityRolls;
+        this.pityEntries = pityEntries;
+        this.pityTable = pityEntries != null ? AliasTable.of(weights(pityEntries)) : null;
+    }
+
+    /**
+     * Compiles a table from its config section
+     *
+     * @param index Position of the table, used to index pity counters
+     * @throws IllegalArgumentException If the table is invalid
+     */
+    public static LootTable load(String id, int index, ConfigurationSection section) {
+        List<LootEntry> entries = new ArrayList<>();
+
+        for (Map<?, ?> map : section.getMapList("entries")) {
+            entries.add(LootEntry.of(map));
+        }
+
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("Loot table " + id + " has no entries");
+        }
+
+        LootRarity pityRarity = null;
+        int pityRolls = 0;
+        LootEntry[] pityEntries = null;
+
+        ConfigurationSection pity = section.getConfigurationSection("pity");
+        if (pity != null) {
+            pityRarity = LootRarity.fromKey(pity.getString("rarity"));
+            pityRolls = pity.getInt("rolls", 0);
+
+            if (pityRarity == null || pityRolls < 1) {
+                throw new IllegalArgumentException("Loot table " + id + " has an invalid pity section");
+            }
+
+            List<LootEntry> eligible = new ArrayList<>();
+            for (LootEntry entry : entries) {
+                if (!entry.isEmpty() && entry.getRarity().isAtLeast(pityRarity) && entry.getWeight() > 0) {
+                    eligible.add(entry);
+                }
+            }
+
+            if (eligible.isEmpty()) {
+                throw new IllegalArgumentException("Loot table " + id + " has no " + pityRarity.getKey() + " entries for pity");
+            }
+
+            pityEntries = eligible.toArray(new LootEntry[0]);
+        }
+
+        return new LootTable(id, index, Math.max(1, section.getInt("rolls", 1)),
+                entries.toArray(new LootEntry[0]), pityRarity, pityRolls, pityEntries);
+    }
+
+    private static double[] weights(LootEntry[] entries) {
+        double[] weights = new double[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            weights[i] = entries[i].getWeight();
+        }
+        return weights;
+    }
+
+    /**
+     * Rolls one entry
+     *
+     * @param misses Rolls the player has gone without a pity-tier entry
+     */
+    public LootEntry roll(int misses) {
+        if (pityTable != null && misses >= pityRolls - 1) {
+            return pityEntries[pityTable.sample()];
+        }
+
+        return entries[table.sample()];
+    }
+
+    /**
+     * Checks if an entry resets the pity counter
+     */
+    public boolean resetsPity(LootEntry entry) {
+        return pityRarity != null && !entry.isEmpty() && entry.getRarity().isAtLeast(pityRarity);
+    }
+
+    public boolean hasPity() {
+        return pityTable != null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets how many entries are rolled each time the table is used
+     */
+    public int getRolls() {
+        return rolls;
+    }
+}
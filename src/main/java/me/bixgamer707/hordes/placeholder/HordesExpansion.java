@@ -2,12 +2,16 @@ package me.bixgamer707.hordes.placeholder;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.combat.DamageLedger;
 import me.bixgamer707.hordes.player.HordePlayer;
 import me.bixgamer707.hordes.statistics.PlayerStatistics;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
+import java.util.UUID;
+
 /**
  * PlaceholderAPI expansion for Hordes
  * Provides comprehensive placeholders for arenas, players, and statistics
@@ -145,6 +149,31 @@ public class HordesExpansion extends PlaceholderExpansion {
             return "0";
         }
 
+        // Combat (current run)
+        if (identifier.equals("damage") || identifier.equals("dps") || identifier.equals("assists")
+                || identifier.equals("contribution") || identifier.equals("damage_share")) {
+            Arena arena = plugin.getArenaManager().getPlayerArena(player);
+            if (arena == null) {
+                return "0";
+            }
+
+            DamageLedger ledger = arena.getDamageLedger();
+            UUID uuid = player.getUniqueId();
+
+            switch (identifier) {
+                case "damage":
+                    return String.format(Locale.ROOT, "%.1f", ledger.getDamage(uuid));
+                case "dps":
+                    return String.format(Locale.ROOT, "%.1f", ledger.getDps(uuid));
+                case "assists":
+                    return String.valueOf(ledger.getAssists(uuid));
+                case "contribution":
+                    return String.format(Locale.ROOT, "%.1f", ledger.getContribution(uuid));
+                default:
+                    return String.format(Locale.ROOT, "%.0f", ledger.getDamageShare(uuid)) + "%";
+            }
+        }
+
         // Statistics (if enabled)
         if (plugin.getStatisticsManager() != null && plugin.getStatisticsManager().isEnabled()) {
             PlayerStatistics stats = plugin.getStatisticsManager()
@@ -155,6 +184,14 @@ public class HordesExpansion extends PlaceholderExpansion {
                     return String.valueOf(stats.getTotalKills());
                 }
 
+                if (identifier.equals("total_assists")) {
+                    return String.valueOf(stats.getTotalAssists());
+                }
+
+                if (identifier.equals("total_damage")) {
+                    return String.format("%.0f", stats.getTotalDamage());
+                }
+
                 if (identifier.equals("total_deaths")) {
                     return String.valueOf(stats.getTotalDeaths());
                 }
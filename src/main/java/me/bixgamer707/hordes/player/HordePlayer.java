@@ -18,20 +18,37 @@ import java.util.UUID;
  */
 public class HordePlayer {
 
+    // Kills within this window extend the combo
+    private static final long COMBO_WINDOW_MILLIS = 4000L;
+
     private final UUID uuid;
     private final Arena arena;
     
     // Original state (for restoration)
     private SavedPlayerState savedState;
     
+    // Arena state held while disconnected (for reconnecting)
+    private SavedPlayerState arenaState;
+    
     // Current state
     private PlayerState state;
     
+    // State to go back to on reconnect
+    private PlayerState resumeState;
+    
     // Session statistics
     private int kills;
     private int deaths;
     private long joinTime;
     private long deathTime;
+    
+    // Kill combo
+    private int combo;
+    private long lastKillTime;
+    
+    // Pending respawn (0 = none)
+    private long respawnAt;
+    private long respawnDelay;
 
     public HordePlayer(UUID uuid, Arena arena) {
         this.uuid = uuid;
@@ -80,6 +97,41 @@ public class HordePlayer {
         savedState.restore(player);
     }
 
+    /**
+     * Marks the player as disconnected
+     * If state was saved, the original state is restored now (while the
+     * player is still online) and the arena state is kept for reconnecting
+     */
+    public void suspend() {
+        resumeState = state;
+        state = PlayerState.DISCONNECTED;
+        clearRespawn();
+        
+        Player player = getPlayer();
+        if (player != null && savedState != null) {
+            arenaState = new SavedPlayerState(player);
+            savedState.restore(player);
+        }
+    }
+
+    /**
+     * Brings a reconnected player back to their arena state
+     * The original state is saved again for the final restoration
+     * 
+     * @return State the player had before disconnecting
+     */
+    public PlayerState resume() {
+        Player player = getPlayer();
+        if (player != null && arenaState != null) {
+            savedState = new SavedPlayerState(player);
+            arenaState.restore(player);
+        }
+        
+        arenaState = null;
+        state = resumeState;
+        return state;
+    }
+
     /**
      * Gets the Bukkit player instance
      * 
@@ -90,10 +142,24 @@ public class HordePlayer {
     }
 
     /**
-     * Increments kill count
+     * Increments kill count and extends the combo
      */
     public void addKill() {
         kills++;
+        
+        long now = System.currentTimeMillis();
+        combo = now - lastKillTime <= COMBO_WINDOW_MILLIS ? combo + 1 : 1;
+        lastKillTime = now;
+    }
+
+    /**
+     * Gets the running kill combo
+     * 
+     * @param now Current time in milliseconds
+     * @return Combo count, or 0 if the window expired
+     */
+    public int getCombo(long now) {
+        return now - lastKillTime <= COMBO_WINDOW_MILLIS ? combo : 0;
     }
 
     /**
@@ -104,12 +170,35 @@ public class HordePlayer {
         deathTime = System.currentTimeMillis();
     }
 
+    /**
+     * Schedules a respawn countdown
+     * 
+     * @param delayMillis Time until respawn in milliseconds
+     */
+    public void startRespawn(long delayMillis) {
+        this.respawnDelay = delayMillis;
+        this.respawnAt = System.currentTimeMillis() + delayMillis;
+    }
+
+    /**
+     * Clears the pending respawn countdown
+     */
+    public void clearRespawn() {
+        this.respawnAt = 0;
+    }
+
     /**
      * Gets player name (safe for offline players)
      */
     public String getName() {
         Player player = getPlayer();
-        return player != null ? player.getName() : "Unknown";
+        if (player != null) {
+            return player.getName();
+        }
+        
+        // Held while disconnected, the server still knows the name
+        String name = arena.getPlugin().getServer().getOfflinePlayer(uuid).getName();
+        return name != null ? name : "Unknown";
     }
 
     /**
@@ -136,6 +225,20 @@ public class HordePlayer {
         return state == PlayerState.PLAYING;
     }
 
+    /**
+     * Checks if player's slot is held for reconnecting
+     */
+    public boolean isDisconnected() {
+        return state == PlayerState.DISCONNECTED;
+    }
+
+    /**
+     * Checks if player disconnected while alive
+     */
+    public boolean isDisconnectedAlive() {
+        return state == PlayerState.DISCONNECTED && resumeState == PlayerState.PLAYING;
+    }
+
     /**
      * Checks if player is dead
      */
@@ -172,6 +275,14 @@ public class HordePlayer {
         return joinTime;
     }
 
+    public long getRespawnAt() {
+        return respawnAt;
+    }
+
+    public long getRespawnDelay() {
+        return respawnDelay;
+    }
+
     public boolean hasSavedState() {
         return savedState != null;
     }
@@ -23,7 +23,12 @@ public enum PlayerState {
     /**
      * Player is spectating the arena
      */
-    SPECTATING("Spectating");
+    SPECTATING("Spectating"),
+    
+    /**
+     * Player disconnected, their slot is held for the reconnect window
+     */
+    DISCONNECTED("Disconnected");
     
     private final String displayName;
     
@@ -0,0 +1,180 @@
+package me.bixgamer707.hordes.rewards;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A reward compiled once at load
+ * Items are kept as ready templates (cloned on give) and commands as
+ * pre-split templates, so giving a reward never parses strings
+ */
+public final class RewardBundle {
+
+    public static final RewardBundle EMPTY = new RewardBundle(0, Collections.emptyList(), Collections.emptyList());
+
+    private final double money;
+    private final List<ItemStack> items;
+    private final List<CommandTemplate> commands;
+
+    private volatile List<String> encodedItems;
+
+    private RewardBundle(double money, List<ItemStack> items, List<CommandTemplate> commands) {
+        this.money = money;
+        this.items = items;
+        this.commands = commands;
+    }
+
+    /**
+     * Compiles a reward
+     *
+     * @param money Money to deposit
+     * @param itemStrings Items, format "MATERIAL AMOUNT"
+     * @param commandStrings Console commands with %placeholders%
+     */
+    public static RewardBundle compile(double money, List<String> itemStrings, List<String> commandStrings) {
+        List<ItemStack> items = new ArrayList<>(itemStrings.size());
+        for (String itemStr : itemStrings) {
+            ItemStack item = parseItem(itemStr);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        List<CommandTemplate> commands = new ArrayList<>(commandStrings.size());
+        for (String command : commandStrings) {
+            commands.add(new CommandTemplate(command));
+        }
+
+        return new RewardBundle(money, Collections.unmodifiableList(items), Collections.unmodifiableList(commands));
+    }
+
+    /**
+     * Parses a single item string
+     * Format: "MATERIAL AMOUNT"
+     *
+     * @return ItemStack or null if invalid
+     */
+    private static ItemStack parseItem(String itemStr) {
+        String[] parts = itemStr.trim().split(" ");
+
+        Material material = Material.matchMaterial(parts[0]);
+        if (material == null) {
+            Bukkit.getLogger().warning("[Hordes] Invalid material: " + parts[0]);
+            return null;
+        }
+
+        int amount = 1;
+        if (parts.length >= 2) {
+            try {
+                amount = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                Bukkit.getLogger().warning("[Hordes] Invalid amount: " + parts[1]);
+            }
+        }
+
+        return new ItemStack(material, amount);
+    }
+
+    public double getMoney() {
+        return money;
+    }
+
+    /**
+     * Gets the item templates
+     * Shared between every grant, clone before giving
+     */
+    public List<ItemStack> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the items as stored in the reward mailbox, in template order
+     * Encoded once, on first use (main thread)
+     */
+    public List<String> getEncodedItems() {
+        List<String> encoded = encodedItems;
+
+        if (encoded == null) {
+            List<String> list = new ArrayList<>(items.size());
+            for (ItemStack item : items) {
+                list.add(RewardMailbox.encodeItem(item));
+            }
+            encoded = Collections.unmodifiableList(list);
+            encodedItems = encoded;
+        }
+
+        return encoded;
+    }
+
+    public boolean hasItems() {
+        return !items.isEmpty();
+    }
+
+    public List<CommandTemplate> getCommands() {
+        return commands;
+    }
+
+    /**
+     * A command split into literal text and %placeholder% keys
+     */
+    public static final class CommandTemplate {
+
+        private static final Pattern PLACEHOLDER = Pattern.compile("%[A-Za-z0-9_]+%");
+
+        // Even indexes are literal text, odd indexes are placeholders (with %)
+        private final String[] parts;
+
+        CommandTemplate(String command) {
+            List<String> split = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(command);
+            int start = 0;
+
+            while (matcher.find()) {
+                split.add(command.substring(start, matcher.start()));
+                split.add(matcher.group());
+                start = matcher.end();
+            }
+            split.add(command.substring(start));
+
+            this.parts = split.toArray(new String[0]);
+        }
+
+        /**
+         * Builds the command
+         *
+         * @param replacements Alternating placeholder (with %) and value;
+         *                     unknown placeholders are kept as written
+         */
+        public String render(String... replacements) {
+            if (parts.length == 1) {
+                return parts[0];
+            }
+
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0; i < parts.length; i++) {
+                String part = parts[i];
+
+                if ((i & 1) == 1) {
+                    for (int r = 0; r + 1 < replacements.length; r += 2) {
+                        if (replacements[r].equals(part)) {
+                            part = replacements[r + 1];
+                            break;
+                        }
+                    }
+                }
+
+                sb.append(part);
+            }
+
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package me.bixgamer707.hordes.rewards;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.file.ConfigWriteService;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Durable ledger of granted rewards
+ *
+ * Every reward part (money, item or command) is recorded as a pending
+ * entry before it is applied and marked done once applied. Entries that
+ * could not be applied (player offline, still in an arena, inventory
+ * full, economy failure) are delivered on the next join or through
+ * /hordes claim.
+ *
+ * The store is an append-only log (mailbox.log):
+ *   + <id> <uuid> <type> <payload>   grant
+ *   - <id>                           done
+ * Lines are appended in batches by a single writer thread, in order, so
+ * a done line never reaches disk before its grant. Only pending entries
+ * are kept in memory and the log is compacted, through the same writer,
+ * once done lines outnumber pending ones
+ */
+public class RewardMailbox implements Listener {
+
+    private static final String FILE_NAME = "mailbox.log";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    private final Hordes plugin;
+    private final java.io.File file;
+
+    // Player UUID -> pending entries, oldest first (main thread)
+    private final Map<UUID, List<MailEntry>> pending;
+
+    // Lines and snapshots waiting for the writer thread
+    private final Queue<Object> writeQueue;
+    private final AtomicBoolean drainScheduled;
+
+    private ExecutorService writer;
+    private long nextId;
+    private int pendingCount;
+    private int doneLines;
+
+    // Settings
+    private boolean deliverOnJoin;
+    private long joinDelayTicks;
+
+    public RewardMailbox(Hordes plugin) {
+        this.plugin = plugin;
+        this.file = new java.io.File(plugin.getDataFolder(), FILE_NAME);
+        this.pending = new ConcurrentHashMap<>();
+        this.writeQueue = new ConcurrentLinkedQueue<>();
+        this.drainScheduled = new AtomicBoolean();
+        this.nextId = 1;
+
+        loadConfiguration();
+        load();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        deliverOnJoin = plugin.getFileManager().getConfig().getBoolean("mailbox.deliver-on-join", true);
+        joinDelayTicks = Math.max(1L, plugin.getFileManager().getConfig().getLong("mailbox.join-delay-ticks", 40L));
+    }
+
+    /**
+     * Replays the log into the pending index
+     */
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        // Entry ID -> entry, in grant order
+        Map<Long, MailEntry> entries = new LinkedHashMap<>();
+        int lines = 0;
+
+        try {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                lines++;
+                parseLine(line, entries);
+            }
+        } catch (IOException e) {
+            plugin.logError("Failed to read " + FILE_NAME + ": " + e.getMessage());
+            return;
+        }
+
+        for (MailEntry entry : entries.values()) {
+            pending.computeIfAbsent(entry.getOwner(), uuid -> new ArrayList<>()).add(entry);
+            nextId = Math.max(nextId, entry.getId() + 1);
+        }
+
+        pendingCount = entries.size();
+        doneLines = lines - pendingCount;
+
+        if (doneLines > 0) {
+            compact();
+        }
+
+        if (pendingCount > 0) {
+            plugin.logInfo("Loaded " + pendingCount + " pending rewards");
+        }
+    }
+
+    private void parseLine(String line, Map<Long, MailEntry> entries) {
+        try {
+            if (line.startsWith("+ ")) {
+                String[] parts = line.split(" ", 5);
+                long id = Long.parseLong(parts[1]);
+                entries.put(id, new MailEntry(id, UUID.fromString(parts[2]),
+                        MailType.valueOf(parts[3]), parts.length > 4 ? parts[4] : "", null));
+                nextId = Math.max(nextId, id + 1);
+            } else if (line.startsWith("- ")) {
+                entries.remove(Long.parseLong(line.substring(2).trim()));
+            }
+        } catch (RuntimeException e) {
+            plugin.logWarning("Skipping malformed mailbox line: " + line);
+        }
+    }
+
+    /**
+     * Records a reward part as pending
+     * Must be called from the main thread
+     *
+     * @param owner Player the reward belongs to
+     * @param type Reward part type
+     * @param payload Amount, encoded item or command
+     * @return The pending entry
+     */
+    public MailEntry record(UUID owner, MailType type, String payload) {
+        return record(new MailEntry(nextId++, owner, type, payload, null));
+    }
+
+    /**
+     * Records an item as pending
+     */
+    public MailEntry recordItem(UUID owner, ItemStack item) {
+        return recordItem(owner, item.clone(), encodeItem(item));
+    }
+
+    /**
+     * Records a reward template item as pending
+     *
+     * @param template Item kept to deliver from, never modified
+     * @param encoded The item already encoded
+     */
+    public MailEntry recordItem(UUID owner, ItemStack template, String encoded) {
+        return record(new MailEntry(nextId++, owner, MailType.ITEM, encoded, template));
+    }
+
+    private MailEntry record(MailEntry entry) {
+        UUID owner = entry.getOwner();
+
+        pending.computeIfAbsent(owner, uuid -> new ArrayList<>()).add(entry);
+        pendingCount++;
+
+        append("+ " + entry.getId() + " " + owner + " " + entry.getType().name() + " " + entry.getPayload());
+        return entry;
+    }
+
+    /**
+     * Marks an entry as applied
+     * Must be called from the main thread
+     */
+    public void complete(MailEntry entry) {
+        List<MailEntry> entries = pending.get(entry.getOwner());
+        if (entries == null || !entries.remove(entry)) {
+            return;
+        }
+
+        if (entries.isEmpty()) {
+            pending.remove(entry.getOwner());
+        }
+
+        pendingCount--;
+        doneLines++;
+
+        append("- " + entry.getId());
+
+        if (doneLines >= COMPACT_THRESHOLD && doneLines > pendingCount) {
+            // Everything queued so far is part of the snapshot
+            doneLines = 0;
+            enqueue(new Snapshot(snapshot()));
+        }
+    }
+
+    /**
+     * Checks if an entry still has to be applied
+     * Entries held by a GUI or a batch may have been claimed meanwhile
+     */
+    public boolean isPending(MailEntry entry) {
+        List<MailEntry> entries = pending.get(entry.getOwner());
+        return entries != null && entries.contains(entry);
+    }
+
+    /**
+     * Gets a player's pending entries, oldest first
+     */
+    public List<MailEntry> getPending(UUID owner) {
+        List<MailEntry> entries = pending.get(owner);
+        return entries != null ? new ArrayList<>(entries) : Collections.emptyList();
+    }
+
+    public int getPendingCount(UUID owner) {
+        List<MailEntry> entries = pending.get(owner);
+        return entries != null ? entries.size() : 0;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Delivers pending rewards to a player that just joined
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+
+        if (getPendingCount(player.getUniqueId()) == 0) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (!player.isOnline()) {
+                return;
+            }
+
+            if (deliverOnJoin) {
+                plugin.getRewardManager().claimAll(player);
+            } else {
+                plugin.getRewardManager().notifyPending(player);
+            }
+        }, joinDelayTicks);
+    }
+
+    /**
+     * Queues a line for the writer thread
+     */
+    private void append(String line) {
+        enqueue(line);
+    }
+
+    private void enqueue(Object write) {
+        writeQueue.add(write);
+
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            getWriter().execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes every queued line in one append (writer thread)
+     * A snapshot replaces the log and the lines queued before it
+     */
+    private void drain() {
+        drainScheduled.set(false);
+
+        StringBuilder batch = new StringBuilder();
+        Object write;
+        while ((write = writeQueue.poll()) != null) {
+            if (write instanceof Snapshot) {
+                batch.setLength(0);
+                writeSnapshot(((Snapshot) write).data);
+            } else {
+                batch.append(write).append('\n');
+            }
+        }
+
+        if (batch.length() == 0) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to write " + FILE_NAME, e);
+        }
+    }
+
+    /**
+     * Rewrites the log with only the pending entries
+     * Only called while the writer thread is idle
+     */
+    private void compact() {
+        doneLines = 0;
+        writeSnapshot(snapshot());
+    }
+
+    /**
+     * Builds the log text of the pending entries (main thread)
+     */
+    private String snapshot() {
+        StringBuilder data = new StringBuilder();
+
+        for (List<MailEntry> entries : pending.values()) {
+            for (MailEntry entry : entries) {
+                data.append("+ ").append(entry.getId()).append(' ').append(entry.getOwner())
+                        .append(' ').append(entry.getType().name()).append(' ').append(entry.getPayload())
+                        .append('\n');
+            }
+        }
+
+        return data.toString();
+    }
+
+    private void writeSnapshot(String data) {
+        try {
+            ConfigWriteService.writeAtomically(file, data);
+        } catch (IOException e) {
+            plugin.logError("Failed to compact " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads settings
+     */
+    public void reload() {
+        loadConfiguration();
+    }
+
+    /**
+     * Writes queued lines, stops the writer thread and compacts the log
+     */
+    public void cleanup() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    plugin.logWarning("Pending mailbox writes did not finish");
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writer = null;
+        }
+
+        // Anything queued after the writer stopped
+        drain();
+
+        if (doneLines > 0) {
+            compact();
+        }
+    }
+
+    private ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Hordes-Mailbox");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return writer;
+    }
+
+    /**
+     * Encodes an item for the log
+     */
+    public static String encodeItem(ItemStack item) {
+        return Base64.getEncoder().encodeToString(item.serializeAsBytes());
+    }
+
+    /**
+     * Decodes an item from the log
+     *
+     * @return ItemStack or null if it can't be read
+     */
+    public static ItemStack decodeItem(String payload) {
+        try {
+            return ItemStack.deserializeBytes(Base64.getDecoder().decode(payload));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Full log contents replacing everything queued before it
+     */
+    private static final class Snapshot {
+
+        private final String data;
+
+        Snapshot(String data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * Reward part types
+     */
+    public enum MailType {
+        MONEY,
+        ITEM,
+        COMMAND
+    }
+
+    /**
+     * A recorded reward part
+     */
+    public static final class MailEntry {
+
+        private final long id;
+        private final UUID owner;
+        private final MailType type;
+        private final String payload;
+
+        // Item to deliver from, when recorded this session
+        private final ItemStack item;
+
+        MailEntry(long id, UUID owner, MailType type, String payload, ItemStack item) {
+            this.id = id;
+            this.owner = owner;
+            this.type = type;
+            this.payload = payload;
+            this.item = item;
+        }
+
+        public long getId() { return id; }
+        public UUID getOwner() { return owner; }
+        public MailType getType() { return type; }
+        public String getPayload() { return payload; }
+
+        /**
+         * Creates the item of an item entry
+         *
+         * @return New ItemStack or null if it can't be read
+         */
+        public ItemStack createItem() {
+            return item != null ? item.clone() : decodeItem(payload);
+        }
+
+        /**
+         * Gets the amount of a money entry
+         */
+        public double getAmount() {
+            try {
+                return Double.parseDouble(payload);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+}
@@ -1,38 +1,77 @@
 package me.bixgamer707.hordes.rewards;
 
 import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.config.ArenaConfig;
 import me.bixgamer707.hordes.text.Text;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.RegisteredServiceProvider;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages reward distribution to players
  * Supports money, items, and command execution
  * 
  * Integrates with Vault for economy
+ * Rewards are compiled into bundles at load (see {@link RewardBundle})
+ * and every grant goes through the {@link RewardMailbox}
  */
 public class RewardManager {
 
+    private static final long DEPOSIT_TIMEOUT_SECONDS = 10L;
+
     private final Hordes plugin;
-    private Economy economy;
-    private boolean economyEnabled;
+    private volatile Economy economy;
+    private volatile boolean economyEnabled;
+
+    // Runs deposits for slow economy providers
+    private ExecutorService economyExecutor;
+    
+    // Money entries being deposited (main thread)
+    private final Set<RewardMailbox.MailEntry> inFlight;
+    
+    // Finished deposits waiting to be completed on the main thread
+    private final Queue<Runnable> completions;
+    
+    // Settings
+    private boolean asyncEconomy;
 
     public RewardManager(Hordes plugin) {
         this.plugin = plugin;
         this.economyEnabled = false;
+        this.inFlight = new HashSet<>();
+        this.completions = new ConcurrentLinkedQueue<>();
         
+        loadConfiguration();
         setupEconomy();
     }
 
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        asyncEconomy = plugin.getFileManager().getConfig().getBoolean("economy.async", false);
+    }
+
     /**
      * Sets up Vault economy integration
      */
@@ -66,25 +105,69 @@ public class RewardManager {
      * 
      * @param player Player to reward
      * @param config Reward configuration
+     * @param replacements Extra command placeholders, alternating key and value
+     */
+    public void giveCompletionReward(Player player, ArenaConfig.RewardConfig config, String... replacements) {
+        giveCompletionRewards(Collections.singletonMap(player, replacements), config);
+    }
+
+    /**
+     * Gives completion rewards to every player of an arena at once
+     * Every part is recorded in the mailbox first. Money for the whole
+     * group is deposited in one batch (offline players included), items
+     * and commands are delivered once the player is out of the arena
+     * 
+     * @param recipients Players to reward and their extra command placeholders
+     * @param config Reward configuration
      */
-    public void giveCompletionReward(Player player, ArenaConfig.RewardConfig config) {
-        if (!config.isEnabled()) {
+    public void giveCompletionRewards(Map<? extends OfflinePlayer, String[]> recipients, ArenaConfig.RewardConfig config) {
+        if (!config.isEnabled() || recipients.isEmpty()) {
             return;
         }
         
-        // Give money
-        if (config.getMoney() > 0) {
-            giveMoney(player, config.getMoney());
-        }
+        RewardMailbox mailbox = plugin.getRewardMailbox();
+        RewardBundle bundle = config.getBundle();
+        List<ItemStack> items = bundle.getItems();
+        List<String> encodedItems = bundle.getEncodedItems();
+        String money = Double.toString(bundle.getMoney());
+        
+        List<RewardMailbox.MailEntry> deposits = new ArrayList<>();
         
-        // Give items
-        giveItems(player, config.getItems());
+        for (Map.Entry<? extends OfflinePlayer, String[]> entry : recipients.entrySet()) {
+            OfflinePlayer recipient = entry.getKey();
+            UUID uuid = recipient.getUniqueId();
+            
+            if (bundle.getMoney() > 0 && economyEnabled) {
+                deposits.add(mailbox.record(uuid, RewardMailbox.MailType.MONEY, money));
+            }
+            
+            for (int i = 0; i < items.size(); i++) {
+                mailbox.recordItem(uuid, items.get(i), encodedItems.get(i));
+            }
+            
+            // Commands are rendered now, while the arena data is at hand
+            String name = recipient.getName() != null ? recipient.getName() : uuid.toString();
+            String[] placeholders = withPlayer(entry.getValue(), name);
+            for (RewardBundle.CommandTemplate command : bundle.getCommands()) {
+                mailbox.record(uuid, RewardMailbox.MailType.COMMAND, command.render(placeholders));
+            }
+            
+            // Send reward message
+            Player player = recipient.getPlayer();
+            if (player != null) {
+                Text.createTextWithLang("rewards.completion", player);
+            }
+        }
         
-        // Execute commands
-        executeCommands(player, config.getCommands());
+        deposit(deposits);
         
-        // Send reward message
-        Text.createTextWithLang("rewards.completion", player);
+        // Players already out of an arena get the rest right away
+        for (OfflinePlayer recipient : recipients.keySet()) {
+            Player player = recipient.getPlayer();
+            if (player != null && canClaim(player)) {
+                claimAll(player);
+            }
+        }
     }
 
     /**
@@ -95,14 +178,34 @@ public class RewardManager {
      * @param multiplier Reward multiplier (e.g., 0.1 for 10% of full reward)
      */
     public void giveProgressiveReward(Player player, ArenaConfig.RewardConfig config, double multiplier) {
-        if (!config.isEnabled() || multiplier <= 0) {
+        giveProgressiveRewards(Collections.singletonList(player), config, multiplier);
+    }
+
+    /**
+     * Gives progressive rewards to every player of an arena at once (per wave)
+     * 
+     * @param players Players to reward
+     * @param config Reward configuration
+     * @param multiplier Reward multiplier (e.g., 0.1 for 10% of full reward)
+     */
+    public void giveProgressiveRewards(Collection<? extends OfflinePlayer> players, ArenaConfig.RewardConfig config, double multiplier) {
+        if (!config.isEnabled() || multiplier <= 0 || players.isEmpty()) {
             return;
         }
         
+        RewardMailbox mailbox = plugin.getRewardMailbox();
+        
         // Give scaled money
-        if (config.getMoney() > 0) {
-            double scaledMoney = config.getMoney() * multiplier;
-            giveMoney(player, scaledMoney);
+        double scaledMoney = config.getBundle().getMoney() * multiplier;
+        if (scaledMoney > 0 && economyEnabled) {
+            String money = Double.toString(scaledMoney);
+            List<RewardMailbox.MailEntry> deposits = new ArrayList<>(players.size());
+            
+            for (OfflinePlayer player : players) {
+                deposits.add(mailbox.record(player.getUniqueId(), RewardMailbox.MailType.MONEY, money));
+            }
+            
+            deposit(deposits);
         }
         
         // Items are not scaled (would be fractional)
@@ -111,149 +214,319 @@ public class RewardManager {
         // Commands are not executed for progressive rewards
         
         // Send reward message
-        Text.createTextWithLang("rewards.progressive", player);
+        for (OfflinePlayer player : players) {
+            if (player.getPlayer() != null) {
+                Text.createTextWithLang("rewards.progressive", player.getPlayer());
+            }
+        }
     }
 
     /**
-     * Gives money to a player
-     * 
-     * @param player Player to give money to
-     * @param amount Amount of money
+     * Checks if a player can receive items and commands now
+     * Rewards given inside an arena would be lost when the inventory is restored
      */
-    private void giveMoney(Player player, double amount) {
-        if (!economyEnabled || economy == null) {
-            return;
+    public boolean canClaim(Player player) {
+        if (!player.isOnline()) {
+            return false;
         }
         
-        try {
-            economy.depositPlayer(player, amount);
-            
-            String formatted = economy.format(amount);
-            player.sendMessage(Text.createTextWithLang("rewards.money")
-                .replace("%0%", formatted)
-                .build(player));
-            
-        } catch (Exception e) {
-            Bukkit.getLogger().warning("[Hordes] Failed to give money to " + player.getName() + ": " + e.getMessage());
+        Arena arena = plugin.getArenaManager().getPlayerArena(player);
+        return arena == null || !arena.hasPlayer(player.getUniqueId());
+    }
+
+    /**
+     * Delivers every pending reward of a player
+     * 
+     * @return false if the player can't claim right now
+     */
+    public boolean claimAll(Player player) {
+        return claim(player, getClaimable(player.getUniqueId()));
+    }
+
+    /**
+     * Gets the pending entries a player can claim right now
+     * Money waits in the mailbox (hidden) while the economy is unavailable
+     */
+    public List<RewardMailbox.MailEntry> getClaimable(UUID uuid) {
+        List<RewardMailbox.MailEntry> entries = plugin.getRewardMailbox().getPending(uuid);
+        
+        if (!economyEnabled) {
+            entries.removeIf(entry -> entry.getType() == RewardMailbox.MailType.MONEY);
         }
+        return entries;
+    }
+
+    /**
+     * Counts the pending entries a player can claim right now
+     */
+    public int getClaimableCount(UUID uuid) {
+        return economyEnabled
+                ? plugin.getRewardMailbox().getPendingCount(uuid)
+                : getClaimable(uuid).size();
     }
 
     /**
-     * Gives items to a player
+     * Delivers pending rewards to a player
+     * Items that don't fit stay in the mailbox
      * 
-     * @param player Player to give items to
-     * @param itemStrings List of item strings (format: "MATERIAL AMOUNT" or "MATERIAL AMOUNT DATA")
+     * @param player Player claiming
+     * @param entries Pending entries of that player
+     * @return false if the player can't claim right now
      */
-    private void giveItems(Player player, List<String> itemStrings) {
-        if (itemStrings == null || itemStrings.isEmpty()) {
-            return;
+    public boolean claim(Player player, Collection<RewardMailbox.MailEntry> entries) {
+        if (!canClaim(player)) {
+            return false;
         }
         
-        List<ItemStack> items = parseItems(itemStrings);
+        RewardMailbox mailbox = plugin.getRewardMailbox();
+        List<RewardMailbox.MailEntry> deposits = new ArrayList<>();
+        int givenItems = 0;
+        boolean inventoryFull = false;
         
-        for (ItemStack item : items) {
-            // Try to add to inventory
-            HashMap<Integer, ItemStack> leftover = player.getInventory().addItem(item);
+        for (RewardMailbox.MailEntry entry : entries) {
+            // Entries may have been claimed since they were listed (open GUI, join delivery)
+            if (!entry.getOwner().equals(player.getUniqueId()) || inFlight.contains(entry)
+                    || !mailbox.isPending(entry)) {
+                continue;
+            }
             
-            // Drop items that don't fit
-            if (!leftover.isEmpty()) {
-                for (ItemStack drop : leftover.values()) {
-                    player.getWorld().dropItem(player.getLocation(), drop);
-                }
+            switch (entry.getType()) {
+                case MONEY:
+                    deposits.add(entry);
+                    break;
+                    
+                case ITEM:
+                    if (inventoryFull) {
+                        break;
+                    }
+                    
+                    int given = giveItem(player, entry);
+                    if (given < 0) {
+                        inventoryFull = true;
+                    } else {
+                        givenItems += given;
+                    }
+                    break;
+                    
+                case COMMAND:
+                    executeCommand(entry.getPayload());
+                    mailbox.complete(entry);
+                    break;
             }
         }
         
-        if (!items.isEmpty()) {
+        deposit(deposits);
+        
+        if (givenItems > 0) {
             player.sendMessage(Text.createTextWithLang("rewards.items").replace(
-                "%0%", String.valueOf(items.size()
+                "%0%", String.valueOf(givenItems
             )).build(player));
         }
+        
+        if (inventoryFull) {
+            Text.sendMessage(player, "mailbox.inventory-full", getClaimableCount(player.getUniqueId()));
+        }
+        
+        return true;
     }
 
     /**
-     * Parses item strings into ItemStacks
-     * 
-     * @param itemStrings List of item strings
-     * @return List of ItemStacks
+     * Delivers a player's pending rewards on the next tick, if they can claim
+     * Used after leaving an arena, once the inventory has been restored
      */
-    private List<ItemStack> parseItems(List<String> itemStrings) {
-        List<ItemStack> items = new ArrayList<>();
+    public void deliverLater(Player player) {
+        if (getClaimableCount(player.getUniqueId()) == 0) {
+            return;
+        }
         
-        for (String itemStr : itemStrings) {
-            try {
-                ItemStack item = parseItem(itemStr);
-                if (item != null) {
-                    items.add(item);
-                }
-            } catch (Exception e) {
-                Bukkit.getLogger().warning("[Hordes] Failed to parse item: " + itemStr + " - " + e.getMessage());
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (canClaim(player)) {
+                claimAll(player);
             }
+        });
+    }
+
+    /**
+     * Tells a player how many rewards are waiting
+     */
+    public void notifyPending(Player player) {
+        int count = getClaimableCount(player.getUniqueId());
+        if (count > 0) {
+            Text.sendMessage(player, "mailbox.pending", count);
         }
-        
-        return items;
     }
 
     /**
-     * Parses a single item string
-     * Format: "MATERIAL AMOUNT" or "MATERIAL:DATA AMOUNT"
+     * Deposits pending money entries in one batch
+     * With async economy enabled the deposits run on the economy thread
+     * and the entries are completed back on the main thread, or in
+     * cleanup() if the plugin disables first. Entries that fail stay in
+     * the mailbox
      * 
-     * @param itemStr Item string
-     * @return ItemStack or null if invalid
+     * @param entries Money entries to pay
      */
-    private ItemStack parseItem(String itemStr) {
-        String[] parts = itemStr.split(" ");
+    private void deposit(List<RewardMailbox.MailEntry> entries) {
+        Economy provider = economy;
+        if (!economyEnabled || provider == null || entries.isEmpty()) {
+            return;
+        }
         
-        if (parts.length < 1) {
-            return null;
+        // Resolve owners on the main thread
+        List<OfflinePlayer> owners = new ArrayList<>(entries.size());
+        for (RewardMailbox.MailEntry entry : entries) {
+            owners.add(Bukkit.getOfflinePlayer(entry.getOwner()));
         }
         
-        // Parse material
-        String materialStr = parts[0];
-        Material material;
+        inFlight.addAll(entries);
+        
+        if (!asyncEconomy) {
+            onDeposited(entries, deposit(provider, entries, owners), provider);
+            return;
+        }
         
         try {
-            material = Material.valueOf(materialStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            Bukkit.getLogger().warning("[Hordes] Invalid material: " + materialStr);
-            return null;
+            getEconomyExecutor().execute(() -> {
+                boolean[] paid = deposit(provider, entries, owners);
+                
+                // Queued first: a task dropped at disable is still completed by cleanup()
+                completions.add(() -> onDeposited(entries, paid, provider));
+                
+                if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, this::runCompletions);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onDeposited(entries, deposit(provider, entries, owners), provider);
         }
+    }
+
+    /**
+     * Runs the deposits of a batch
+     * 
+     * @return Which entries were paid
+     */
+    private boolean[] deposit(Economy provider, List<RewardMailbox.MailEntry> entries, List<OfflinePlayer> owners) {
+        boolean[] paid = new boolean[entries.size()];
         
-        // Parse amount
-        int amount = 1;
-        if (parts.length >= 2) {
+        for (int i = 0; i < paid.length; i++) {
+            OfflinePlayer owner = owners.get(i);
+            
             try {
-                amount = Integer.parseInt(parts[1]);
-            } catch (NumberFormatException e) {
-                Bukkit.getLogger().warning("[Hordes] Invalid amount: " + parts[1]);
+                paid[i] = provider.depositPlayer(owner, entries.get(i).getAmount()).transactionSuccess();
+            } catch (Exception e) {
+                Bukkit.getLogger().warning("[Hordes] Failed to give money to " + owner.getName() + ": " + e.getMessage());
             }
         }
         
-        return new ItemStack(material, amount);
+        return paid;
     }
 
     /**
-     * Executes commands for a player
-     * Supports %player% placeholder
-     * 
-     * @param player Player
-     * @param commands List of commands
+     * Completes finished deposits (main thread)
      */
-    private void executeCommands(Player player, List<String> commands) {
-        if (commands == null || commands.isEmpty()) {
-            return;
+    private void runCompletions() {
+        Runnable completion;
+        while ((completion = completions.poll()) != null) {
+            completion.run();
         }
+    }
+
+    /**
+     * Completes paid entries and tells online owners what they received
+     */
+    private void onDeposited(List<RewardMailbox.MailEntry> entries, boolean[] paid, Economy provider) {
+        RewardMailbox mailbox = plugin.getRewardMailbox();
         
-        for (String command : commands) {
-            String processedCommand = command.replace("%player%", player.getName());
+        for (int i = 0; i < paid.length; i++) {
+            RewardMailbox.MailEntry entry = entries.get(i);
+            inFlight.remove(entry);
             
-            try {
-                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), processedCommand);
-            } catch (Exception e) {
-                Bukkit.getLogger().warning("[Hordes] Failed to execute command: " + processedCommand + " - " + e.getMessage());
+            if (!paid[i]) {
+                continue;
+            }
+            
+            mailbox.complete(entry);
+            
+            Player player = Bukkit.getPlayer(entry.getOwner());
+            if (player != null) {
+                player.sendMessage(Text.createTextWithLang("rewards.money")
+                    .replace("%0%", provider.format(entry.getAmount()))
+                    .build(player));
             }
         }
     }
 
+    /**
+     * Gives the item of an entry to a player
+     * 
+     * @return Amount given, or -1 if the inventory is full (entry stays pending)
+     */
+    private int giveItem(Player player, RewardMailbox.MailEntry entry) {
+        RewardMailbox mailbox = plugin.getRewardMailbox();
+        ItemStack item = entry.createItem();
+        
+        if (item == null) {
+            Bukkit.getLogger().warning("[Hordes] Dropping unreadable reward item of " + player.getName());
+            mailbox.complete(entry);
+            return 0;
+        }
+        
+        int amount = item.getAmount();
+        Map<Integer, ItemStack> leftover = player.getInventory().addItem(item);
+        
+        if (leftover.isEmpty()) {
+            mailbox.complete(entry);
+            return amount;
+        }
+        
+        int left = 0;
+        for (ItemStack rest : leftover.values()) {
+            left += rest.getAmount();
+        }
+        
+        if (left < amount) {
+            // Keep only what didn't fit
+            for (ItemStack rest : leftover.values()) {
+                mailbox.recordItem(player.getUniqueId(), rest);
+            }
+            mailbox.complete(entry);
+        }
+        
+        return -1;
+    }
+
+    /**
+     * Executes a rendered reward command from the console
+     */
+    private void executeCommand(String command) {
+        try {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+        } catch (Exception e) {
+            Bukkit.getLogger().warning("[Hordes] Failed to execute command: " + command + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the %player% placeholder to a set of replacements
+     */
+    private static String[] withPlayer(String[] replacements, String playerName) {
+        String[] placeholders = Arrays.copyOf(replacements, replacements.length + 2);
+        placeholders[replacements.length] = "%player%";
+        placeholders[replacements.length + 1] = playerName;
+        return placeholders;
+    }
+
+    private ExecutorService getEconomyExecutor() {
+        if (economyExecutor == null) {
+            economyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Hordes-Economy");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return economyExecutor;
+    }
+
     /**
      * Checks if economy is enabled
      * 
@@ -267,6 +540,29 @@ public class RewardManager {
      * Reloads economy integration
      */
     public void reload() {
+        loadConfiguration();
         setupEconomy();
     }
+
+    /**
+     * Finishes queued deposits and stops the economy thread
+     * Deposits that went through are completed here, so they are never paid twice
+     */
+    public void cleanup() {
+        if (economyExecutor == null) {
+            return;
+        }
+        
+        economyExecutor.shutdown();
+        try {
+            if (!economyExecutor.awaitTermination(DEPOSIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Bukkit.getLogger().warning("[Hordes] Pending economy deposits did not finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        economyExecutor = null;
+        
+        runCompletions();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,431 @@
+package me.bixgamer707.hordes.scoreboard;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaState;
+import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.player.HordePlayer;
+import me.bixgamer707.hordes.text.Text;
+import me.bixgamer707.hordes.wave.Wave;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Native arena sidebar
+ * Lines are rendered through team prefixes on fixed invisible entries,
+ * so changing a line never removes a score (no flicker)
+ *
+ * Event-driven: arenas and players are marked dirty and flushed once per tick.
+ * Shared lines are rendered once per arena, personal lines once per viewer,
+ * and only lines whose text changed are sent
+ */
+public class SidebarManager {
+
+    // Sidebar can show at most 15 scores
+    private static final int MAX_LINES = 15;
+
+    private final Hordes plugin;
+
+    // Arena ID -> ArenaSidebar
+    private final Map<String, ArenaSidebar> arenaSidebars;
+
+    // Player UUID -> PlayerSidebar
+    private final Map<UUID, PlayerSidebar> viewers;
+
+    // Pending updates (flushed once per tick)
+    private final Set<String> dirtyArenas;
+    private final Set<UUID> dirtyPlayers;
+
+    private BukkitTask updateTask;
+    private int ticks;
+
+    // Compiled layout
+    private boolean enabled;
+    private String title;
+    private String[] templates;
+    private boolean[] personalLines;
+    private boolean usesTimer;
+
+    public SidebarManager(Hordes plugin) {
+        this.plugin = plugin;
+        this.arenaSidebars = new ConcurrentHashMap<>();
+        this.viewers = new ConcurrentHashMap<>();
+        this.dirtyArenas = ConcurrentHashMap.newKeySet();
+        this.dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+        loadConfiguration();
+    }
+
+    /**
+     * Loads title and line templates from config.yml
+     */
+    private void loadConfiguration() {
+        File config = plugin.getFileManager().getConfig();
+
+        enabled = config.getBoolean("scoreboard.enabled", true);
+        title = Text.createText(config.getString("scoreboard.title", "&c&lHORDES")).build();
+
+        List<String> lines = config.getStringList("scoreboard.lines");
+        int count = Math.min(lines.size(), MAX_LINES);
+
+        if (lines.size() > MAX_LINES) {
+            plugin.logWarning("Scoreboard has more than " + MAX_LINES + " lines, extra lines ignored");
+        }
+
+        templates = new String[count];
+        personalLines = new boolean[count];
+        usesTimer = false;
+
+        for (int i = 0; i < count; i++) {
+            String line = Text.createText(lines.get(i)).build();
+            templates[i] = line;
+            personalLines[i] = line.contains("{kills}") || line.contains("{deaths}");
+            usesTimer |= line.contains("{time}");
+        }
+    }
+
+    /**
+     * Starts the update task
+     * Runs every tick but only touches dirty sidebars
+     */
+    public void start() {
+        if (updateTask != null) {
+            return;
+        }
+
+        updateTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                // Timer line changes once per second
+                if (usesTimer && ++ticks >= 20) {
+                    ticks = 0;
+                    for (ArenaSidebar sidebar : arenaSidebars.values()) {
+                        if (sidebar.arena.getState() == ArenaState.ACTIVE) {
+                            dirtyArenas.add(sidebar.arena.getId());
+                        }
+                    }
+                }
+
+                flush();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Marks an arena sidebar for update on the next tick
+     *
+     * @param arena Arena whose state changed
+     */
+    public void markDirty(Arena arena) {
+        if (enabled && arenaSidebars.containsKey(arena.getId())) {
+            dirtyArenas.add(arena.getId());
+        }
+    }
+
+    /**
+     * Marks a viewer's personal lines for update on the next tick
+     *
+     * @param uuid Player UUID
+     */
+    public void markPlayerDirty(UUID uuid) {
+        if (enabled && viewers.containsKey(uuid)) {
+            dirtyPlayers.add(uuid);
+        }
+    }
+
+    /**
+     * Pushes pending changes to clients
+     */
+    private void flush() {
+        if (!dirtyArenas.isEmpty()) {
+            Iterator<String> iterator = dirtyArenas.iterator();
+            while (iterator.hasNext()) {
+                ArenaSidebar sidebar = arenaSidebars.get(iterator.next());
+                iterator.remove();
+
+                if (sidebar != null) {
+                    sidebar.render();
+
+                    for (UUID uuid : sidebar.viewers) {
+                        PlayerSidebar viewer = viewers.get(uuid);
+                        if (viewer != null) {
+                            viewer.apply(sidebar);
+                        }
+                        // Already up to date
+                        dirtyPlayers.remove(uuid);
+                    }
+                }
+            }
+        }
+
+        if (!dirtyPlayers.isEmpty()) {
+            Iterator<UUID> iterator = dirtyPlayers.iterator();
+            while (iterator.hasNext()) {
+                PlayerSidebar viewer = viewers.get(iterator.next());
+                iterator.remove();
+
+                if (viewer != null) {
+                    viewer.apply(viewer.arenaSidebar);
+                }
+            }
+        }
+    }
+
+    /**
+     * Shows the arena sidebar to a player
+     *
+     * @param player Player to show
+     * @param arena Arena the player joined
+     */
+    public void show(Player player, Arena arena) {
+        if (!enabled || templates.length == 0) {
+            return;
+        }
+
+        hide(player);
+
+        ArenaSidebar sidebar = arenaSidebars.computeIfAbsent(arena.getId(), id -> new ArenaSidebar(arena));
+        sidebar.render();
+
+        PlayerSidebar viewer = new PlayerSidebar(player, sidebar);
+        viewers.put(player.getUniqueId(), viewer);
+        sidebar.viewers.add(player.getUniqueId());
+
+        viewer.apply(sidebar);
+        player.setScoreboard(viewer.board);
+
+        // Other viewers see the new player count
+        dirtyArenas.add(arena.getId());
+    }
+
+    /**
+     * Hides the sidebar and restores the previous scoreboard
+     *
+     * @param player Player to hide from
+     */
+    public void hide(Player player) {
+        UUID uuid = player.getUniqueId();
+        PlayerSidebar viewer = viewers.remove(uuid);
+        dirtyPlayers.remove(uuid);
+
+        if (viewer == null) {
+            return;
+        }
+
+        ArenaSidebar sidebar = viewer.arenaSidebar;
+        sidebar.viewers.remove(uuid);
+
+        if (sidebar.viewers.isEmpty()) {
+            arenaSidebars.remove(sidebar.arena.getId(), sidebar);
+            dirtyArenas.remove(sidebar.arena.getId());
+        }
+
+        if (player.isOnline() && player.getScoreboard() == viewer.board) {
+            player.setScoreboard(viewer.previous != null
+                    ? viewer.previous
+                    : Bukkit.getScoreboardManager().getMainScoreboard());
+        }
+    }
+
+    /**
+     * Reloads layout from config
+     * Open sidebars are rebuilt with the new layout
+     */
+    public void reload() {
+        cleanup();
+        loadConfiguration();
+        start();
+
+        if (!enabled) {
+            return;
+        }
+
+        // Re-show to players still in arenas
+        for (Arena arena : plugin.getArenaManager().getArenas().values()) {
+            for (HordePlayer hordePlayer : arena.getPlayers().values()) {
+                Player player = hordePlayer.getPlayer();
+                if (player != null) {
+                    show(player, arena);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all sidebars and stops the update task
+     */
+    public void cleanup() {
+        if (updateTask != null) {
+            updateTask.cancel();
+            updateTask = null;
+        }
+
+        for (PlayerSidebar viewer : viewers.values()) {
+            Player player = Bukkit.getPlayer(viewer.uuid);
+            if (player != null && player.getScoreboard() == viewer.board) {
+                player.setScoreboard(viewer.previous != null
+                        ? viewer.previous
+                        : Bukkit.getScoreboardManager().getMainScoreboard());
+            }
+        }
+
+        viewers.clear();
+        arenaSidebars.clear();
+        dirtyArenas.clear();
+        dirtyPlayers.clear();
+    }
+
+    /**
+     * Checks if the sidebar is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Formats elapsed seconds as mm:ss
+     */
+    private static String formatTime(long seconds) {
+        long minutes = seconds / 60;
+        long secs = seconds % 60;
+        return (minutes < 10 ? "0" : "") + minutes + ":" + (secs < 10 ? "0" : "") + secs;
+    }
+
+    /**
+     * Per-arena render state
+     * Holds shared lines (fully rendered) and personal lines with arena
+     * placeholders already resolved
+     */
+    private class ArenaSidebar {
+
+        private final Arena arena;
+        private final String[] rendered;
+        private final Set<UUID> viewers;
+
+        ArenaSidebar(Arena arena) {
+            this.arena = arena;
+            this.rendered = new String[templates.length];
+            this.viewers = ConcurrentHashMap.newKeySet();
+        }
+
+        /**
+         * Renders arena placeholders into every line
+         * Unchanged lines keep their previous String instance
+         */
+        void render() {
+            Wave wave = arena.getCurrentWave();
+
+            String waveNumber = String.valueOf(arena.getCurrentWaveNumber());
+            String totalWaves = String.valueOf(arena.getConfig().getTotalWaves());
+            String mobsAlive = String.valueOf(wave != null ? wave.getMobsAlive() : 0);
+            String totalMobs = String.valueOf(wave != null ? wave.getTotalMobs() : 0);
+            String playersAlive = String.valueOf(arena.getAlivePlayerCount());
+            String players = String.valueOf(arena.getPlayerCount());
+            String state = arena.getState().getDisplayName();
+            String time = arena.getState() == ArenaState.ACTIVE
+                    ? formatTime((System.currentTimeMillis() - arena.getStartTime()) / 1000)
+                    : formatTime(0);
+
+            for (int i = 0; i < templates.length; i++) {
+                String line = templates[i];
+
+                if (line.indexOf('{') >= 0) {
+                    line = line
+                            .replace("{arena}", arena.getConfig().getDisplayName())
+                            .replace("{wave}", waveNumber)
+                            .replace("{total_waves}", totalWaves)
+                            .replace("{mobs_alive}", mobsAlive)
+                            .replace("{total_mobs}", totalMobs)
+                            .replace("{players_alive}", playersAlive)
+                            .replace("{players}", players)
+                            .replace("{state}", state)
+                            .replace("{time}", time);
+                }
+
+                // Keep the old instance so viewers can skip by reference
+                if (!line.equals(rendered[i])) {
+                    rendered[i] = line;
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-viewer scoreboard with one team per line
+     */
+    private class PlayerSidebar {
+
+        private final UUID uuid;
+        private final ArenaSidebar arenaSidebar;
+        private final Scoreboard board;
+        private final Scoreboard previous;
+        private final Team[] teams;
+        private final String[] sent;
+
+        PlayerSidebar(Player player, ArenaSidebar arenaSidebar) {
+            this.uuid = player.getUniqueId();
+            this.arenaSidebar = arenaSidebar;
+            this.previous = player.getScoreboard();
+            this.board = Bukkit.getScoreboardManager().getNewScoreboard();
+
+            Objective objective = board.registerNewObjective("hordes", Criteria.DUMMY, title);
+            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+            int count = templates.length;
+            this.teams = new Team[count];
+            this.sent = new String[count];
+
+            ChatColor[] colors = ChatColor.values();
+
+            for (int i = 0; i < count; i++) {
+                // Unique invisible entry per line
+                String entry = colors[i].toString() + ChatColor.RESET;
+
+                Team team = board.registerNewTeam("hordes_line_" + i);
+                team.addEntry(entry);
+                teams[i] = team;
+
+                objective.getScore(entry).setScore(count - i);
+            }
+        }
+
+        /**
+         * Sends only lines whose text changed
+         */
+        void apply(ArenaSidebar sidebar) {
+            HordePlayer hordePlayer = sidebar.arena.getHordePlayer(uuid);
+            String[] rendered = sidebar.rendered;
+
+            for (int i = 0; i < rendered.length; i++) {
+                String line = rendered[i];
+
+                if (personalLines[i]) {
+                    line = line
+                            .replace("{kills}", String.valueOf(hordePlayer != null ? hordePlayer.getKills() : 0))
+                            .replace("{deaths}", String.valueOf(hordePlayer != null ? hordePlayer.getDeaths() : 0));
+                }
+
+                String last = sent[i];
+                if (line != last && !line.equals(last)) {
+                    teams[i].setPrefix(line);
+                    sent[i] = line;
+                }
+            }
+        }
+    }
+}
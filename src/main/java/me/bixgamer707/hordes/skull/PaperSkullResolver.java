@@ -0,0 +1,32 @@
+package me.bixgamer707.hordes.skull;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import org.bukkit.Bukkit;
+
+import java.util.UUID;
+
+/**
+ * Default resolver backed by Paper profiles
+ * Tries the server's local user cache first, then the session service
+ */
+public class PaperSkullResolver implements SkullResolver {
+
+    @Override
+    public SkullTexture resolve(UUID uuid, String name) {
+        PlayerProfile profile = Bukkit.createProfile(uuid, name);
+
+        if (!profile.completeFromCache() || !profile.hasTextures()) {
+            profile.complete(true);
+        }
+
+        for (ProfileProperty property : profile.getProperties()) {
+            if (property.getName().equals("textures")) {
+                return new SkullTexture(profile.getId(), profile.getName(),
+                        property.getValue(), property.getSignature(), System.currentTimeMillis());
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,386 @@
+package me.bixgamer707.hordes.skull;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import me.bixgamer707.hordes.Hordes;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Skull texture cache keyed by player UUID
+ * Textures are resolved on a background thread and persisted with a TTL,
+ * the main thread only ever reads from memory
+ *
+ * GUIs place a plain head first and patch it once the texture arrives
+ */
+public class SkullCache {
+
+    // Kept out of the data folder root, which FileManager loads and saves
+    private static final String CACHE_FILE = "cache/skulls.yml";
+
+    // 5 minutes
+    private static final long SAVE_INTERVAL_TICKS = 6000L;
+
+    private final Hordes plugin;
+    private final java.io.File file;
+
+    // Player UUID -> texture
+    private final Map<UUID, SkullTexture> textures;
+
+    // Lowercase name -> UUID
+    private final Map<String, UUID> names;
+
+    // Request key -> callbacks waiting for it (main thread only)
+    private final Map<String, List<Consumer<SkullTexture>>> pending;
+
+    private volatile SkullResolver resolver;
+    private ExecutorService executor;
+    private BukkitTask saveTask;
+    private volatile boolean dirty;
+    private long ttlMillis;
+
+    public SkullCache(Hordes plugin) {
+        this.plugin = plugin;
+        this.file = new java.io.File(plugin.getDataFolder(), CACHE_FILE);
+        this.textures = new ConcurrentHashMap<>();
+        this.names = new ConcurrentHashMap<>();
+        this.pending = new HashMap<>();
+        this.resolver = new PaperSkullResolver();
+
+        loadConfiguration();
+        load();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        long hours = plugin.getFileManager().getConfig().getLong("skulls.cache-ttl-hours", 72L);
+        ttlMillis = TimeUnit.HOURS.toMillis(Math.max(1L, hours));
+    }
+
+    /**
+     * Loads persisted textures, dropping expired entries
+     */
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        YamlConfiguration data = YamlConfiguration.loadConfiguration(file);
+        ConfigurationSection section = data.getConfigurationSection("textures");
+        if (section == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        for (String key : section.getKeys(false)) {
+            try {
+                UUID uuid = UUID.fromString(key);
+                SkullTexture texture = new SkullTexture(uuid,
+                        section.getString(key + ".name"),
+                        section.getString(key + ".value"),
+                        section.getString(key + ".signature"),
+                        section.getLong(key + ".fetched"));
+
+                if (texture.getValue() != null && !texture.isExpired(now, ttlMillis)) {
+                    store(texture);
+                }
+            } catch (IllegalArgumentException e) {
+                plugin.logWarning("Invalid UUID in " + CACHE_FILE + ": " + key);
+            }
+        }
+
+        dirty = false;
+        plugin.logInfo("Loaded " + textures.size() + " cached skull textures");
+    }
+
+    /**
+     * Starts the resolver thread and the periodic save
+     */
+    public void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Hordes-Skulls");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        saveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            if (dirty) {
+                save();
+            }
+        }, SAVE_INTERVAL_TICKS, SAVE_INTERVAL_TICKS);
+    }
+
+    /**
+     * Applies a cached texture to a skull
+     * Never resolves profiles; on a miss the skull is left as is
+     *
+     * @param meta Skull meta to modify
+     * @param uuid Player UUID, may be null
+     * @param name Player name, may be null
+     * @return True if a texture was applied
+     */
+    public boolean apply(SkullMeta meta, UUID uuid, String name) {
+        SkullTexture texture = getTexture(uuid, name);
+        if (texture == null) {
+            return false;
+        }
+
+        applyTexture(meta, texture);
+        return true;
+    }
+
+    /**
+     * Applies a cached texture or requests it
+     * Stale textures are applied and refreshed in the background
+     * Must be called from the main thread
+     *
+     * @param meta Skull meta to modify
+     * @param uuid Player UUID, may be null
+     * @param name Player name, may be null
+     * @param onResolved Called on the main thread if the texture had to be fetched
+     * @return True if a texture was applied right away
+     */
+    public boolean applyOrRequest(SkullMeta meta, UUID uuid, String name, Consumer<SkullTexture> onResolved) {
+        SkullTexture texture = getTexture(uuid, name);
+
+        if (texture == null) {
+            request(uuid, name, onResolved);
+            return false;
+        }
+
+        applyTexture(meta, texture);
+
+        if (texture.isExpired(System.currentTimeMillis(), ttlMillis)) {
+            request(texture.getUuid(), texture.getName(), null);
+        }
+
+        return true;
+    }
+
+    /**
+     * Queues a background lookup
+     * Concurrent requests for the same player share a single lookup
+     * Must be called from the main thread
+     *
+     * @param uuid Player UUID, may be null
+     * @param name Player name, may be null
+     * @param callback Called on the main thread with the texture, may be null
+     */
+    public void request(UUID uuid, String name, Consumer<SkullTexture> callback) {
+        if ((uuid == null && name == null) || executor == null) {
+            return;
+        }
+
+        String key = uuid != null ? uuid.toString() : name.toLowerCase(Locale.ROOT);
+        List<Consumer<SkullTexture>> waiting = pending.get(key);
+
+        if (waiting != null) {
+            if (callback != null) {
+                waiting.add(callback);
+            }
+            return;
+        }
+
+        waiting = new ArrayList<>(1);
+        if (callback != null) {
+            waiting.add(callback);
+        }
+        pending.put(key, waiting);
+
+        SkullResolver current = resolver;
+
+        try {
+            executor.execute(() -> {
+                SkullTexture texture = null;
+
+                try {
+                    texture = current.resolve(uuid, name);
+                } catch (Exception e) {
+                    if (plugin.getFileManager().getConfig().getBoolean("debug-mode", false)) {
+                        plugin.logWarning("Failed to resolve skull for " + key + ": " + e.getMessage());
+                    }
+                }
+
+                SkullTexture resolved = texture;
+                if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, () -> complete(key, resolved));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+        }
+    }
+
+    /**
+     * Stores a resolved texture and notifies waiting GUIs
+     */
+    private void complete(String key, SkullTexture texture) {
+        List<Consumer<SkullTexture>> waiting = pending.remove(key);
+
+        if (texture == null) {
+            return;
+        }
+
+        store(texture);
+
+        if (waiting != null) {
+            for (Consumer<SkullTexture> callback : waiting) {
+                callback.accept(texture);
+            }
+        }
+    }
+
+    /**
+     * Gets a texture from memory
+     * Online players are read from their own profile
+     */
+    private SkullTexture getTexture(UUID uuid, String name) {
+        if (uuid == null && name != null) {
+            uuid = names.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        if (uuid != null) {
+            SkullTexture texture = textures.get(uuid);
+            if (texture != null) {
+                return texture;
+            }
+        }
+
+        Player online = uuid != null ? Bukkit.getPlayer(uuid) : name != null ? Bukkit.getPlayerExact(name) : null;
+        if (online == null) {
+            return null;
+        }
+
+        for (ProfileProperty property : online.getPlayerProfile().getProperties()) {
+            if (property.getName().equals("textures")) {
+                SkullTexture texture = new SkullTexture(online.getUniqueId(), online.getName(),
+                        property.getValue(), property.getSignature(), System.currentTimeMillis());
+                store(texture);
+                return texture;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Indexes a texture
+     */
+    private void store(SkullTexture texture) {
+        if (texture.getUuid() == null) {
+            return;
+        }
+
+        textures.put(texture.getUuid(), texture);
+        if (texture.getName() != null) {
+            names.put(texture.getName().toLowerCase(Locale.ROOT), texture.getUuid());
+        }
+        dirty = true;
+    }
+
+    /**
+     * Sets a texture on a skull without any lookup
+     */
+    public static void applyTexture(SkullMeta meta, SkullTexture texture) {
+        PlayerProfile profile = Bukkit.createProfile(texture.getUuid(), texture.getName());
+        profile.setProperty(new ProfileProperty("textures", texture.getValue(), texture.getSignature()));
+        meta.setPlayerProfile(profile);
+    }
+
+    /**
+     * Writes the cache to disk
+     * Safe to call from any thread
+     */
+    public void save() {
+        dirty = false;
+
+        YamlConfiguration data = new YamlConfiguration();
+        for (SkullTexture texture : textures.values()) {
+            String path = "textures." + texture.getUuid();
+            data.set(path + ".name", texture.getName());
+            data.set(path + ".value", texture.getValue());
+            data.set(path + ".signature", texture.getSignature());
+            data.set(path + ".fetched", texture.getFetchedAt());
+        }
+
+        try {
+            data.save(file);
+        } catch (IOException e) {
+            dirty = true;
+            plugin.logError("Failed to save " + CACHE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the texture resolver
+     *
+     * @param resolver Resolver called off the main thread
+     */
+    public void setResolver(SkullResolver resolver) {
+        this.resolver = resolver != null ? resolver : new PaperSkullResolver();
+    }
+
+    public SkullResolver getResolver() {
+        return resolver;
+    }
+
+    /**
+     * Gets number of cached textures
+     */
+    public int getCachedCount() {
+        return textures.size();
+    }
+
+    /**
+     * Reloads settings
+     */
+    public void reload() {
+        loadConfiguration();
+    }
+
+    /**
+     * Stops background work and saves pending changes
+     */
+    public void cleanup() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+
+        pending.clear();
+
+        if (dirty) {
+            save();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package me.bixgamer707.hordes.skull;
+
+import java.util.UUID;
+
+/**
+ * Resolves skull textures
+ * Always called off the main thread, implementations may block
+ */
+public interface SkullResolver {
+
+    /**
+     * Resolves the texture of a player
+     *
+     * @param uuid Player UUID, null if only the name is known
+     * @param name Player name, may be null if the UUID is known
+     * @return Texture or null if the player has none
+     * @throws Exception If the lookup failed
+     */
+    SkullTexture resolve(UUID uuid, String name) throws Exception;
+}
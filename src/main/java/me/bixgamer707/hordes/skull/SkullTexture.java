@@ -0,0 +1,54 @@
+package me.bixgamer707.hordes.skull;
+
+import java.util.UUID;
+
+/**
+ * Resolved skin texture of a player head
+ * Immutable, safe to share across threads
+ */
+public final class SkullTexture {
+
+    private final UUID uuid;
+    private final String name;
+    private final String value;
+    private final String signature;
+    private final long fetchedAt;
+
+    public SkullTexture(UUID uuid, String name, String value, String signature, long fetchedAt) {
+        this.uuid = uuid;
+        this.name = name;
+        this.value = value;
+        this.signature = signature;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Checks if this texture should be refreshed
+     *
+     * @param now Current time in millis
+     * @param ttlMillis Time to live in millis
+     */
+    public boolean isExpired(long now, long ttlMillis) {
+        return now - fetchedAt > ttlMillis;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+}
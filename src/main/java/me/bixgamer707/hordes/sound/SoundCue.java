@@ -0,0 +1,149 @@
+package me.bixgamer707.hordes.sound;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, preresolved sound cue
+ * A cue is one or more steps, each played after a tick delay
+ *
+ * Built once on load/reload so playback never parses configuration
+ */
+public final class SoundCue {
+
+    private final Step[] steps;
+
+    // True if any step needs scheduling
+    private final boolean delayed;
+
+    public SoundCue(List<Step> steps) {
+        this.steps = steps.toArray(new Step[0]);
+
+        boolean hasDelay = false;
+        for (Step step : this.steps) {
+            if (step.delay > 0) {
+                hasDelay = true;
+                break;
+            }
+        }
+        this.delayed = hasDelay;
+    }
+
+    /**
+     * Plays the cue to a single player
+     *
+     * @param plugin Plugin used to schedule delayed steps
+     * @param player Target player
+     */
+    public void play(Plugin plugin, Player player) {
+        for (Step step : steps) {
+            if (step.delay <= 0) {
+                step.play(player);
+            } else {
+                Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    if (player.isOnline()) {
+                        step.play(player);
+                    }
+                }, step.delay);
+            }
+        }
+    }
+
+    /**
+     * Plays the cue to an audience
+     * Single-step cues iterate the array directly without allocating
+     *
+     * The audience is resolved again for every delayed step, so players
+     * who left meanwhile don't hear the rest of the sequence
+     *
+     * @param plugin Plugin used to schedule delayed steps
+     * @param audience Supplies the current immutable audience snapshot
+     */
+    public void play(Plugin plugin, Supplier<Player[]> audience) {
+        Player[] current = audience.get();
+        if (current.length == 0) {
+            return;
+        }
+
+        for (Step step : steps) {
+            if (step.delay <= 0) {
+                step.play(current);
+            } else {
+                Bukkit.getScheduler().runTaskLater(plugin, () -> step.play(audience.get()), step.delay);
+            }
+        }
+    }
+
+    /**
+     * Checks if this cue has delayed steps
+     */
+    public boolean isSequence() {
+        return delayed;
+    }
+
+    /**
+     * Gets the number of steps
+     */
+    public int getStepCount() {
+        return steps.length;
+    }
+
+    /**
+     * Single sound played at a tick offset
+     */
+    public static final class Step {
+
+        private final Sound sound;
+        private final SoundCategory category;
+        private final float volume;
+        private final float pitch;
+        private final long delay;
+
+        public Step(Sound sound, SoundCategory category, float volume, float pitch, long delay) {
+            this.sound = sound;
+            this.category = category;
+            this.volume = volume;
+            this.pitch = pitch;
+            this.delay = delay;
+        }
+
+        void play(Player player) {
+            // Entity-bound overload avoids cloning the player location
+            player.playSound(player, sound, category, volume, pitch);
+        }
+
+        void play(Player[] audience) {
+            for (Player player : audience) {
+                if (player.isOnline()) {
+                    player.playSound(player, sound, category, volume, pitch);
+                }
+            }
+        }
+
+        public Sound getSound() {
+            return sound;
+        }
+
+        public SoundCategory getCategory() {
+            return category;
+        }
+
+        public float getVolume() {
+            return volume;
+        }
+
+        public float getPitch() {
+            return pitch;
+        }
+
+        public long getDelay() {
+            return delay;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package me.bixgamer707.hordes.sound;
+
+import org.bukkit.Sound;
+
+/**
+ * Arena events that can trigger a sound cue
+ * Each event maps to a key in the sounds section of config.yml
+ */
+public enum SoundEvent {
+
+    WAVE_START("wave-start", Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f),
+    WAVE_COMPLETE("wave-complete", Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f),
+    ARENA_VICTORY("arena-victory", Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f),
+    ARENA_DEFEAT("arena-defeat", Sound.ENTITY_WITHER_DEATH, 0.8f, 0.8f),
+    PLAYER_DEATH("player-death", Sound.ENTITY_PLAYER_DEATH, 1.0f, 1.0f),
+    COUNTDOWN("countdown", Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f),
+    COUNTDOWN_FINAL("countdown-final", Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.5f),
+    COUNTDOWN_LAST("countdown-last", Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f),
+    JOIN("join", Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f),
+    LEAVE("leave", Sound.BLOCK_PORTAL_TRAVEL, 0.5f, 1.5f);
+
+    private final String configKey;
+    private final Sound defaultSound;
+    private final float defaultVolume;
+    private final float defaultPitch;
+
+    SoundEvent(String configKey, Sound defaultSound, float defaultVolume, float defaultPitch) {
+        this.configKey = configKey;
+        this.defaultSound = defaultSound;
+        this.defaultVolume = defaultVolume;
+        this.defaultPitch = defaultPitch;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public Sound getDefaultSound() {
+        return defaultSound;
+    }
+
+    public float getDefaultVolume() {
+        return defaultVolume;
+    }
+
+    public float getDefaultPitch() {
+        return defaultPitch;
+    }
+}
@@ -1,283 +1,252 @@
 package me.bixgamer707.hordes.sound;
 
 import me.bixgamer707.hordes.Hordes;
-import org.bukkit.Bukkit;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.file.File;
 import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Manages sound effects for arena events
- * Plays sounds based on configuration
+ * Every event is resolved once into an immutable cue on load/reload,
+ * so playback never touches the configuration
  */
 public class SoundManager {
 
     private final Hordes plugin;
-    private boolean enabled;
+    private volatile boolean enabled;
+
+    // Event -> resolved cue (replaced atomically on reload)
+    private volatile Map<SoundEvent, SoundCue> cues;
 
     public SoundManager(Hordes plugin) {
         this.plugin = plugin;
-        checkEnabled();
-    }
-
-    /**
-     * Checks if sounds are enabled
-     */
-    private void checkEnabled() {
-        enabled = plugin.getFileManager().getConfig()
-            .getBoolean("sounds.enabled", true);
+        this.cues = Collections.emptyMap();
+        loadCues();
     }
 
     /**
-     * Plays wave start sound
+     * Builds the cue registry from config.yml
      */
-    public void playWaveStart(Collection<Player> players) {
-        if (!enabled) return;
+    private void loadCues() {
+        File config = plugin.getFileManager().getConfig();
+        enabled = config.getBoolean("sounds.enabled", true);
 
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.wave-start", "ENTITY_ENDER_DRAGON_GROWL");
+        Map<SoundEvent, SoundCue> loaded = new EnumMap<>(SoundEvent.class);
 
-        playSound(players, soundName, 1.0f, 1.0f);
-    }
+        for (SoundEvent event : SoundEvent.values()) {
+            SoundCue cue = parseCue(config, "sounds." + event.getConfigKey(), event);
 
-    public void playWaveStartId(Collection<UUID> playersId) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.wave-start", "ENTITY_ENDER_DRAGON_GROWL");
-
-        Set<Player> players = new HashSet<>();
-
-        playersId.forEach(uuid -> {
-            Player player = Bukkit.getPlayer(uuid);
-
-            if(player!=null) players.add(player);
-        });
+            if (cue != null) {
+                loaded.put(event, cue);
+            }
+        }
 
-        playSound(players, soundName, 1.0f, 1.0f);
+        cues = loaded;
     }
 
-
-
     /**
-     * Plays wave complete sound
+     * Parses a cue from config
+     * Accepts a plain sound name, a section with sound/volume/pitch/category
+     * or a section with a sequence list of steps
+     *
+     * @return Cue or null if disabled
      */
-    public void playWaveComplete(Collection<Player> players) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.wave-complete", "ENTITY_PLAYER_LEVELUP");
-
-        playSound(players, soundName, 1.0f, 1.0f);
-    }
-
-    public void playWaveCompleteId(Collection<UUID> playersId) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.wave-complete", "ENTITY_PLAYER_LEVELUP");
-
-        Set<Player> players = new HashSet<>();
+    private SoundCue parseCue(File config, String path, SoundEvent event) {
+        List<SoundCue.Step> steps = new ArrayList<>();
+
+        if (config.isConfigurationSection(path)) {
+            ConfigurationSection section = config.getConfigurationSection(path);
+
+            if (section.isList("sequence")) {
+                for (Map<?, ?> map : section.getMapList("sequence")) {
+                    SoundCue.Step step = parseStep(path,
+                            map.get("sound"), map.get("category"),
+                            map.get("volume"), map.get("pitch"), map.get("delay"), event);
+                    if (step != null) {
+                        steps.add(step);
+                    }
+                }
+            } else {
+                SoundCue.Step step = parseStep(path,
+                        section.get("sound"), section.get("category"),
+                        section.get("volume"), section.get("pitch"), section.get("delay"), event);
+                if (step != null) {
+                    steps.add(step);
+                }
+            }
+        } else if (config.isString(path)) {
+            String soundName = config.getString(path);
 
-        playersId.forEach(uuid -> {
-            Player player = Bukkit.getPlayer(uuid);
+            if (soundName.isEmpty() || soundName.equalsIgnoreCase("none")) {
+                return null;
+            }
 
-            if(player!=null) players.add(player);
-        });
+            SoundCue.Step step = parseStep(path, soundName, null, null, null, null, event);
+            if (step != null) {
+                steps.add(step);
+            }
+        } else {
+            // Not configured - use built-in default
+            steps.add(new SoundCue.Step(event.getDefaultSound(), SoundCategory.MASTER,
+                    event.getDefaultVolume(), event.getDefaultPitch(), 0L));
+        }
 
-        playSound(players, soundName, 1.0f, 1.0f);
+        return steps.isEmpty() ? null : new SoundCue(steps);
     }
 
     /**
-     * Plays arena victory sound
+     * Parses a single cue step
+     *
+     * @return Step or null if the sound is invalid
      */
-    public void playVictory(Collection<Player> players) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.arena-victory", "UI_TOAST_CHALLENGE_COMPLETE");
-
-        playSound(players, soundName, 1.0f, 1.0f);
-    }
-
-    public void playVictoryId(Collection<UUID> playersId) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.arena-victory", "UI_TOAST_CHALLENGE_COMPLETE");
+    private SoundCue.Step parseStep(String path, Object soundValue, Object categoryValue,
+                                    Object volumeValue, Object pitchValue, Object delayValue,
+                                    SoundEvent event) {
+        Sound sound = event.getDefaultSound();
+
+        if (soundValue != null) {
+            sound = parseSound(String.valueOf(soundValue));
+            if (sound == null) {
+                plugin.logWarning("Invalid sound at " + path + ": " + soundValue);
+                return null;
+            }
+        }
 
-        Set<Player> players = new HashSet<>();
+        SoundCategory category = SoundCategory.MASTER;
 
-        playersId.forEach(uuid -> {
-            Player player = Bukkit.getPlayer(uuid);
+        if (categoryValue != null) {
+            try {
+                category = SoundCategory.valueOf(String.valueOf(categoryValue).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                plugin.logWarning("Invalid sound category at " + path + ": " + categoryValue);
+            }
+        }
 
-            if(player!=null) players.add(player);
-        });
+        float volume = toFloat(volumeValue, event.getDefaultVolume());
+        float pitch = toFloat(pitchValue, event.getDefaultPitch());
+        long delay = Math.max(0L, (long) toFloat(delayValue, 0f));
 
-        playSound(players, soundName, 1.0f, 1.0f);
+        return new SoundCue.Step(sound, category, volume, pitch, delay);
     }
 
     /**
-     * Plays arena defeat sound
+     * Parses sound from string
      */
-    public void playDefeat(Collection<Player> players) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.arena-defeat", "ENTITY_WITHER_DEATH");
-
-        playSound(players, soundName, 0.8f, 0.8f);
-    }
-
-    public void playDefeatId(Collection<UUID> playersId) {
-        if (!enabled) return;
-
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.arena-defeat", "ENTITY_WITHER_DEATH");
-
-        Set<Player> players = new HashSet<>();
-
-        playersId.forEach(uuid -> {
-            Player player = Bukkit.getPlayer(uuid);
-
-            if(player!=null) players.add(player);
-        });
-
-        playSound(players, soundName, 1.0f, 1.0f);
+    private Sound parseSound(String soundName) {
+        try {
+            return Sound.valueOf(soundName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
-
-
     /**
-     * Plays player death sound
+     * Converts a config value to float
      */
-    public void playPlayerDeath(Player player) {
-        if (!enabled) return;
+    private float toFloat(Object value, float def) {
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
 
-        String soundName = plugin.getFileManager().getConfig()
-                .getString("sounds.player-death", "ENTITY_PLAYER_DEATH");
+        if (value != null) {
+            try {
+                return Float.parseFloat(String.valueOf(value));
+            } catch (NumberFormatException ignored) {
+                // Fall through to default
+            }
+        }
 
-        playSound(player, soundName, 1.0f, 1.0f);
+        return def;
     }
 
-
     /**
-     * Plays countdown sound
+     * Plays a cue to a single player
+     *
+     * @param event Sound event
+     * @param player Target player
      */
-    public void playCountdown(Collection<Player> players, int seconds) {
+    public void play(SoundEvent event, Player player) {
         if (!enabled) return;
 
-        Sound sound;
-        float pitch;
-
-        if (seconds <= 3) {
-            sound = Sound.BLOCK_NOTE_BLOCK_PLING;
-            pitch = seconds == 1 ? 2.0f : 1.5f;
-        } else {
-            sound = Sound.BLOCK_NOTE_BLOCK_BASS;
-            pitch = 1.0f;
-        }
-
-        for (Player player : players) {
-            player.playSound(player.getLocation(), sound, 1.0f, pitch);
+        SoundCue cue = cues.get(event);
+        if (cue != null) {
+            cue.play(plugin, player);
         }
     }
 
-    public void playCountdownId(Collection<UUID> playersId, int seconds) {
+    /**
+     * Plays a cue to the arena's cached audience
+     *
+     * @param event Sound event
+     * @param arena Arena whose players hear the cue
+     */
+    public void play(SoundEvent event, Arena arena) {
         if (!enabled) return;
 
-        Sound sound;
-        float pitch;
-
-        if (seconds <= 3) {
-            sound = Sound.BLOCK_NOTE_BLOCK_PLING;
-            pitch = seconds == 1 ? 2.0f : 1.5f;
-        } else {
-            sound = Sound.BLOCK_NOTE_BLOCK_BASS;
-            pitch = 1.0f;
-        }
-
-        for (UUID player : playersId) {
-
-            Player p =  Bukkit.getPlayer(player);
-
-            if (p == null) continue;
-
-            p.playSound(p.getLocation(), sound, 1.0f, pitch);
+        SoundCue cue = cues.get(event);
+        if (cue != null) {
+            cue.play(plugin, arena::getAudience);
         }
     }
 
     /**
-     * Plays join sound
+     * Plays countdown sound
+     * Last three seconds use the final cues
      */
-    public void playJoin(Player player) {
-        if (!enabled) return;
-        
-        playSound(player, "ENTITY_EXPERIENCE_ORB_PICKUP", 1.0f, 1.0f);
+    public void playCountdown(Arena arena, int seconds) {
+        if (seconds == 1) {
+            play(SoundEvent.COUNTDOWN_LAST, arena);
+        } else if (seconds <= 3) {
+            play(SoundEvent.COUNTDOWN_FINAL, arena);
+        } else {
+            play(SoundEvent.COUNTDOWN, arena);
+        }
     }
 
     /**
-     * Plays leave sound
+     * Plays player death sound
      */
-    public void playLeave(Player player) {
-        if (!enabled) return;
-        
-        playSound(player, "BLOCK_PORTAL_TRAVEL", 0.5f, 1.5f);
+    public void playPlayerDeath(Player player) {
+        play(SoundEvent.PLAYER_DEATH, player);
     }
 
     /**
-     * Plays sound to multiple players
+     * Plays join sound
      */
-    private void playSound(Collection<Player> players, String soundName, float volume, float pitch) {
-        Sound sound = parseSound(soundName);
-        
-        if (sound != null) {
-            for (Player player : players) {
-                try {
-                    player.playSound(player.getLocation(), sound, volume, pitch);
-                } catch (Exception e) {
-                    // Ignore sound errors
-                }
-            }
-        }
+    public void playJoin(Player player) {
+        play(SoundEvent.JOIN, player);
     }
 
     /**
-     * Plays sound to single player
+     * Plays leave sound
      */
-    private void playSound(Player player, String soundName, float volume, float pitch) {
-        Sound sound = parseSound(soundName);
-        
-        if (sound != null) {
-            try {
-                player.playSound(player.getLocation(), sound, volume, pitch);
-            } catch (Exception e) {
-                // Ignore sound errors
-            }
-        }
+    public void playLeave(Player player) {
+        play(SoundEvent.LEAVE, player);
     }
 
     /**
-     * Parses sound from string
+     * Gets the resolved cue for an event
+     *
+     * @return Cue or null if disabled
      */
-    private Sound parseSound(String soundName) {
-        try {
-            return Sound.valueOf(soundName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            plugin.logWarning("Invalid sound: " + soundName);
-            return null;
-        }
+    public SoundCue getCue(SoundEvent event) {
+        return cues.get(event);
     }
 
     /**
      * Reloads sound configuration
      */
     public void reload() {
-        checkEnabled();
+        loadCues();
     }
 
     /**
@@ -286,4 +255,4 @@ public class SoundManager {
     public boolean isEnabled() {
         return enabled;
     }
-}
\ No newline at end of file
+}
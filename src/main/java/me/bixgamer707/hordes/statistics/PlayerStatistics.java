@@ -1,5 +1,8 @@
 package me.bixgamer707.hordes.statistics;
 
+import me.bixgamer707.hordes.loot.LootRarity;
+
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -24,9 +27,18 @@ public class PlayerStatistics {
     private int highestWave;
     private long fastestCompletion; // in seconds (0 = no completion)
     private int longestKillstreak;
+    private int totalAssists;
+    private double totalDamage;
+
+    // Loot table rolls and drops per rarity (LootRarity ordinal)
+    private int lootRolls;
+    private final int[] lootDrops;
     
     // Per-arena statistics: ArenaID -> Statistics
     private final Map<String, ArenaStats> arenaStats;
+
+    // Time window statistics: Window -> Statistics of its current period
+    private final Map<StatWindow, WindowStats> windowStats;
     
     // Session data (temporary)
     private transient long sessionStart;
@@ -36,6 +48,8 @@ public class PlayerStatistics {
         this.playerUuid = playerUuid;
         this.playerName = playerName;
         this.arenaStats = new HashMap<>();
+        this.windowStats = new EnumMap<>(StatWindow.class);
+        this.lootDrops = new int[LootRarity.values().length];
         this.fastestCompletion = 0;
         this.sessionStart = 0;
     }
@@ -46,7 +60,38 @@ public class PlayerStatistics {
     public void addKill(String arenaId) {
         totalKills++;
         sessionKills++;
-        getArenaStatistics(arenaId).setKills(getArenaStatistics(arenaId).getKills()+1);
+        ArenaStats stats = getArenaStats(arenaId);
+        stats.setKills(stats.getKills() + 1);
+
+        for (StatWindow window : StatWindow.values()) {
+            getCurrentWindow(window).kills++;
+        }
+    }
+
+    /**
+     * Records an assist (share of a kill above the assist threshold)
+     */
+    public void addAssist() {
+        totalAssists++;
+    }
+
+    /**
+     * Records damage dealt to arena mobs
+     */
+    public void addDamage(double damage) {
+        totalDamage += damage;
+    }
+
+    /**
+     * Records a loot table roll
+     *
+     * @param rarity Rarity of the drop, or null if the roll dropped nothing
+     */
+    public void addLootRoll(LootRarity rarity) {
+        lootRolls++;
+        if (rarity != null) {
+            lootDrops[rarity.ordinal()]++;
+        }
     }
 
     /**
@@ -55,7 +100,8 @@ public class PlayerStatistics {
     public void addDeath(String arenaId) {
         totalDeaths++;
 
-        getArenaStatistics(arenaId).setDeaths(getArenaStatistics(arenaId).getDeaths()+1);
+        ArenaStats stats = getArenaStats(arenaId);
+        stats.setDeaths(stats.getDeaths() + 1);
 
         sessionKills = 0; // Reset killstreak
     }
@@ -65,7 +111,12 @@ public class PlayerStatistics {
      */
     public void addAttempt(String arenaId) {
         totalAttempts++;
-        getArenaStats(arenaId).setAttempts(getArenaStatistics(arenaId).getAttempts()+1);
+        ArenaStats stats = getArenaStats(arenaId);
+        stats.setAttempts(stats.getAttempts() + 1);
+
+        for (StatWindow window : StatWindow.values()) {
+            getCurrentWindow(window).attempts++;
+        }
     }
 
     /**
@@ -86,7 +137,7 @@ public class PlayerStatistics {
         }
         ArenaStats stats = getArenaStats(arenaId);
         // Update arena stats
-        stats.setCompletions(stats.completions++);
+        stats.setCompletions(stats.getCompletions() + 1);
         if (stats.fastestCompletion == 0 || duration < stats.fastestCompletion) {
             stats.setFastestCompletion(duration);
         }
@@ -94,6 +145,14 @@ public class PlayerStatistics {
         if(stats.getHighestWave() < wavesCompleted) {
             stats.setHighestWave(wavesCompleted);
         }
+
+        for (StatWindow window : StatWindow.values()) {
+            WindowStats current = getCurrentWindow(window);
+            current.completions++;
+            if (current.fastestCompletion == 0 || duration < current.fastestCompletion) {
+                current.fastestCompletion = duration;
+            }
+        }
     }
 
     /**
@@ -119,7 +178,8 @@ public class PlayerStatistics {
             long duration = (System.currentTimeMillis() - sessionStart) / 1000;
             addPlaytime(duration);
 
-            getArenaStatistics(arenaId).setPlayTime(getArenaStatistics(arenaId).getPlayTime()+duration);
+            ArenaStats stats = getArenaStats(arenaId);
+            stats.setPlayTime(stats.getPlayTime() + duration);
             sessionStart = 0;
         }
     }
@@ -131,6 +191,43 @@ public class PlayerStatistics {
         return arenaStats.computeIfAbsent(arenaId, k -> new ArenaStats());
     }
 
+    /**
+     * Gets the window statistics for the current period
+     * Resets the counters when the window has rolled over
+     */
+    private WindowStats getCurrentWindow(StatWindow window) {
+        long period = window.getCurrentPeriod();
+        WindowStats stats = windowStats.get(window);
+
+        if (stats == null || stats.period != period) {
+            stats = new WindowStats(period);
+            windowStats.put(window, stats);
+        }
+
+        return stats;
+    }
+
+    /**
+     * Gets window statistics if they belong to the given period
+     *
+     * @return Statistics or null if the player was not active in that period
+     */
+    public WindowStats getWindowStatistics(StatWindow window, long period) {
+        WindowStats stats = windowStats.get(window);
+        return stats != null && stats.period == period ? stats : null;
+    }
+
+    /**
+     * Gets the stored window statistics, whatever their period
+     */
+    public WindowStats getStoredWindowStatistics(StatWindow window) {
+        return windowStats.get(window);
+    }
+
+    public void setWindowStats(StatWindow window, WindowStats stats) {
+        windowStats.put(window, stats);
+    }
+
     /**
      * Gets arena-specific statistics
      */
@@ -208,6 +305,38 @@ public class PlayerStatistics {
 
 
 
+    public int getTotalAssists() {
+        return totalAssists;
+    }
+
+    public void setTotalAssists(int assists) {
+        this.totalAssists = assists;
+    }
+
+    public double getTotalDamage() {
+        return totalDamage;
+    }
+
+    public void setTotalDamage(double damage) {
+        this.totalDamage = damage;
+    }
+
+    public int getLootRolls() {
+        return lootRolls;
+    }
+
+    public void setLootRolls(int rolls) {
+        this.lootRolls = rolls;
+    }
+
+    public int getLootDrops(LootRarity rarity) {
+        return lootDrops[rarity.ordinal()];
+    }
+
+    public void setLootDrops(LootRarity rarity, int drops) {
+        lootDrops[rarity.ordinal()] = drops;
+    }
+
     public int getSessionKills() {
         return sessionKills;
     }
@@ -327,6 +456,54 @@ public class PlayerStatistics {
 
     }
 
+    /**
+     * Counters for a single period of a time window
+     */
+    public static class WindowStats {
+        private final long period;
+        private int kills;
+        private int completions;
+        private int attempts;
+        private long fastestCompletion;
+
+        public WindowStats(long period) {
+            this.period = period;
+        }
+
+        public WindowStats(long period, int kills, int completions, int attempts, long fastestCompletion) {
+            this.period = period;
+            this.kills = kills;
+            this.completions = completions;
+            this.attempts = attempts;
+            this.fastestCompletion = fastestCompletion;
+        }
+
+        public double getWinRate() {
+            if (attempts == 0) return 0.0;
+            return (double) completions / attempts * 100.0;
+        }
+
+        public long getPeriod() {
+            return period;
+        }
+
+        public int getKills() {
+            return kills;
+        }
+
+        public int getCompletions() {
+            return completions;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public long getFastestCompletion() {
+            return fastestCompletion;
+        }
+    }
+
     @Override
     public String toString() {
         return "PlayerStatistics{" +
@@ -0,0 +1,59 @@
+package me.bixgamer707.hordes.statistics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Rolling time windows tracked for leaderboards
+ * Each window is identified by a period number that changes
+ * when the window rolls over (server time zone)
+ */
+public enum StatWindow {
+
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Gets the period number for a date
+     */
+    public long getPeriod(LocalDate date) {
+        switch (this) {
+            case DAILY:
+                return date.toEpochDay();
+            case WEEKLY:
+                return date.with(DayOfWeek.MONDAY).toEpochDay();
+            case MONTHLY:
+            default:
+                return date.getYear() * 12L + date.getMonthValue() - 1;
+        }
+    }
+
+    /**
+     * Gets the current period number
+     */
+    public long getCurrentPeriod() {
+        return getPeriod(LocalDate.now());
+    }
+
+    /**
+     * Gets the config/storage key
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Parses a window from its key
+     *
+     * @return Window or null if unknown
+     */
+    public static StatWindow fromKey(String key) {
+        for (StatWindow window : values()) {
+            if (window.getKey().equalsIgnoreCase(key)) {
+                return window;
+            }
+        }
+        return null;
+    }
+}
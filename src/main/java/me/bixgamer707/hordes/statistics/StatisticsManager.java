@@ -2,6 +2,9 @@ package me.bixgamer707.hordes.statistics;
 
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.leaderboard.LeaderboardCategory;
+import me.bixgamer707.hordes.leaderboard.LeaderboardScope;
+import me.bixgamer707.hordes.loot.LootRarity;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
@@ -109,6 +112,8 @@ public class StatisticsManager {
         int highestWave = section.getInt("highest-wave", 0);
         long fastestCompletion = section.getLong("fastest-completion", 0);
         int longestKillstreak = section.getInt("longest-killstreak", 0);
+        int assists = section.getInt("assists", 0);
+        double damage = section.getDouble("damage-dealt", 0);
 
 
         stats.setTotalKills(kills);
@@ -119,6 +124,18 @@ public class StatisticsManager {
         stats.setHighestWave(highestWave);
         stats.setFastestCompletion(fastestCompletion);
         stats.setLongestKillstreak(longestKillstreak);
+        stats.setTotalAssists(assists);
+        stats.setTotalDamage(damage);
+
+        // Load loot stats
+        ConfigurationSection lootSection = section.getConfigurationSection("loot");
+
+        if (lootSection != null) {
+            stats.setLootRolls(lootSection.getInt("rolls", 0));
+            for (LootRarity rarity : LootRarity.values()) {
+                stats.setLootDrops(rarity, lootSection.getInt(rarity.getKey(), 0));
+            }
+        }
 
         // Load arena-specific stats
 
@@ -154,6 +171,26 @@ public class StatisticsManager {
             }
         }
 
+        // Load time window stats
+        ConfigurationSection windowsSection = section.getConfigurationSection("windows");
+
+        if (windowsSection != null) {
+            for (String key : windowsSection.getKeys(false)) {
+                StatWindow window = StatWindow.fromKey(key);
+                ConfigurationSection windowSection = windowsSection.getConfigurationSection(key);
+                if (window == null || windowSection == null) {
+                    continue;
+                }
+
+                stats.setWindowStats(window, new PlayerStatistics.WindowStats(
+                        windowSection.getLong("period"),
+                        windowSection.getInt("kills", 0),
+                        windowSection.getInt("completions", 0),
+                        windowSection.getInt("attempts", 0),
+                        windowSection.getLong("fastest-completion", 0)));
+            }
+        }
+
         return stats;
     }
 
@@ -195,9 +232,18 @@ public class StatisticsManager {
         statsConfig.set(path + ".highest-wave", stats.getHighestWave());
         statsConfig.set(path + ".fastest-completion", stats.getFastestCompletion());
         statsConfig.set(path + ".longest-killstreak", stats.getLongestKillstreak());
+        statsConfig.set(path + ".assists", stats.getTotalAssists());
+        statsConfig.set(path + ".damage-dealt", stats.getTotalDamage());
         statsConfig.set(path + ".win-rate", stats.getWinRate());
         statsConfig.set(path + ".kd-ratio", stats.getKDRatio());
 
+        if (stats.getLootRolls() > 0) {
+            statsConfig.set(path + ".loot.rolls", stats.getLootRolls());
+            for (LootRarity rarity : LootRarity.values()) {
+                statsConfig.set(path + ".loot." + rarity.getKey(), stats.getLootDrops(rarity));
+            }
+        }
+
         for(Arena arena : plugin.getArenaManager().getArenas().values()){
 
             PlayerStatistics.ArenaStats arenaStats = stats.getArenaStatistics(arena.getId());
@@ -213,6 +259,20 @@ public class StatisticsManager {
 
         }
 
+        for (StatWindow window : StatWindow.values()) {
+            PlayerStatistics.WindowStats windowStats = stats.getStoredWindowStatistics(window);
+            if (windowStats == null) {
+                continue;
+            }
+
+            String windowPath = path + ".windows." + window.getKey();
+            statsConfig.set(windowPath + ".period", windowStats.getPeriod());
+            statsConfig.set(windowPath + ".kills", windowStats.getKills());
+            statsConfig.set(windowPath + ".completions", windowStats.getCompletions());
+            statsConfig.set(windowPath + ".attempts", windowStats.getAttempts());
+            statsConfig.set(windowPath + ".fastest-completion", windowStats.getFastestCompletion());
+        }
+
     }
 
     /**
@@ -239,42 +299,73 @@ public class StatisticsManager {
 
     /**
      * Marks a player's statistics as dirty (needs saving)
+     * Also moves the player in the leaderboard indexes
      */
     public void markDirty(UUID uuid) {
         if (enabled) {
             dirtyPlayers.add(uuid);
+
+            PlayerStatistics stats = cache.get(uuid);
+            if (stats != null && plugin.getLeaderboardManager() != null) {
+                plugin.getLeaderboardManager().update(stats);
+            }
+        }
+    }
+
+    /**
+     * Records a loot table roll for a tracked player
+     * Loot has no leaderboard, so only the save is scheduled
+     *
+     * @param rarity Rarity of the drop, or null if the roll dropped nothing
+     */
+    public void recordLoot(UUID uuid, LootRarity rarity) {
+        if (!enabled) return;
+
+        PlayerStatistics stats = cache.get(uuid);
+        if (stats != null) {
+            stats.addLootRoll(rarity);
+            dirtyPlayers.add(uuid);
         }
     }
 
+    /**
+     * Gets cached statistics without creating them
+     *
+     * @return Statistics or null
+     */
+    public PlayerStatistics getCachedStatistics(UUID uuid) {
+        return cache.get(uuid);
+    }
+
+    /**
+     * Gets all cached statistics (read-only view)
+     */
+    public Collection<PlayerStatistics> getAllStatistics() {
+        return Collections.unmodifiableCollection(cache.values());
+    }
+
     /**
      * Gets top players by completions
      */
     public List<PlayerStatistics> getTopByCompletions(int limit) {
-        return cache.values().stream()
-                .sorted((a, b) -> Integer.compare(b.getTotalCompletions(), a.getTotalCompletions()))
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toList());
+        return plugin.getLeaderboardManager().getRange(LeaderboardCategory.COMPLETIONS,
+                LeaderboardScope.GLOBAL, 0, limit);
     }
 
     /**
      * Gets top players by kills
      */
     public List<PlayerStatistics> getTopByKills(int limit) {
-        return cache.values().stream()
-                .sorted((a, b) -> Integer.compare(b.getTotalKills(), a.getTotalKills()))
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toList());
+        return plugin.getLeaderboardManager().getRange(LeaderboardCategory.KILLS,
+                LeaderboardScope.GLOBAL, 0, limit);
     }
 
     /**
      * Gets top players by fastest completion
      */
     public List<PlayerStatistics> getTopBySpeed(int limit) {
-        return cache.values().stream()
-                .filter(s -> s.getFastestCompletion() > 0)
-                .sorted((a, b) -> Long.compare(a.getFastestCompletion(), b.getFastestCompletion()))
-                .limit(limit)
-                .collect(java.util.stream.Collectors.toList());
+        return plugin.getLeaderboardManager().getRange(LeaderboardCategory.SPEED,
+                LeaderboardScope.GLOBAL, 0, limit);
     }
 
     /**
@@ -286,6 +377,10 @@ public class StatisticsManager {
         dirtyPlayers.clear();
         checkEnabled();
         load();
+
+        if (plugin.getLeaderboardManager() != null) {
+            plugin.getLeaderboardManager().invalidate();
+        }
     }
 
     /**
@@ -0,0 +1,105 @@
+package me.bixgamer707.hordes.wave;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaState;
+import me.bixgamer707.hordes.arena.region.RegionShape;
+import org.bukkit.Location;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Keeps wave mobs inside their arena
+ *
+ * Bounds come from the arena's box in arenas.yml or its WorldGuard
+ * region. Every tick a slice of each running wave is tested with plain
+ * block comparisons, and mobs outside are sent back to a spawn point
+ */
+public class ArenaLeash {
+
+    private final Hordes plugin;
+
+    // Reused for every entity position read
+    private final Location scratch;
+
+    private BukkitTask task;
+
+    // Settings
+    private boolean enabled;
+    private int cycleTicks;
+
+    public ArenaLeash(Hordes plugin) {
+        this.plugin = plugin;
+        this.scratch = new Location(null, 0, 0, 0);
+
+        loadConfiguration();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        enabled = plugin.getFileManager().getConfig().getBoolean("leash.enabled", true);
+        cycleTicks = Math.max(1, plugin.getFileManager().getConfig().getInt("leash.cycle-ticks", 20));
+    }
+
+    /**
+     * Starts the leash checks
+     */
+    public void start() {
+        if (task != null || !enabled) {
+            return;
+        }
+
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Checks a slice of every running wave
+     */
+    private void tick() {
+        for (Arena arena : plugin.getArenaManager().getArenas().values()) {
+            if (arena.getState() != ArenaState.ACTIVE) {
+                continue;
+            }
+
+            Wave wave = arena.getCurrentWave();
+            if (wave == null || !wave.isActive()) {
+                continue;
+            }
+
+            RegionShape bounds = arena.getLeashBounds();
+            if (bounds != null) {
+                wave.leash(cycleTicks, bounds, scratch);
+            }
+        }
+    }
+
+    /**
+     * Reloads settings and restarts the task
+     */
+    public void reload() {
+        cleanup();
+        loadConfiguration();
+        start();
+    }
+
+    /**
+     * Stops the leash checks
+     */
+    public void cleanup() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,295 @@
+package me.bixgamer707.hordes.wave;
+
+import me.bixgamer707.hordes.Hordes;
+import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.ArenaState;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.UUID;
+
+/**
+ * Keeps wave mob counts in line with the world
+ *
+ * Arena mobs carry their arena in persistent data. Removal events settle
+ * mobs that vanish without dying, and a low-frequency pass checks a
+ * bounded slice of each wave's live mobs against the entity index,
+ * handling mobs that are gone or stuck out of reach
+ */
+public class MobReconciler {
+
+    /**
+     * What happens to a mob that is stuck out of reach
+     */
+    public enum StuckPolicy {
+        /**
+         * Replace it with a fresh mob at a spawn point
+         */
+        RESPAWN,
+
+        /**
+         * Remove it and count it as gone
+         */
+        CULL
+    }
+
+    private final Hordes plugin;
+    private final NamespacedKey arenaKey;
+
+    private BukkitTask task;
+
+    // Settings
+    private int intervalTicks;
+    private int mobsPerPass;
+    private double maxDistanceSquared;
+    private StuckPolicy stuckPolicy;
+
+    public MobReconciler(Hordes plugin) {
+        this.plugin = plugin;
+        this.arenaKey = new NamespacedKey(plugin, "mob_arena");
+
+        loadConfiguration();
+    }
+
+    /**
+     * Loads settings from config.yml
+     */
+    private void loadConfiguration() {
+        intervalTicks = Math.max(1, plugin.getFileManager().getConfig()
+                .getInt("mob-reconciliation.interval-seconds", 5)) * 20;
+        mobsPerPass = Math.max(1, plugin.getFileManager().getConfig()
+                .getInt("mob-reconciliation.mobs-per-pass", 16));
+
+        double maxDistance = plugin.getFileManager().getConfig()
+                .getDouble("mob-reconciliation.max-distance", 96);
+        maxDistanceSquared = maxDistance > 0 ? maxDistance * maxDistance : Double.MAX_VALUE;
+
+        String policy = plugin.getFileManager().getConfig()
+                .getString("mob-reconciliation.stuck-policy", "RESPAWN");
+        try {
+            stuckPolicy = StuckPolicy.valueOf(policy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.logWarning("Invalid mob-reconciliation.stuck-policy: " + policy);
+            stuckPolicy = StuckPolicy.RESPAWN;
+        }
+    }
+
+    /**
+     * Starts the reconciliation pass
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                reconcile();
+            }
+        }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Checks a slice of every running wave
+     */
+    private void reconcile() {
+        for (Arena arena : plugin.getArenaManager().getArenas().values()) {
+            if (arena.getState() != ArenaState.ACTIVE) {
+                continue;
+            }
+
+            Wave wave = arena.getCurrentWave();
+            if (wave != null && wave.isActive()) {
+                wave.reconcile(mobsPerPass, this);
+            }
+        }
+    }
+
+    /**
+     * Tags a spawned mob with its arena
+     */
+    public void tag(Entity entity, Arena arena) {
+        entity.getPersistentDataContainer().set(arenaKey, PersistentDataType.STRING, arena.getId());
+    }
+
+    /**
+     * Gets the arena a mob was spawned for
+     *
+     * @return Arena ID or null if not an arena mob
+     */
+    public String getArenaId(Entity entity) {
+        return entity.getPersistentDataContainer().get(arenaKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Called when an entity leaves its world
+     * Dead mobs that never fired a death event are counted as gone,
+     * unloaded mobs are handled by the stuck policy
+     *
+     * The entity is already marked as removed here whether it died or was
+     * unloaded, so isDead() can't tell them apart. A mob with health left
+     * counts as gone only if its chunk is still loaded a tick later
+     */
+    public void onRemoved(Entity entity) {
+        Wave wave = getTrackingWave(entity);
+        if (wave == null) {
+            return;
+        }
+
+        UUID uuid = entity.getUniqueId();
+        Location location = entity.getLocation();
+        boolean died = entity instanceof LivingEntity && ((LivingEntity) entity).getHealth() <= 0;
+
+        // Not safe to spawn a replacement while the chunk is unloading
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!wave.isMobFromWave(uuid)) {
+                return;
+            }
+
+            if (died || isChunkLoaded(location)) {
+                wave.onMobLost(uuid);
+            } else {
+                // Chunk unloaded; the entity comes back untracked and is removed then
+                handleStuck(wave, uuid, null);
+            }
+        });
+    }
+
+    private static boolean isChunkLoaded(Location location) {
+        return location.getWorld() != null
+                && location.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Called when an entity enters a world
+     * Removes arena mobs that no wave tracks any more (unloaded, restarts)
+     */
+    public void onAdded(Entity entity) {
+        String arenaId = getArenaId(entity);
+        if (arenaId == null) {
+            return;
+        }
+
+        Wave wave = getTrackingWave(entity);
+        if (wave != null) {
+            return;
+        }
+
+        // Not safe to remove while the entity is being added
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                entity.remove();
+            }
+        });
+    }
+
+    /**
+     * Gets the running wave that tracks a mob
+     */
+    private Wave getTrackingWave(Entity entity) {
+        String arenaId = getArenaId(entity);
+        if (arenaId == null) {
+            return null;
+        }
+
+        Arena arena = plugin.getArenaManager().getArena(arenaId);
+        if (arena == null) {
+            return null;
+        }
+
+        Wave wave = arena.getCurrentWave();
+        return wave != null && wave.isMobFromWave(entity.getUniqueId()) ? wave : null;
+    }
+
+    /**
+     * Checks one tracked mob during a pass
+     *
+     * @return False if the mob is no longer tracked
+     */
+    boolean check(Wave wave, Arena arena, UUID uuid) {
+        Entity entity = Bukkit.getEntity(uuid);
+
+        if (entity == null || entity.isDead()) {
+            wave.onMobLost(uuid);
+            return false;
+        }
+
+        if (isOutOfReach(entity, arena)) {
+            handleStuck(wave, uuid, entity);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a mob left the arena for good
+     */
+    private boolean isOutOfReach(Entity entity, Arena arena) {
+        Location location = entity.getLocation();
+        Location spawn = arena.getConfig().getArenaSpawn();
+
+        if (location.getWorld() == null || !location.getWorld().equals(spawn.getWorld())) {
+            return true;
+        }
+
+        if (location.getY() < location.getWorld().getMinHeight()) {
+            return true;
+        }
+
+        return location.distanceSquared(spawn) > maxDistanceSquared;
+    }
+
+    /**
+     * Applies the stuck policy
+     *
+     * @param entity Live entity to remove, or null if already gone
+     */
+    private void handleStuck(Wave wave, UUID uuid, Entity entity) {
+        if (plugin.getFileManager().getConfig().getBoolean("debug-mode", false)) {
+            plugin.logInfo("Mob " + uuid + " of wave " + wave.getWaveNumber() + " is out of reach ("
+                    + stuckPolicy.name().toLowerCase() + ")");
+        }
+
+        // Forget the mob first so its removal event is ignored
+        if (stuckPolicy == StuckPolicy.RESPAWN) {
+            wave.respawnMob(uuid);
+        } else {
+            wave.onMobLost(uuid);
+        }
+
+        if (entity != null && entity.isValid()) {
+            entity.remove();
+        }
+    }
+
+    /**
+     * Reloads settings and restarts the pass
+     */
+    public void reload() {
+        loadConfiguration();
+
+        if (task != null) {
+            task.cancel();
+            task = null;
+            start();
+        }
+    }
+
+    /**
+     * Stops the reconciliation pass
+     */
+    public void cleanup() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package me.bixgamer707.hordes.wave;
 
 import me.bixgamer707.hordes.arena.Arena;
+import me.bixgamer707.hordes.arena.region.RegionShape;
 import me.bixgamer707.hordes.mob.HordeMob;
 import me.bixgamer707.hordes.mob.MobType;
 import me.bixgamer707.hordes.text.Text;
@@ -28,9 +29,19 @@ public class Wave {
 
     // Mob tracking
     private final List<HordeMob> mobsToSpawn;
-    private final Set<UUID> spawnedMobs;
+    private final Map<UUID, HordeMob> spawnedMobs; // MobUUID -> config it was spawned from
     private int mobsAlive;
     private final int totalMobs;
+    
+    // Mobs left to check in the current reconciliation round
+    private final Deque<UUID> reconcileQueue;
+    
+    // MobUUID -> entity, for the leash checks
+    private final Map<UUID, Entity> mobEntities;
+    
+    // Mobs left to check in the current leash cycle
+    private final Deque<UUID> leashQueue;
+    private int leashCorrections;
 
     // State
     private WaveState state;
@@ -43,7 +54,10 @@ public class Wave {
         this.config = config;
 
         this.mobsToSpawn = new ArrayList<>(config.getMobs());
-        this.spawnedMobs = new HashSet<>();
+        this.spawnedMobs = new HashMap<>();
+        this.reconcileQueue = new ArrayDeque<>();
+        this.mobEntities = new HashMap<>();
+        this.leashQueue = new ArrayDeque<>();
         this.totalMobs = mobsToSpawn.size();
         this.mobsAlive = 0;
 
@@ -86,6 +100,9 @@ public class Wave {
                     cancel();
                     state = WaveState.ACTIVE;
                     arena.broadcastMessage("arena.all-spawned", waveNumber);
+                    
+                    // Every mob may already be gone (or failed to spawn)
+                    checkCompletion();
                     return;
                 }
 
@@ -106,12 +123,12 @@ public class Wave {
     /**
      * Spawns a single mob
      */
-    private void spawnMob(HordeMob mobConfig) {
+    private boolean spawnMob(HordeMob mobConfig) {
         Location spawnLocation = getRandomSpawnLocation();
 
         if (spawnLocation == null) {
             arena.getPlugin().logWarning("No spawn location found for wave " + waveNumber);
-            return;
+            return false;
         }
 
         Entity entity = null;
@@ -133,7 +150,7 @@ public class Wave {
 
         if (entity == null) {
             arena.getPlugin().logWarning("Failed to spawn mob: " + mobConfig.getId());
-            return;
+            return false;
         }
 
         // Apply damage multiplier if vanilla
@@ -152,6 +169,7 @@ public class Wave {
                 new FixedMetadataValue(arena.getPlugin(), waveNumber));
         entity.setMetadata("hordes_mob_id",
                 new FixedMetadataValue(arena.getPlugin(), mobConfig.getId()));
+        arena.getPlugin().getMobReconciler().tag(entity, arena);
 
         // Apply custom name if configured
         if (mobConfig.getCustomName() != null) {
@@ -166,8 +184,13 @@ public class Wave {
         }
 
         // Track the mob
-        spawnedMobs.add(entity.getUniqueId());
+        spawnedMobs.put(entity.getUniqueId(), mobConfig);
+        mobEntities.put(entity.getUniqueId(), entity);
+        arena.getDamageLedger().registerMob(entity.getUniqueId());
         mobsAlive++;
+
+        arena.markDirty();
+        return true;
     }
 
     /**
@@ -193,18 +216,154 @@ public class Wave {
      */
     public void onMobDeath(UUID mobUuid) {
         // Check if this mob belongs to this wave
-        if (!spawnedMobs.contains(mobUuid)) {
+        if (!isActive() || spawnedMobs.remove(mobUuid) == null) {
             return;
         }
+        
+        mobEntities.remove(mobUuid);
 
         mobsAlive--;
 
+        // Live displays pick this up on the next tick
+        arena.markDirty();
+
         // Broadcast progress at intervals
         if (mobsAlive > 0 && (mobsAlive % 5 == 0 || mobsAlive <= 3)) {
             arena.broadcastMessage("arena.progress", mobsAlive, totalMobs);
         }
 
-        // Check for completion
+        checkCompletion();
+    }
+
+    /**
+     * Called when a mob is gone without dying (removed by another plugin,
+     * missing from the world, culled)
+     * Counts toward completion without crediting anyone
+     *
+     * @param mobUuid UUID of the lost mob
+     */
+    public void onMobLost(UUID mobUuid) {
+        if (!spawnedMobs.containsKey(mobUuid)) {
+            return;
+        }
+
+        arena.getDamageLedger().forgetMob(mobUuid);
+        onMobDeath(mobUuid);
+    }
+
+    /**
+     * Replaces a mob with a fresh one of the same kind at a spawn point
+     *
+     * @param mobUuid UUID of the mob to replace
+     */
+    public void respawnMob(UUID mobUuid) {
+        if (!isActive()) {
+            return;
+        }
+
+        HordeMob mobConfig = spawnedMobs.remove(mobUuid);
+        if (mobConfig == null) {
+            return;
+        }
+        
+        mobEntities.remove(mobUuid);
+
+        mobsAlive--;
+        arena.getDamageLedger().forgetMob(mobUuid);
+
+        if (!spawnMob(mobConfig)) {
+            arena.markDirty();
+            checkCompletion();
+        }
+    }
+
+    /**
+     * Checks up to a number of live mobs against the world
+     * Walks the whole live set over consecutive passes
+     *
+     * @param limit Max mobs to check in this pass
+     */
+    void reconcile(int limit, MobReconciler reconciler) {
+        if (reconcileQueue.isEmpty()) {
+            reconcileQueue.addAll(spawnedMobs.keySet());
+        }
+
+        for (int i = 0; i < limit && !reconcileQueue.isEmpty() && isActive(); i++) {
+            UUID uuid = reconcileQueue.poll();
+            if (spawnedMobs.containsKey(uuid)) {
+                reconciler.check(this, arena, uuid);
+            }
+        }
+    }
+
+    /**
+     * Sends mobs that left the bounds back to the nearest spawn point
+     * Each call checks a slice of the live mobs so the whole set is
+     * covered once per cycle
+     *
+     * @param cycleTicks Ticks to cover every mob once
+     * @param bounds Area mobs must stay in
+     * @param scratch Reusable location, overwritten
+     */
+    void leash(int cycleTicks, RegionShape bounds, Location scratch) {
+        if (leashQueue.isEmpty()) {
+            leashQueue.addAll(mobEntities.keySet());
+        }
+
+        int limit = (mobEntities.size() + cycleTicks - 1) / cycleTicks;
+
+        for (int i = 0; i < limit && !leashQueue.isEmpty(); i++) {
+            Entity entity = mobEntities.get(leashQueue.poll());
+            if (entity == null || !entity.isValid()) {
+                // Gone mobs are settled by the reconciler
+                continue;
+            }
+
+            entity.getLocation(scratch);
+            if (bounds.contains(scratch.getBlockX(), scratch.getBlockY(), scratch.getBlockZ())) {
+                continue;
+            }
+
+            Location target = getNearestSpawnLocation(scratch);
+            if (target != null) {
+                entity.teleport(target);
+                leashCorrections++;
+            }
+        }
+    }
+
+    /**
+     * Gets the spawn point closest to a location
+     */
+    private Location getNearestSpawnLocation(Location location) {
+        List<Location> spawnPoints = config.getSpawnLocations();
+
+        if (spawnPoints == null || spawnPoints.isEmpty()) {
+            return arena.getConfig().getArenaSpawn();
+        }
+
+        Location nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+
+        for (Location point : spawnPoints) {
+            if (point.getWorld() != location.getWorld()) {
+                continue;
+            }
+
+            double distance = point.distanceSquared(location);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = point;
+            }
+        }
+
+        return nearest != null ? nearest : spawnPoints.get(0);
+    }
+
+    /**
+     * Completes the wave once every mob is gone and spawning finished
+     */
+    private void checkCompletion() {
         if (mobsAlive <= 0 && state == WaveState.ACTIVE) {
             complete();
         }
@@ -243,7 +402,7 @@ public class Wave {
         }
 
         // Remove all spawned mobs
-        for (UUID mobUuid : new HashSet<>(spawnedMobs)) {
+        for (UUID mobUuid : new HashSet<>(spawnedMobs.keySet())) {
             Entity entity = Bukkit.getEntity(mobUuid);
             if (entity != null && entity.isValid()) {
                 entity.remove();
@@ -251,6 +410,9 @@ public class Wave {
         }
 
         spawnedMobs.clear();
+        reconcileQueue.clear();
+        mobEntities.clear();
+        leashQueue.clear();
         mobsAlive = 0;
     }
 
@@ -261,7 +423,7 @@ public class Wave {
      * @return true if mob is from this wave
      */
     public boolean isMobFromWave(UUID mobUuid) {
-        return spawnedMobs.contains(mobUuid);
+        return spawnedMobs.containsKey(mobUuid);
     }
 
     /**
@@ -270,8 +432,8 @@ public class Wave {
      * @return Debug string
      */
     public String getDebugInfo() {
-        return String.format("Wave %d | State: %s | Alive: %d/%d | Spawned: %d",
-                waveNumber, state.name(), mobsAlive, totalMobs, spawnedMobs.size());
+        return String.format("Wave %d | State: %s | Alive: %d/%d | Spawned: %d | Leashed: %d",
+                waveNumber, state.name(), mobsAlive, totalMobs, spawnedMobs.size(), leashCorrections);
     }
 
     // Getters
@@ -292,8 +454,12 @@ public class Wave {
         return totalMobs;
     }
 
+    public int getLeashCorrections() {
+        return leashCorrections;
+    }
+
     public Set<UUID> getSpawnedMobs() {
-        return new HashSet<>(spawnedMobs);
+        return new HashSet<>(spawnedMobs.keySet());
     }
 
     public boolean isActive() {
@@ -1,5 +1,6 @@
 package me.bixgamer707.hordes.wave;
 
+import me.bixgamer707.hordes.config.LocationSpec;
 import me.bixgamer707.hordes.mob.HordeMob;
 import org.bukkit.Location;
 
@@ -29,6 +30,9 @@ public class WaveConfig {
     // Spawn locations (optional)
     private List<Location> spawnLocations;
     
+    // Spawn locations as parsed, bound to worlds by resolveLocations()
+    private List<LocationSpec> spawnSpecs;
+    
     public WaveConfig(int waveNumber) {
         this.waveNumber = waveNumber;
         this.spawnDelay = 20;
@@ -36,6 +40,24 @@ public class WaveConfig {
         this.manualProgression = false;
         this.mobs = new ArrayList<>();
         this.spawnLocations = new ArrayList<>();
+        this.spawnSpecs = new ArrayList<>();
+    }
+
+    /**
+     * Binds the parsed spawn locations to their worlds
+     * Must be called from the main thread
+     */
+    public void resolveLocations() {
+        List<Location> resolved = new ArrayList<>(spawnSpecs.size());
+
+        for (LocationSpec spec : spawnSpecs) {
+            Location location = spec.resolve();
+            if (location != null) {
+                resolved.add(location);
+            }
+        }
+
+        this.spawnLocations = resolved;
     }
 
     /**
@@ -154,6 +176,10 @@ public class WaveConfig {
         this.spawnLocations = spawnLocations != null ? new ArrayList<>(spawnLocations) : new ArrayList<>();
     }
 
+    public void setSpawnSpecs(List<LocationSpec> spawnSpecs) {
+        this.spawnSpecs = spawnSpecs != null ? new ArrayList<>(spawnSpecs) : new ArrayList<>();
+    }
+
     @Override
     public String toString() {
         return "WaveConfig{" +
@@ -3,11 +3,10 @@ package me.bixgamer707.hordes.wave;
 import me.bixgamer707.hordes.Hordes;
 import me.bixgamer707.hordes.arena.Arena;
 import me.bixgamer707.hordes.config.ArenaConfig;
-import me.bixgamer707.hordes.file.File;
+import me.bixgamer707.hordes.config.LocationSpec;
 import me.bixgamer707.hordes.mob.HordeMob;
 import me.bixgamer707.hordes.mob.MobType;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.ArrayList;
@@ -34,50 +33,83 @@ public class WaveManager {
     private boolean loaded;
 
     public WaveManager(Arena arena, ArenaConfig arenaConfig) {
+        this(arena, arenaConfig, null);
+    }
+
+    /**
+     * @param parsedWaves Waves from parseWaves, or null to parse them now
+     */
+    public WaveManager(Arena arena, ArenaConfig arenaConfig, Map<Integer, WaveConfig> parsedWaves) {
         this.arena = arena;
         this.arenaConfig = arenaConfig;
         this.plugin = arena.getPlugin();
         this.waveConfigs = new HashMap<>();
         this.loaded = false;
 
-        loadWaveConfigs();
+        if (parsedWaves != null) {
+            install(parsedWaves);
+        } else {
+            loadWaveConfigs();
+        }
     }
 
     /**
-     * Loads all wave configurations from mobs.yml
+     * Loads all wave configurations from mobs.yml (templates applied)
      * Caches results for performance
      */
     private void loadWaveConfigs() {
-        File mobsFile = plugin.getFileManager().getMobs();
         String arenaId = arena.getId();
 
-        ConfigurationSection arenaSection = mobsFile.getConfigurationSection(arenaId);
+        install(parseWaves(arenaId, arenaConfig.getTotalWaves(), plugin.getArenaManager().getWaveSection(arenaId)));
+    }
 
+    /**
+     * Binds parsed waves to their worlds and caches them
+     */
+    private void install(Map<Integer, WaveConfig> parsedWaves) {
+        for (WaveConfig config : parsedWaves.values()) {
+            config.resolveLocations();
+        }
+
+        waveConfigs.putAll(parsedWaves);
+        loaded = !parsedWaves.isEmpty();
+    }
+
+    /**
+     * Parses the waves of an arena from its mobs.yml section
+     * Safe off the main thread; worlds are bound when the WaveManager is built
+     *
+     * @param arenaId Arena identifier
+     * @param maxWaves Waves configured for the arena
+     * @param arenaSection The arena's mobs.yml section, may be null
+     * @return WaveNumber -> WaveConfig, empty if the arena has no mob configuration
+     */
+    public static Map<Integer, WaveConfig> parseWaves(String arenaId, int maxWaves, ConfigurationSection arenaSection) {
         if (arenaSection == null) {
             Bukkit.getLogger().warning("[Hordes] No mob configuration found for arena: " + arenaId);
-            return;
+            return new HashMap<>();
         }
 
-        int maxWaves = arenaConfig.getTotalWaves();
+        Map<Integer, WaveConfig> waves = new HashMap<>();
         int loadedWaves = 0;
 
         for (int i = 1; i <= maxWaves; i++) {
             WaveConfig config = loadWaveConfig(arenaSection, i);
 
             if (config != null) {
-                waveConfigs.put(i, config);
+                waves.put(i, config);
                 loadedWaves++;
             }
         }
 
-        loaded = true;
-
         if (loadedWaves < maxWaves) {
             Bukkit.getLogger().warning("[Hordes] Arena " + arenaId + " has " + maxWaves +
                     " configured waves but only " + loadedWaves + " mob configurations");
         } else {
             Bukkit.getLogger().info("[Hordes] Loaded " + loadedWaves + " waves for arena " + arenaId);
         }
+
+        return waves;
     }
 
     /**
@@ -87,7 +119,7 @@ public class WaveManager {
      * @param waveNumber Wave number to load
      * @return WaveConfig or null if not found
      */
-    private WaveConfig loadWaveConfig(ConfigurationSection arenaSection, int waveNumber) {
+    private static WaveConfig loadWaveConfig(ConfigurationSection arenaSection, int waveNumber) {
         // Try "wave-X" format first
         String wavePath = "wave-" + waveNumber;
         ConfigurationSection waveSection = arenaSection.getConfigurationSection(wavePath);
@@ -109,8 +141,7 @@ public class WaveManager {
         config.setMobsPerSpawn(waveSection.getInt("mobs-per-spawn", 1));
 
         // Load spawn locations
-        List<Location> spawnLocations = loadSpawnLocations(waveSection);
-        config.setSpawnLocations(spawnLocations);
+        config.setSpawnSpecs(loadSpawnLocations(waveSection));
 
         // Load mobs
         List<HordeMob> mobs = loadMobs(waveSection);
@@ -127,10 +158,10 @@ public class WaveManager {
      * Loads spawn locations from configuration
      *
      * @param waveSection Wave configuration section
-     * @return List of spawn locations
+     * @return List of spawn locations, not yet bound to worlds
      */
-    private List<Location> loadSpawnLocations(ConfigurationSection waveSection) {
-        List<Location> locations = new ArrayList<>();
+    private static List<LocationSpec> loadSpawnLocations(ConfigurationSection waveSection) {
+        List<LocationSpec> locations = new ArrayList<>();
 
         if (!waveSection.contains("spawn-locations")) {
             return locations;
@@ -140,7 +171,7 @@ public class WaveManager {
 
         for (Map<?, ?> locMap : locationMaps) {
             try {
-                Location loc = parseLocation(locMap);
+                LocationSpec loc = LocationSpec.of(locMap);
                 if (loc != null) {
                     locations.add(loc);
                 }
@@ -152,41 +183,13 @@ public class WaveManager {
         return locations;
     }
 
-    /**
-     * Parses a location from a map
-     *
-     * @param locMap Location map
-     * @return Location or null if invalid
-     */
-    private Location parseLocation(Map<?, ?> locMap) {
-        String worldName = (String) locMap.get("world");
-
-        if (worldName == null) {
-            return null;
-        }
-
-        org.bukkit.World world = Bukkit.getWorld(worldName);
-        if (world == null) {
-            Bukkit.getLogger().warning("[Hordes] World not found: " + worldName);
-            return null;
-        }
-
-        double x = getDouble(locMap, "x", 0);
-        double y = getDouble(locMap, "y", 64);
-        double z = getDouble(locMap, "z", 0);
-        float yaw = getFloat(locMap, "yaw", 0);
-        float pitch = getFloat(locMap, "pitch", 0);
-
-        return new Location(world, x, y, z, yaw, pitch);
-    }
-
     /**
      * Loads mobs from configuration
      *
      * @param waveSection Wave configuration section
      * @return List of HordeMobs
      */
-    private List<HordeMob> loadMobs(ConfigurationSection waveSection) {
+    private static List<HordeMob> loadMobs(ConfigurationSection waveSection) {
         List<HordeMob> mobs = new ArrayList<>();
 
         if (!waveSection.contains("mobs")) {
@@ -214,7 +217,7 @@ public class WaveManager {
      * @param mobMap Mob configuration map
      * @return List of HordeMobs (amount may create multiple)
      */
-    private List<HordeMob> parseMob(Map<?, ?> mobMap) {
+    private static List<HordeMob> parseMob(Map<?, ?> mobMap) {
         List<HordeMob> mobs = new ArrayList<>();
 
         // Get type
@@ -328,7 +331,7 @@ public class WaveManager {
 
     // Utility methods for safe type conversion
 
-    private int getInt(Map<?, ?> map, String key, int defaultValue) {
+    private static int getInt(Map<?, ?> map, String key, int defaultValue) {
         Object value = map.get(key);
         if (value instanceof Number) {
             return ((Number) value).intValue();
@@ -336,19 +339,11 @@ public class WaveManager {
         return defaultValue;
     }
 
-    private double getDouble(Map<?, ?> map, String key, double defaultValue) {
+    private static double getDouble(Map<?, ?> map, String key, double defaultValue) {
         Object value = map.get(key);
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
         }
         return defaultValue;
     }
-
-    private float getFloat(Map<?, ?> map, String key, float defaultValue) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).floatValue();
-        }
-        return defaultValue;
-    }
-}
\ No newline at end of file
+}